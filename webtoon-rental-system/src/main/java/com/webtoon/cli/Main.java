@@ -1,5 +1,10 @@
 package com.webtoon.cli;
 
+import com.webtoon.common.repository.JsonRepository;
+import com.webtoon.common.repository.RepositoryWarmUp;
+import com.webtoon.common.repository.StorageEngine;
+import com.webtoon.common.repository.StorageEngines;
+import com.webtoon.domain.Rental;
 import com.webtoon.repository.*;
 import com.webtoon.service.*;
 import com.webtoon.util.DataInitializer;
@@ -7,6 +12,8 @@ import com.webtoon.util.DataInitializer;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 
 public class Main {
     public static void main(String[] args) {
@@ -15,6 +22,9 @@ public class Main {
 
         printWelcomeBanner();
 
+        // 저장 엔진 선택 (리포지토리 생성 전에 지정해야 함)
+        StorageEngines.use(selectStorageEngine(args));
+
         // 리포지토리 초기화
         UserRepository userRepository = new UserRepository();
         JsonWebtoonRepository webtoonRepository = new JsonWebtoonRepository();
@@ -24,11 +34,31 @@ public class Main {
         RentalRepository rentalRepository = new RentalRepository();
         PurchaseRepository purchaseRepository = new PurchaseRepository();
         PaymentHistoryRepository paymentHistoryRepository = new PaymentHistoryRepository();
-        StatisticsRepository statisticsRepository = new InMemoryStatisticsRepository();
+        JsonStatisticsRepository statisticsRepository = new JsonStatisticsRepository();
+        PointLedgerRepository pointLedgerRepository = new PointLedgerRepository();
+
+        // 모든 리포지토리를 병렬로 미리 로드 (시작 시간은 가장 큰 파일 기준)
+        warmUpRepositories(List.of(
+            userRepository,
+            webtoonRepository,
+            episodeRepository,
+            notificationRepository,
+            readerRepository,
+            rentalRepository,
+            purchaseRepository,
+            paymentHistoryRepository,
+            statisticsRepository,
+            pointLedgerRepository
+        ));
 
         // 서비스 초기화
         Clock clock = Clock.systemDefaultZone();
 
+        // 포인트 잔액은 원장 합산으로 만들고, 충전/대여/구매는 원장에 기록만 추가
+        PointLedger pointLedger = new PointLedger(pointLedgerRepository, clock);
+        pointLedger.rebuild();
+        pointLedger.attach(readerRepository);
+
         AuthService authService = new AuthService(userRepository, readerRepository);
         NotificationService notificationService = new NotificationService(notificationRepository);
         StatisticsService statisticsService = new StatisticsService(
@@ -55,12 +85,16 @@ public class Main {
         PointService pointService = new PointService(
             paymentHistoryRepository,
             readerRepository,
-            clock
+            clock,
+            pointLedger
         );
+        EntitlementIndex entitlementIndex = new EntitlementIndex(rentalRepository, purchaseRepository);
         AccessService accessService = new AccessService(
             rentalRepository,
             purchaseRepository, readerRepository,   // 반드시 추가해야 함!
-            clock
+            clock,
+            entitlementIndex,
+            pointLedger
         );
         AuthorService authorService = new AuthorService(
             userRepository,
@@ -78,10 +112,61 @@ public class Main {
             readerRepository,
             rentalRepository,
             purchaseRepository,
-            paymentHistoryRepository
+            paymentHistoryRepository,
+            pointService,
+            accessService
         );
         dataInitializer.initializeData();
 
+        // 통계가 없는 웹툰(첫 실행/통계 파일 유실)은 회차 조회수로 다시 계산해 조회수 정렬을 바로 맞춤
+        int rebuiltStatistics = statisticsService.rebuildMissing(episodeRepository);
+        if (rebuiltStatistics > 0) {
+            System.out.println("웹툰 " + rebuiltStatistics + "개의 통계를 회차 데이터로 다시 계산했습니다.");
+        }
+
+        // 대여는 만료 시각에 EXPIRED로 저장하고, 만료 1분 전에 독자에게 알림
+        RentalExpiryScheduler rentalExpiryScheduler = new RentalExpiryScheduler(
+            rentalRepository,
+            entitlementIndex,
+            clock,
+            Duration.ofMinutes(1)
+        );
+        rentalExpiryScheduler.addListener(new RentalExpiryListener() {
+            @Override
+            public void onExpiringSoon(Rental rental, Duration remaining) {
+                episodeRepository.findById(rental.getEpisodeId()).ifPresent(episode ->
+                    notificationService.createNotification(rental.getReaderId(), episode.getWebtoonId(),
+                        String.format("대여한 '%s' %d화가 %d초 후 만료됩니다.",
+                            episode.getTitle(), episode.getNumber(), remaining.getSeconds())));
+            }
+        });
+        accessService.setExpiryScheduler(rentalExpiryScheduler);
+        int expiredOnStart = rentalExpiryScheduler.start();
+        if (expiredOnStart > 0) {
+            System.out.println("대여 " + expiredOnStart + "건을 만료 처리했습니다.");
+        }
+
+        // 만료 후 하루가 지난 대여는 10분마다 압축 보관 파일로 이동
+        RentalArchiveService rentalArchiveService = new RentalArchiveService(
+            rentalRepository,
+            clock,
+            Duration.ofDays(1)
+        );
+        int archivedOnStart = rentalArchiveService.archiveExpired();
+        if (archivedOnStart > 0) {
+            System.out.println("만료 대여 " + archivedOnStart + "건을 보관 파일로 옮겼습니다.");
+        }
+        rentalArchiveService.start(Duration.ofMinutes(10));
+
+        // 30일이 지났거나 독자별 최신 100건을 넘는 알림은 10분마다 일괄 삭제
+        NotificationRetentionService notificationRetentionService = new NotificationRetentionService(
+            notificationRepository,
+            clock,
+            Duration.ofDays(30),
+            100
+        );
+        notificationRetentionService.start(Duration.ofMinutes(10));
+
         // CLI 메뉴 컨트롤러 실행
         MenuController menuController = new MenuController(
             authService,
@@ -98,10 +183,52 @@ public class Main {
             readerRepository
         );
         menuController.showStartMenu();
+        rentalExpiryScheduler.close();
+        rentalArchiveService.close();
+        notificationRetentionService.close();
+        JsonRepository.releaseIdLeases();
 
         printGoodbyeBanner();
     }
 
+    /**
+     * 저장 엔진 선택
+     * --storage=<memory|file|json|journal|binary|lsm> 인자가 있으면 우선,
+     * 없으면 시스템 프로퍼티 webtoon.storage.engine (기본 file)
+     */
+    private static StorageEngine selectStorageEngine(String[] args) {
+        StorageEngine engine = StorageEngines.configured();
+        for (String arg : args) {
+            if (arg.startsWith("--storage=")) {
+                engine = StorageEngines.fromName(arg.substring("--storage=".length()));
+            }
+        }
+        if (!engine.isDurable()) {
+            System.out.println("[" + engine.getName() + "] 저장 엔진 사용 중 - 종료하면 데이터가 남지 않습니다.");
+            System.out.println();
+        }
+        return engine;
+    }
+
+    /**
+     * 리포지토리 병렬 워밍업 + 리포지토리별 로드 시간/건수 출력
+     * 동시 로드 수는 CPU 코어 수로 제한
+     */
+    private static void warmUpRepositories(List<? extends JsonRepository<?>> repositories) {
+        long start = System.nanoTime();
+        List<RepositoryWarmUp.Result> results = RepositoryWarmUp.run(
+            repositories,
+            Runtime.getRuntime().availableProcessors()
+        );
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+        System.out.println("데이터 로드 완료 (" + elapsedMillis + "ms)");
+        for (RepositoryWarmUp.Result result : results) {
+            System.out.printf("  - %-16s %6d건 %6dms%n", result.name(), result.records(), result.elapsedMillis());
+        }
+        System.out.println();
+    }
+
     /**
      * 콘솔 출력 인코딩을 UTF-8로 설정
      * Windows에서 한글이 깨지는 문제 방지
@@ -290,10 +290,20 @@ public class ReaderMenuController {
             System.out.println();
             InputUtil.printHeader(webtoon.getTitle() + " - 회차 목록");
 
-            for (Episode ep : episodes) {
-                System.out.printf("%d화. %s (조회수: %d, 대여: %dP, 구매: %dP)\n",
+            // 회차별 소장/대여 상태를 한 번에 조회
+            EpisodeAccessStates accessStates = accessService.canAccessAll(latestReader, episodes);
+            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+
+            for (int i = 0; i < episodes.size(); i++) {
+                Episode ep = episodes.get(i);
+                String status = switch (accessStates.getState(i)) {
+                    case PURCHASED -> " [소장]";
+                    case RENTED -> " [대여 중 ~" + accessStates.getRentedUntil(i).format(timeFormatter) + "]";
+                    case NONE -> "";
+                };
+                System.out.printf("%d화. %s (조회수: %d, 대여: %dP, 구매: %dP)%s\n",
                         ep.getNumber(), ep.getTitle(), ep.getViewCount(),
-                        ep.getRentPrice(), ep.getBuyPrice());
+                        ep.getRentPrice(), ep.getBuyPrice(), status);
             }
 
             System.out.println("\n0. 뒤로가기");
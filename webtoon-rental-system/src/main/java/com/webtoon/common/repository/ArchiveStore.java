@@ -0,0 +1,23 @@
+package com.webtoon.common.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 보관(archive) 저장소 (StorageEngine이 제공)
+ * - 추가만 가능하며, 같은 ID가 여러 번 보관될 수 있음 (조회하는 쪽에서 나중 것을 사용)
+ *
+ * @param <T> 엔티티 타입
+ */
+public interface ArchiveStore<T> {
+
+    /**
+     * 엔티티 목록을 보관 (영구 저장소라면 디스크 반영 후 반환)
+     */
+    void append(List<T> entities);
+
+    /**
+     * 보관된 엔티티를 보관한 순서대로 consumer에 전달
+     */
+    void forEach(Consumer<T> consumer);
+}
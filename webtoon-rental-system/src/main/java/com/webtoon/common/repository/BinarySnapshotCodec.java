@@ -0,0 +1,343 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 바이너리 스냅샷 코덱 (SnapshotFormat.BINARY)
+ * - 엔티티를 Gson 트리로 바꾼 뒤 태그 + 고정 폭 숫자로 인코딩 (텍스트 토큰화/숫자 파싱 없음)
+ * - 필드명/문자열 값은 파일 끝의 문자열 테이블에 한 번만 저장하고 레코드에는 번호만 기록
+ * - 읽기는 파일 전체를 메모리 매핑(FileChannel.map)해서 바로 디코딩
+ * - 레코드마다 CRC32를 기록해 손상된 레코드만 건너뜀 (레코드 길이가 손상되면 그 이후는 읽을 수 없음)
+ * - 문자열 테이블은 모든 레코드가 참조하므로 손상되면 파일 전체를 읽지 않음
+ *
+ * 파일 구조 (버전 2, 체크섬 없는 버전 1도 읽을 수 있음)
+ *   [magic "WTBS"][version int][문자열 테이블 위치 long][레코드 수 int][문자열 테이블 CRC32 int]
+ *   [레코드 길이 int][레코드 CRC32 int][레코드 바이트] × 레코드 수
+ *   [문자열 수 int]([바이트 길이 int][UTF-8 바이트]) × 문자열 수
+ *
+ * @param <T> 엔티티 타입
+ */
+class BinarySnapshotCodec<T> implements SnapshotCodec<T> {
+
+    private static final int MAGIC = 0x57544253; // "WTBS"
+    private static final int VERSION = 2;
+    private static final int LEGACY_VERSION = 1;
+    private static final int LEGACY_HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int HEADER_SIZE = LEGACY_HEADER_SIZE + 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 값 태그
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte STRING = 5;
+    private static final byte ARRAY = 6;
+    private static final byte OBJECT = 7;
+    private static final byte DECIMAL = 8; // long/double로 정확히 표현되지 않는 숫자 (문자열 번호)
+
+    private final Gson gson;
+    private final Class<T> entityClass;
+
+    BinarySnapshotCodec(Gson gson, Class<T> entityClass) {
+        this.gson = gson;
+        this.entityClass = entityClass;
+    }
+
+    @Override
+    public void read(Path path, Consumer<T> consumer, Consumer<DamagedRecord> damaged) throws IOException {
+        readTrees(path, tree -> {
+            T entity = gson.fromJson(tree, entityClass);
+            if (entity != null) {
+                consumer.accept(entity);
+            }
+        }, damaged);
+    }
+
+    @Override
+    public void write(Path path, Iterable<T> entities) throws IOException {
+        List<JsonElement> trees = new ArrayList<>();
+        for (T entity : entities) {
+            trees.add(gson.toJsonTree(entity, entityClass));
+        }
+        writeTrees(path, trees);
+    }
+
+    /**
+     * 레코드를 Gson 트리 그대로 읽기 (엔티티 클래스 없이 - 트랜잭션 복구용)
+     * 빈 파일은 빈 목록으로 취급, 체크섬이 맞지 않는 레코드는 건너뛰고 damaged에 전달
+     */
+    static void readTrees(Path path, Consumer<JsonElement> consumer, Consumer<DamagedRecord> damaged)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return;
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("바이너리 스냅샷이 너무 큽니다: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (size < LEGACY_HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new IOException("바이너리 스냅샷 형식이 아닙니다: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION && version != LEGACY_VERSION) {
+                throw new IOException("지원하지 않는 바이너리 스냅샷 버전: " + version);
+            }
+            boolean checksummed = version == VERSION;
+            long stringsOffset = buffer.getLong();
+            int count = buffer.getInt();
+
+            ByteBuffer stringTable = buffer.duplicate().position((int) stringsOffset);
+            if (checksummed && buffer.getInt() != crc(stringTable.duplicate())) {
+                throw new IOException("바이너리 스냅샷 문자열 테이블 손상: " + path);
+            }
+            String[] strings = readStrings(stringTable);
+
+            for (int i = 0; i < count; i++) {
+                int start = buffer.position();
+                if (checksummed && stringsOffset - start < 8) {
+                    damaged.accept(new DamagedRecord(start,
+                            "헤더의 레코드 수 손상 (" + count + "건 중 " + i + "건만 있음)", ""));
+                    break;
+                }
+                int length = buffer.getInt();
+                int recordCrc = checksummed ? buffer.getInt() : 0;
+                if (checksummed && (length < 0 || length > stringsOffset - buffer.position())) {
+                    // 길이가 손상되면 다음 레코드 위치를 알 수 없으므로 나머지는 한 번에 격리
+                    damaged.accept(new DamagedRecord(start,
+                            "레코드 길이 손상 (이후 " + (count - i) + "건 읽기 불가)",
+                            base64(buffer.duplicate().position(start).limit((int) stringsOffset))));
+                    break;
+                }
+                int end = buffer.position() + length;
+                if (checksummed && recordCrc != crc(buffer.duplicate().limit(end))) {
+                    damaged.accept(new DamagedRecord(start, "체크섬 불일치",
+                            base64(buffer.duplicate().limit(end))));
+                    buffer.position(end);
+                    continue;
+                }
+                consumer.accept(decode(buffer, strings));
+                if (buffer.position() != end) {
+                    throw new IOException("바이너리 스냅샷 레코드 손상: " + path);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (e instanceof JsonParseException) {
+                throw e;
+            }
+            // 잘린 파일 등으로 버퍼 범위를 벗어난 경우
+            throw new IOException("바이너리 스냅샷 읽기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * Gson 트리 목록을 바이너리 스냅샷으로 기록 (기존 내용 덮어씀, 닫기 전에 fsync)
+     */
+    static void writeTrees(Path path, Iterable<JsonElement> trees) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_SIZE));
+            out.write(new byte[HEADER_SIZE]); // 헤더는 마지막에 채움
+
+            int count = 0;
+            long position = HEADER_SIZE;
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (JsonElement tree : trees) {
+                record.reset();
+                encode(tree, recordOut, strings);
+                byte[] bytes = record.toByteArray();
+                out.writeInt(bytes.length);
+                out.writeInt(crc(ByteBuffer.wrap(bytes)));
+                out.write(bytes);
+                position += 8 + bytes.length;
+                count++;
+            }
+
+            long stringsOffset = position;
+            record.reset();
+            recordOut.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                recordOut.writeInt(bytes.length);
+                recordOut.write(bytes);
+            }
+            byte[] stringTable = record.toByteArray();
+            out.write(stringTable);
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(stringsOffset).putInt(count)
+                    .putInt(crc(ByteBuffer.wrap(stringTable))).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+    }
+
+    private static int crc(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static String base64(ByteBuffer bytes) {
+        byte[] copy = new byte[bytes.remaining()];
+        bytes.get(copy);
+        return Base64.getEncoder().encodeToString(copy);
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static void encode(JsonElement element, DataOutputStream out, Map<String, Integer> strings)
+            throws IOException {
+        if (element == null || element.isJsonNull()) {
+            out.writeByte(NULL);
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            out.writeByte(OBJECT);
+            out.writeInt(object.size());
+            for (Entry<String, JsonElement> field : object.entrySet()) {
+                out.writeInt(stringIndex(field.getKey(), strings));
+                encode(field.getValue(), out, strings);
+            }
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            out.writeByte(ARRAY);
+            out.writeInt(array.size());
+            for (JsonElement item : array) {
+                encode(item, out, strings);
+            }
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                out.writeByte(primitive.getAsBoolean() ? TRUE : FALSE);
+            } else if (primitive.isString()) {
+                out.writeByte(STRING);
+                out.writeInt(stringIndex(primitive.getAsString(), strings));
+            } else {
+                encodeNumber(primitive, out, strings);
+            }
+        }
+    }
+
+    /**
+     * 숫자는 정수면 8바이트 long, 실수면 8바이트 double로 고정 폭 기록
+     * 어느 쪽으로도 정확히 표현되지 않으면 문자열 그대로 보존
+     */
+    private static void encodeNumber(JsonPrimitive primitive, DataOutputStream out, Map<String, Integer> strings)
+            throws IOException {
+        Number number = primitive.getAsNumber();
+        if (number instanceof Long || number instanceof Integer
+                || number instanceof Short || number instanceof Byte) {
+            out.writeByte(LONG);
+            out.writeLong(number.longValue());
+            return;
+        }
+        if (number instanceof Double || number instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(number.doubleValue());
+            return;
+        }
+        String text = number.toString();
+        try {
+            long value = Long.parseLong(text);
+            out.writeByte(LONG);
+            out.writeLong(value);
+        } catch (NumberFormatException e) {
+            out.writeByte(DECIMAL);
+            out.writeInt(stringIndex(text, strings));
+        }
+    }
+
+    private static JsonElement decode(ByteBuffer buffer, String[] strings) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return JsonNull.INSTANCE;
+            case TRUE:
+                return new JsonPrimitive(true);
+            case FALSE:
+                return new JsonPrimitive(false);
+            case LONG:
+                return new JsonPrimitive(buffer.getLong());
+            case DOUBLE:
+                return new JsonPrimitive(buffer.getDouble());
+            case STRING:
+                return new JsonPrimitive(strings[buffer.getInt()]);
+            case DECIMAL:
+                return new JsonPrimitive(new BigDecimal(strings[buffer.getInt()]));
+            case ARRAY: {
+                int size = buffer.getInt();
+                JsonArray array = new JsonArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(decode(buffer, strings));
+                }
+                return array;
+            }
+            case OBJECT: {
+                int size = buffer.getInt();
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    String name = strings[buffer.getInt()];
+                    object.add(name, decode(buffer, strings));
+                }
+                return object;
+            }
+            default:
+                throw new JsonParseException("알 수 없는 바이너리 값 태그: " + tag);
+        }
+    }
+
+    private static int stringIndex(String value, Map<String, Integer> strings) {
+        Integer index = strings.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.put(value, index);
+        }
+        return index;
+    }
+}
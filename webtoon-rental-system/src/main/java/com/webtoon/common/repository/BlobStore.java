@@ -0,0 +1,126 @@
+package com.webtoon.common.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 큰 본문(회차 내용 등)을 엔티티 파일과 분리해 보관하는 append-only 저장소
+ * - 본문은 {name}.blob 파일 끝에 UTF-8 바이트로 추가하고, 위치 참조("offset:length")를 돌려줌
+ * - 엔티티 파일에는 참조만 저장하므로 목록 조회 시 본문을 읽거나 파싱하지 않음
+ * - 읽기는 메모리 매핑(mmap)한 영역에서 필요한 구간만 복사 (파일이 커지면 다시 매핑)
+ * - 본문을 수정하면 새 위치에 추가되고 이전 구간은 사용되지 않은 채 남음
+ */
+public final class BlobStore {
+
+    // 파일 경로별 저장소 (같은 파일을 쓰는 Repository 인스턴스끼리 공유)
+    private static final Map<Path, BlobStore> STORES = new ConcurrentHashMap<>();
+
+    private final Path path;
+
+    // append/매핑 공용 채널 (파일이 외부에서 삭제되면 다시 엶)
+    private FileChannel channel;
+
+    // 현재 매핑된 영역 (파일 앞부분 mappedSize 바이트)
+    private MappedByteBuffer mapped;
+    private long mappedSize;
+
+    private BlobStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 이름에 해당하는 저장소 반환
+     * src/main/resources/data/{name}.blob
+     */
+    public static BlobStore open(String name) {
+        Path path = Paths.get("src/main/resources/data/" + name + ".blob").toAbsolutePath().normalize();
+        return STORES.computeIfAbsent(path, BlobStore::new);
+    }
+
+    /**
+     * 본문을 파일 끝에 추가하고 디스크에 반영(fsync)한 뒤 참조 반환
+     * (참조를 담은 엔티티가 저장되기 전에 본문이 먼저 디스크에 있어야 함)
+     */
+    public synchronized String append(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try {
+            FileChannel ch = channel();
+            long offset = ch.size();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += ch.write(buffer, position);
+            }
+            ch.force(false);
+            return offset + ":" + bytes.length;
+        } catch (IOException e) {
+            throw new RuntimeException("본문 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 참조가 가리키는 본문 읽기
+     */
+    public String read(String ref) {
+        int separator = ref.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 본문 참조입니다: " + ref);
+        }
+        long offset = Long.parseLong(ref.substring(0, separator));
+        int length = Integer.parseInt(ref.substring(separator + 1));
+
+        ByteBuffer view = region(offset + length);
+        byte[] bytes = new byte[length];
+        view.position((int) offset);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * end 위치까지 포함하는 매핑 영역 반환 (읽기 전용 복제본)
+     */
+    private synchronized ByteBuffer region(long end) {
+        try {
+            if (mapped == null || end > mappedSize) {
+                FileChannel ch = channel();
+                long size = ch.size();
+                if (end > size) {
+                    throw new IllegalStateException("본문 참조가 파일 범위를 벗어났습니다: " + path);
+                }
+                if (size > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("본문 파일이 너무 큽니다: " + path);
+                }
+                mapped = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                mappedSize = size;
+            }
+            return mapped.duplicate();
+        } catch (IOException e) {
+            throw new RuntimeException("본문 파일 읽기 실패: " + path, e);
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel != null && !Files.exists(path)) {
+            // 외부에서 삭제된 경우 새 파일로 다시 시작
+            channel.close();
+            channel = null;
+            mapped = null;
+            mappedSize = 0;
+        }
+        if (channel == null) {
+            Files.createDirectories(path.getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return channel;
+    }
+}
@@ -0,0 +1,11 @@
+package com.webtoon.common.repository;
+
+/**
+ * 읽는 중 건너뛴 손상 레코드 (체크섬 불일치 / 잘린 레코드)
+ *
+ * @param position 파일 안의 위치 (JSON: 줄 번호, 바이너리: 바이트 위치)
+ * @param reason   손상 사유
+ * @param raw      레코드 원문 (JSON: 줄 그대로, 바이너리: Base64)
+ */
+record DamagedRecord(long position, String reason, String raw) {
+}
@@ -0,0 +1,55 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 행을 상주 테이블에 올리지 않고 저장소에서 바로 조회/갱신하는 TableStore (LSM 엔진)
+ * - JsonRepository는 load() 대신 open()만 호출하고, ID/보조 인덱스 조회를 저장소에 맡김
+ *   (테이블 크기만큼 메모리를 쓰지 않고, 시작 시 전체 행을 읽지 않음)
+ * - 변경은 apply()로 조회에 바로 보이게 반영하고, 그룹 커밋의 write()에서 디스크에 확정(fsync)
+ *   (write()가 실패하면 확정하지 못한 변경을 되돌려 디스크에 없는 값이 조회되지 않게 함)
+ * - 보조 인덱스는 TableSpec.indexes()에 선언된 것을 저장소가 직접 유지
+ * - 조회 결과는 매번 저장소에서 새로 만든 인스턴스 (afterLoad 전 상태)
+ *
+ * @param <T> 엔티티 타입
+ */
+public interface DirectTableStore<T> extends TableStore<T> {
+
+    /**
+     * 저장소를 열고 (가져오기/복구 포함) 행은 읽지 않음
+     *
+     * @return 지금까지 기록된 최대 ID (삭제 포함, 시퀀스 복구용)
+     */
+    long open();
+
+    /**
+     * 변경 레코드를 조회에 바로 보이게 반영 (디스크 확정은 다음 write())
+     * 테이블 쓰기 락 안에서 호출되며, 없던 ID의 삭제는 무시
+     *
+     * @return 실제로 바뀐 것이 있으면 true
+     */
+    boolean apply(List<JsonObject> records);
+
+    /**
+     * ID로 조회 (없으면 null)
+     */
+    T get(long id);
+
+    /**
+     * 모든 엔티티를 ID 순으로 전달
+     */
+    void forEach(Consumer<T> consumer);
+
+    /**
+     * 보조 인덱스 구간 조회 - 키 순, 같은 키는 ID 순으로 전달
+     * 키는 IndexKeys 인코딩 순서로 비교하며, 복합 키의 앞부분만 넘기면 그 부분이 같은 키 전체를 뜻함
+     *
+     * @param index TableSpec.indexes()에 선언한 인덱스 이름 (없으면 IllegalArgumentException)
+     * @param from  구간 시작 키 (포함)
+     * @param to    구간 끝 키 (포함)
+     */
+    void scanIndex(String index, Object from, Object to, Consumer<T> consumer);
+}
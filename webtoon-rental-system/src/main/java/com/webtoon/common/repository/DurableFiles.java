@@ -0,0 +1,57 @@
+package com.webtoon.common.repository;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 비정상 종료에도 파일이 반쯤 써진 상태로 남지 않도록 하는 파일 교체 유틸
+ * 임시 파일에 기록 → fsync → 원자적 rename → 디렉터리 fsync 순서로 진행
+ */
+final class DurableFiles {
+
+    private DurableFiles() {
+    }
+
+    /**
+     * 임시 파일에 내용을 기록하는 동작
+     * (구현체는 기록 후 내용을 디스크에 강제 반영(force)해야 함)
+     */
+    @FunctionalInterface
+    interface Writer {
+        void writeTo(Path tempFile) throws IOException;
+    }
+
+    /**
+     * target 파일을 새 내용으로 원자적으로 교체
+     * 기록 도중 종료되면 target은 이전 내용 그대로 남고 임시 파일만 버려짐
+     */
+    static void replace(Path target, Writer writer) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            writer.writeTo(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        syncDirectory(dir);
+    }
+
+    /**
+     * rename 결과(디렉터리 엔트리)를 디스크에 반영
+     * 디렉터리 fsync를 지원하지 않는 OS(Windows 등)에서는 무시
+     */
+    static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 지원하지 않는 플랫폼 - rename 자체는 이미 완료됨
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 더 이상 자주 읽지 않는 엔티티를 옮겨 두는 압축 보관 파일 (cold archive)
+ * - 보관 1회 = 블록 하나: [압축 길이 int][gzip으로 압축한 JSON 배열]
+ * - 블록을 파일 끝에 추가하고 fsync (기존 블록은 다시 쓰지 않음)
+ * - 쓰다 만 마지막 블록(비정상 종료)은 읽을 때 무시하고, 다음 추가 전에 잘라냄
+ * - 같은 ID가 여러 번 보관된 경우(보관 후 원본 삭제 전에 종료) 조회하는 쪽에서 나중 것을 사용
+ *
+ * @param <T> 엔티티 타입
+ */
+class EntityArchive<T> implements ArchiveStore<T> {
+
+    private final Path path;
+    private final Gson gson;
+    private final Class<T> entityClass;
+
+    EntityArchive(Path path, Gson gson, Class<T> entityClass) {
+        this.path = path;
+        this.gson = gson;
+        this.entityClass = entityClass;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * 엔티티 목록을 블록 하나로 압축해 파일 끝에 추가 (fsync 후 반환)
+     */
+    @Override
+    public synchronized void append(List<T> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] block = compress(entities);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long end = validLength(channel);
+                channel.truncate(end);
+                ByteBuffer buffer = ByteBuffer.allocate(4 + block.length);
+                buffer.putInt(block.length).put(block).flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, end + buffer.position());
+                }
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("보관 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 보관된 엔티티를 보관한 순서대로 consumer에 전달 (파일이 없으면 아무 일도 하지 않음)
+     */
+    @Override
+    public synchronized void forEach(Consumer<T> consumer) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0L;
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+            while (position + 4 <= size) {
+                lengthBuffer.clear();
+                readFully(channel, lengthBuffer, position);
+                int length = lengthBuffer.flip().getInt();
+                if (length < 0 || position + 4 + length > size) {
+                    break; // 쓰다 만 블록
+                }
+                ByteBuffer block = ByteBuffer.allocate(length);
+                readFully(channel, block, position + 4);
+                decompress(block.array(), consumer);
+                position += 4 + length;
+            }
+        } catch (IOException | JsonParseException e) {
+            throw new RuntimeException("보관 파일 읽기 실패: " + path, e);
+        }
+    }
+
+    private byte[] compress(List<T> entities) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(
+                new GZIPOutputStream(bytes), StandardCharsets.UTF_8))) {
+            writer.beginArray();
+            for (T entity : entities) {
+                gson.toJson(entity, entityClass, writer);
+            }
+            writer.endArray();
+        }
+        return bytes.toByteArray();
+    }
+
+    private void decompress(byte[] block, Consumer<T> consumer) throws IOException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(block)), StandardCharsets.UTF_8))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                T entity = gson.fromJson(reader, entityClass);
+                if (entity != null) {
+                    consumer.accept(entity);
+                }
+            }
+            reader.endArray();
+        }
+    }
+
+    /**
+     * 온전한 블록까지의 길이 (블록 길이만 따라가므로 압축은 풀지 않음)
+     */
+    private static long validLength(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = 0L;
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+        while (position + 4 <= size) {
+            lengthBuffer.clear();
+            readFully(channel, lengthBuffer, position);
+            int length = lengthBuffer.flip().getInt();
+            if (length < 0 || position + 4 + length > size) {
+                break;
+            }
+            position += 4 + length;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("보관 파일이 예상보다 짧습니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * 엔티티 목록 파일을 스트리밍 방식으로 읽고 쓰는 코덱
+ * - 파일 전체를 하나의 String으로 읽지 않고 원소 단위 파싱
+ * - 기본 저장 형식은 한 줄에 레코드 하나씩, CRC32 체크섬을 붙인 JSON 배열
+ *   → 손상된 줄만 건너뛰고 나머지 레코드는 그대로 읽을 수 있음
+ * - 체크섬이 없는 이전 형식(compact/pretty JSON 배열)도 그대로 읽음
+ * - 들여쓰기(pretty) 형식은 사람이 보기 위한 내보내기(export)에서만 사용 (체크섬 없음)
+ *
+ * 저장 형식
+ *   [
+ *   {"crc":<data 원문의 CRC32>,"data":{...}},
+ *   {"crc":...,"data":{...}}
+ *   ]
+ *
+ * @param <T> 엔티티 타입
+ */
+class EntityCodec<T> implements SnapshotCodec<T> {
+
+    // 파일 채널 위에 두는 버퍼 크기
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String BEGIN = "[";
+    private static final String END = "]";
+    private static final String RECORD_PREFIX = "{\"crc\":";
+    private static final String DATA_FIELD = ",\"data\":";
+
+    private final Gson gson;
+    private final Class<T> entityClass;
+
+    EntityCodec(Gson gson, Class<T> entityClass) {
+        this.gson = gson;
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * 파일의 엔티티를 원소 단위로 읽어 consumer에 전달
+     * 빈 파일은 빈 목록으로 취급 (체크섬 형식, 이전 compact/pretty 형식 모두 읽을 수 있음)
+     */
+    @Override
+    public void read(Path path, Consumer<T> consumer, Consumer<DamagedRecord> damaged) throws IOException {
+        boolean checksummed = readRecords(path, data -> {
+            T entity = gson.fromJson(data, entityClass);
+            if (entity != null) {
+                consumer.accept(entity);
+            }
+        }, damaged);
+        if (checksummed) {
+            return;
+        }
+
+        // 체크섬 없는 이전 형식
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             JsonReader reader = new JsonReader(new BufferedReader(
+                     Channels.newReader(channel, StandardCharsets.UTF_8), BUFFER_SIZE))) {
+
+            if (reader.peek() == JsonToken.END_DOCUMENT) {
+                return;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                T entity = gson.fromJson(reader, entityClass);
+                if (entity != null) {
+                    consumer.accept(entity);
+                }
+            }
+            reader.endArray();
+        }
+    }
+
+    /**
+     * 엔티티 목록을 체크섬 형식으로 기록
+     */
+    @Override
+    public void write(Path path, Iterable<T> entities) throws IOException {
+        write(path, entities, false);
+    }
+
+    /**
+     * 엔티티 목록을 JSON 배열로 기록 (기존 파일 내용은 덮어씀)
+     * 닫기 전에 디스크에 강제 반영(fsync)
+     *
+     * @param pretty true면 들여쓰기 형식(체크섬 없음), false면 체크섬 형식
+     */
+    void write(Path path, Iterable<T> entities, boolean pretty) throws IOException {
+        if (!pretty) {
+            writeRecords(path, entities, entity -> gson.toJson(entity, entityClass));
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             JsonWriter writer = new JsonWriter(new BufferedWriter(
+                     Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE))) {
+
+            writer.setIndent("  ");
+            writer.beginArray();
+            for (T entity : entities) {
+                gson.toJson(entity, entityClass, writer);
+            }
+            writer.endArray();
+            writer.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * 레코드를 Gson 트리 그대로 읽기 (엔티티 클래스 없이 - 트랜잭션 복구용)
+     */
+    static void readTrees(Path path, Consumer<JsonElement> consumer, Consumer<DamagedRecord> damaged)
+            throws IOException {
+        if (readRecords(path, data -> consumer.accept(JsonParser.parseString(data)), damaged)) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Files.newInputStream(path), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            JsonElement root = JsonParser.parseReader(reader);
+            if (root.isJsonArray()) {
+                root.getAsJsonArray().forEach(consumer);
+            }
+        }
+    }
+
+    /**
+     * Gson 트리 목록을 체크섬 형식으로 기록
+     */
+    static void writeTrees(Path path, Iterable<JsonElement> trees) throws IOException {
+        writeRecords(path, trees, JsonElement::toString);
+    }
+
+    /**
+     * 체크섬 형식이면 레코드마다 data 원문을 전달하고 true, 이전 형식이면 아무것도 읽지 않고 false
+     * - 잘못된 UTF-8 바이트는 대체 문자로 읽히므로 체크섬 불일치로 걸러짐
+     * - 닫는 줄(])이 없으면 파일 끝이 잘린 것으로 보고 damaged에 전달
+     */
+    private static boolean readRecords(Path path, Consumer<String> consumer, Consumer<DamagedRecord> damaged)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     Channels.newInputStream(channel), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+
+            String line = reader.readLine();
+            if (line == null) {
+                return true;
+            }
+            if (!line.equals(BEGIN)) {
+                return false;
+            }
+
+            long lineNumber = 1;
+            boolean lastDamaged = false;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.equals(END)) {
+                    return true;
+                }
+                if (lineNumber == 2 && !line.isEmpty() && Character.isWhitespace(line.charAt(0))) {
+                    // 들여쓰기(pretty) 형식
+                    return false;
+                }
+                String record = line.endsWith(",") ? line.substring(0, line.length() - 1) : line;
+                int dataStart = record.indexOf(DATA_FIELD);
+                if (!record.startsWith(RECORD_PREFIX) || dataStart < 0 || !record.endsWith("}")) {
+                    damaged.accept(new DamagedRecord(lineNumber, "잘린 레코드", line));
+                    lastDamaged = true;
+                    continue;
+                }
+                String data = record.substring(dataStart + DATA_FIELD.length(), record.length() - 1);
+                if (!record.substring(RECORD_PREFIX.length(), dataStart).equals(Long.toString(crc(data)))) {
+                    damaged.accept(new DamagedRecord(lineNumber, "체크섬 불일치", line));
+                    lastDamaged = true;
+                    continue;
+                }
+                consumer.accept(data);
+                lastDamaged = false;
+            }
+            if (!lastDamaged) {
+                // 레코드 경계에서 잘려 마지막 줄은 멀쩡하지만 이후 레코드가 있었을 수 있음
+                damaged.accept(new DamagedRecord(lineNumber, "파일 끝이 잘림", ""));
+            }
+            return true;
+        }
+    }
+
+    private static <E> void writeRecords(Path path, Iterable<E> items, Function<E, String> toJson)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            out.write((BEGIN + "\n").getBytes(StandardCharsets.UTF_8));
+            boolean first = true;
+            for (E item : items) {
+                String data = toJson.apply(item);
+                if (!first) {
+                    out.write(",\n".getBytes(StandardCharsets.UTF_8));
+                }
+                out.write((RECORD_PREFIX + crc(data) + DATA_FIELD + data + "}").getBytes(StandardCharsets.UTF_8));
+                first = false;
+            }
+            out.write(((first ? "" : "\n") + END + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    private static long crc(String data) {
+        CRC32 crc = new CRC32();
+        crc.update(data.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
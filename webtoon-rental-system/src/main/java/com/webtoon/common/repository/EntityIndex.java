@@ -0,0 +1,196 @@
+package com.webtoon.common.repository;
+
+import com.webtoon.common.util.PersistentLongMap;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 상주 테이블의 보조 인덱스 (키 값 → ID 목록)
+ * - 저장/삭제 시 함께 갱신되어 findByReaderId 같은 조회를 전체 스캔 없이 처리
+ * - 엔티티별로 마지막에 색인한 키를 기억해 두고, 키가 바뀐 채 저장되면 옮겨 담음
+ * - null 키는 색인하지 않음
+ * - 불변 구조: edit()로 바뀐 키의 경로만 복사한 새 인덱스를 만들고, 나머지는 이전 스냅샷의 인덱스와 공유
+ *
+ * 구조
+ *   keys     : ID → 색인한 키 + 행 순번
+ *   postings : 키 해시 → 그 해시를 가진 키별 ID 목록 (행 순번 → ID, 저장 순서 유지)
+ *
+ * @param <T> 엔티티 타입
+ */
+class EntityIndex<T> {
+
+    private final Function<T, ?> keyExtractor;
+
+    // ID → 마지막으로 색인한 키와 행 순번
+    private final PersistentLongMap<Indexed> keys;
+
+    // 키 해시 → 키별 ID 목록 (해시가 겹치는 키는 같은 칸에 함께 보관)
+    private final PersistentLongMap<Posting[]> postings;
+
+    EntityIndex(Function<T, ?> keyExtractor) {
+        this(keyExtractor, PersistentLongMap.empty(), PersistentLongMap.empty());
+    }
+
+    private EntityIndex(Function<T, ?> keyExtractor, PersistentLongMap<Indexed> keys,
+                        PersistentLongMap<Posting[]> postings) {
+        this.keyExtractor = keyExtractor;
+        this.keys = keys;
+        this.postings = postings;
+    }
+
+    /**
+     * 새 스냅샷용 편집기 (이 인덱스는 그대로 유지)
+     */
+    Editor<T> edit() {
+        return new Editor<>(this);
+    }
+
+    /**
+     * 키 값에 해당하는 ID 목록 (저장 순서, 읽기 전용 뷰)
+     */
+    Set<Long> ids(Object key) {
+        Posting posting = find(postings.get(hashOf(key)), key);
+        if (posting == null) {
+            return Collections.emptySet();
+        }
+        PersistentLongMap<Long> ids = posting.ids();
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Long> iterator() {
+                return ids.valueIterator();
+            }
+
+            @Override
+            public int size() {
+                return ids.size();
+            }
+        };
+    }
+
+    private static long hashOf(Object key) {
+        return Objects.hashCode(key) & 0xffffffffL;
+    }
+
+    private static Posting find(Posting[] bucket, Object key) {
+        if (bucket == null || key == null) {
+            return null;
+        }
+        for (Posting posting : bucket) {
+            if (posting.key().equals(key)) {
+                return posting;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 색인한 키와 행 순번 (목록에서 뺄 때 위치를 찾는 데 사용)
+     */
+    private record Indexed(Object key, long order) {
+    }
+
+    /**
+     * 키 하나의 ID 목록
+     */
+    private record Posting(Object key, PersistentLongMap<Long> ids) {
+    }
+
+    /**
+     * 인덱스 편집기 - 스냅샷 편집기(EntityTable.Editor)와 함께 사용
+     */
+    static final class Editor<T> {
+
+        private final Function<T, ?> keyExtractor;
+        private final PersistentLongMap.Builder<Indexed> keys;
+        private final PersistentLongMap.Builder<Posting[]> postings;
+
+        private Editor(EntityIndex<T> source) {
+            this.keyExtractor = source.keyExtractor;
+            this.keys = source.keys.builder();
+            this.postings = source.postings.builder();
+        }
+
+        /**
+         * @param order 행 순번 (같은 키 안의 정렬 기준)
+         */
+        void put(Long id, long order, T entity) {
+            Object key = keyExtractor.apply(entity);
+            Indexed current = keys.get(id);
+            if (current != null && Objects.equals(current.key(), key)) {
+                return;
+            }
+            remove(id);
+            if (key == null) {
+                return;
+            }
+            keys.put(id, new Indexed(key, order));
+            long hash = hashOf(key);
+            Posting[] bucket = postings.get(hash);
+            Posting posting = find(bucket, key);
+            PersistentLongMap<Long> ids = posting != null ? posting.ids() : PersistentLongMap.empty();
+            postings.put(hash, replace(bucket, posting, new Posting(key, ids.put(order, id))));
+        }
+
+        void remove(Long id) {
+            Indexed current = keys.get(id);
+            if (current == null) {
+                return;
+            }
+            keys.remove(id);
+            long hash = hashOf(current.key());
+            Posting[] bucket = postings.get(hash);
+            Posting posting = find(bucket, current.key());
+            if (posting == null) {
+                return;
+            }
+            PersistentLongMap<Long> ids = posting.ids().remove(current.order());
+            Posting[] next = replace(bucket, posting, ids.isEmpty() ? null : new Posting(current.key(), ids));
+            if (next.length == 0) {
+                postings.remove(hash);
+            } else {
+                postings.put(hash, next);
+            }
+        }
+
+        EntityIndex<T> build() {
+            return new EntityIndex<>(keyExtractor, keys.build(), postings.build());
+        }
+
+        /**
+         * 해시 칸의 키 목록에서 previous를 next로 교체 (previous가 없으면 추가, next가 null이면 제거)
+         */
+        private static Posting[] replace(Posting[] bucket, Posting previous, Posting next) {
+            if (bucket == null) {
+                return new Posting[]{next};
+            }
+            if (previous == null) {
+                Posting[] grown = new Posting[bucket.length + 1];
+                System.arraycopy(bucket, 0, grown, 0, bucket.length);
+                grown[bucket.length] = next;
+                return grown;
+            }
+            if (next == null) {
+                Posting[] shrunk = new Posting[bucket.length - 1];
+                int i = 0;
+                for (Posting posting : bucket) {
+                    if (posting != previous) {
+                        shrunk[i++] = posting;
+                    }
+                }
+                return shrunk;
+            }
+            Posting[] replaced = bucket.clone();
+            for (int i = 0; i < replaced.length; i++) {
+                if (replaced[i] == previous) {
+                    replaced[i] = next;
+                }
+            }
+            return replaced;
+        }
+    }
+}
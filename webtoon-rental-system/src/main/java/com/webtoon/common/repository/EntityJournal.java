@@ -0,0 +1,213 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Repository 변경 저널 (append-only 로그)
+ * - 저장/삭제 1건당 한 줄(compact JSON)을 파일 끝에 추가 (여러 건은 한 번의 fsync로 묶음)
+ * - 첫 줄(헤더)에 이 저널이 이어 붙는 기준(base) 파일의 스탬프를 기록
+ * - 기준 파일이 바뀌었거나(삭제 포함) 헤더가 맞지 않으면 저널은 무효
+ *
+ * 레코드 형식
+ *   {"base":{"exists":true,"size":123,"modified":...}}   (헤더)
+ *   {"op":"PUT","id":1,"data":{...}}
+ *   {"op":"DEL","id":1}
+ */
+class EntityJournal {
+
+    static final String OP_PUT = "PUT";
+    static final String OP_DEL = "DEL";
+
+    private final Path path;
+
+    // 마지막 압축(compaction) 이후 추가된 레코드 수
+    private int records;
+
+    // 현재 기준 파일에 이어 쓰는 중인지 (헤더 확인/기록 후 true)
+    private boolean open;
+
+    // append 전용 채널 (처음 append할 때 열어 두고 재사용)
+    private FileChannel appendChannel;
+
+    EntityJournal(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int size() {
+        return records;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 저널이 주어진 기준 파일 상태에 이어 붙은 것인지 확인
+     */
+    boolean matches(EntityTable.FileStamp baseStamp) {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return false;
+            }
+            JsonObject base = JsonParser.parseString(header).getAsJsonObject().getAsJsonObject("base");
+            return base != null && toStamp(base).equals(baseStamp);
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 헤더 이후의 레코드를 순서대로 재생
+     * 마지막 줄이 쓰다 만 상태(비정상 종료)라면 그 줄은 {저널}.quarantine에 격리하고 그 줄부터는 무시
+     *
+     * @return 모든 레코드를 정상적으로 읽었으면 true (false면 호출 측에서 압축 필요)
+     */
+    boolean replay(Consumer<JsonObject> consumer) {
+        records = 0;
+        open = true;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            reader.readLine(); // 헤더
+            String line;
+            long lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                JsonObject record;
+                try {
+                    record = JsonParser.parseString(line).getAsJsonObject();
+                } catch (JsonParseException | IllegalStateException e) {
+                    Quarantine.record(path, List.of(new DamagedRecord(lineNumber, "저널 레코드 손상", line)));
+                    return false;
+                }
+                consumer.accept(record);
+                records++;
+            }
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException("저널 파일 읽기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 레코드 여러 건을 한 번의 write + fsync로 추가 (그룹 커밋)
+     */
+    void append(List<JsonObject> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JsonObject record : batch) {
+            lines.append(record).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        try {
+            if (appendChannel == null) {
+                appendChannel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            while (buffer.hasRemaining()) {
+                appendChannel.write(buffer);
+            }
+            appendChannel.force(false);
+            records += batch.size();
+        } catch (IOException e) {
+            throw new RuntimeException("저널 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 새 기준 파일에 대해 빈 저널로 다시 시작 (헤더만 기록)
+     * 헤더는 임시 파일 + rename으로 교체하므로 도중에 종료되어도 이전 저널이 유지됨
+     */
+    void reset(EntityTable.FileStamp baseStamp) {
+        JsonObject stamp = new JsonObject();
+        stamp.addProperty("exists", baseStamp.exists());
+        stamp.addProperty("size", baseStamp.size());
+        stamp.addProperty("modified", baseStamp.modifiedNanos());
+        JsonObject header = new JsonObject();
+        header.add("base", stamp);
+        byte[] bytes = (header + "\n").getBytes(StandardCharsets.UTF_8);
+
+        try {
+            closeChannel();
+            DurableFiles.replace(path, temp -> {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+            });
+            records = 0;
+            open = true;
+        } catch (IOException e) {
+            throw new RuntimeException("저널 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 무효가 된 저널 삭제
+     */
+    void discard() {
+        try {
+            closeChannel();
+            Files.deleteIfExists(path);
+            records = 0;
+            open = false;
+        } catch (IOException e) {
+            throw new RuntimeException("저널 파일 삭제 실패: " + path, e);
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        if (appendChannel != null) {
+            appendChannel.close();
+            appendChannel = null;
+        }
+    }
+
+    static JsonObject put(Long id, JsonObject data) {
+        JsonObject record = new JsonObject();
+        record.addProperty("op", OP_PUT);
+        record.addProperty("id", id);
+        record.add("data", data);
+        return record;
+    }
+
+    static JsonObject delete(Long id) {
+        JsonObject record = new JsonObject();
+        record.addProperty("op", OP_DEL);
+        record.addProperty("id", id);
+        return record;
+    }
+
+    private static EntityTable.FileStamp toStamp(JsonObject base) {
+        return new EntityTable.FileStamp(
+                base.get("exists").getAsBoolean(),
+                base.get("size").getAsLong(),
+                base.get("modified").getAsLong());
+    }
+}
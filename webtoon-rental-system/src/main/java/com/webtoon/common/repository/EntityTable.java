@@ -0,0 +1,377 @@
+package com.webtoon.common.repository;
+
+import com.webtoon.common.util.PersistentLongMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 저장소(TableStore) 하나에 대응하는 상주(in-memory) 엔티티 테이블
+ * - 최초 접근 시 한 번만 저장소를 읽고, 이후 조회는 메모리에서 처리
+ * - 쓰기는 새 스냅샷을 만들어 원자적으로 교체한 뒤 GroupCommitter를 통해 저장소에 반영
+ *   (스냅샷은 불변 trie라 바뀐 행의 경로만 복사하고 나머지는 이전 스냅샷과 공유 → 쓰기 비용 O(log n))
+ * - 읽기는 락 없이 현재 스냅샷만 참조하므로 다른 쓰기나 파일 기록을 기다리지 않음
+ * - 저장소가 바뀌었는지(다른 인스턴스/프로세스의 기록)는 저장소가 판단
+ * - 같은 저장소를 쓰는 Repository 인스턴스끼리 하나의 테이블을 공유
+ * - 선언된 보조 인덱스는 스냅샷에 함께 담겨 apply/reload 시 갱신
+ * - 저장소가 DirectTableStore(LSM 엔진)면 스냅샷은 비워 두고 조회/인덱스를 저장소가 직접 처리
+ *
+ * @param <T> 엔티티 타입
+ */
+class EntityTable<T> {
+
+    private final TableStore<T> store;
+
+    // ID 발급 시퀀스 (로드 시 복구)
+    private final IdSequence sequence;
+
+    // 인덱스 이름 → 키 추출 함수 (Repository가 선언한 것만)
+    private final Map<String, Function<T, ?>> indexDefinitions;
+
+    // 현재 공개된 스냅샷 (읽기는 락 없이 이 참조만 읽음)
+    private volatile Snapshot<T> snapshot;
+
+    // 쓰기끼리만 직렬화하는 락 (읽기는 이 락을 잡지 않음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 파일 기록 직렬화용 락 (그룹 커밋 기록과 수동 압축이 겹치지 않도록)
+    private final ReentrantLock commitLock = new ReentrantLock();
+
+    // 디스크 반영 대기열 (테이블 생성 직후 연결)
+    private GroupCommitter committer;
+
+    // 메모리 내용이 저장소와 일치하는지 (false = 아직 로드 전 또는 무효화됨)
+    private volatile boolean synced;
+
+    EntityTable(TableStore<T> store, IdSequence sequence, Map<String, Function<T, ?>> indexDefinitions) {
+        this.store = store;
+        this.sequence = sequence;
+        this.indexDefinitions = indexDefinitions;
+        this.snapshot = new Snapshot<>(indexDefinitions);
+    }
+
+    String getName() {
+        return store.getName();
+    }
+
+    TableStore<T> store() {
+        return store;
+    }
+
+    /**
+     * 행을 상주시키지 않고 저장소에서 바로 읽는 테이블이면 그 저장소, 아니면 null
+     */
+    DirectTableStore<T> direct() {
+        return store instanceof DirectTableStore<T> direct ? direct : null;
+    }
+
+    IdSequence sequence() {
+        return sequence;
+    }
+
+    GroupCommitter committer() {
+        return committer;
+    }
+
+    void attach(GroupCommitter committer) {
+        this.committer = committer;
+    }
+
+    ReentrantLock commitLock() {
+        return commitLock;
+    }
+
+    ReentrantLock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * 현재 공개된 스냅샷 (락 없이 읽기)
+     */
+    Snapshot<T> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 변경 여러 건을 반영한 새 스냅샷을 한 번에 공개 (쓰기 락을 잡은 상태에서 호출)
+     *
+     * @param changes ID → 엔티티 (값이 null이면 삭제)
+     * @return 실제로 반영된 변경 (없던 ID의 삭제는 제외)
+     */
+    Map<Long, T> apply(Map<Long, T> changes) {
+        Map<Long, T> applied = new LinkedHashMap<>();
+        Editor<T> next = null;
+        for (Map.Entry<Long, T> change : changes.entrySet()) {
+            Long id = change.getKey();
+            T entity = change.getValue();
+            if (entity == null && (next != null ? next.get(id) : snapshot.get(id)) == null) {
+                continue;
+            }
+            if (next == null) {
+                next = snapshot.edit();
+            }
+            if (entity == null) {
+                next.remove(id);
+            } else {
+                next.put(id, entity);
+            }
+            applied.put(id, entity);
+        }
+        if (next != null) {
+            snapshot = next.build();
+        }
+        return applied;
+    }
+
+    /**
+     * 테이블이 저장소와 어긋났는지 확인
+     * - 아직 로드하지 않았거나 무효화된 경우, 다른 인스턴스/프로세스가 저장소를 바꾼 경우 true
+     * - 이 테이블의 기록이 진행 중이면 저장소 변화는 자기 자신의 것이므로 false
+     */
+    boolean isStale() {
+        if (committer != null && committer.isBusy()) {
+            return false;
+        }
+        return !synced || store.isStale();
+    }
+
+    /**
+     * 저장소 내용으로 새 스냅샷을 만들어 공개 (쓰기 락을 잡은 상태에서 호출)
+     */
+    void reload(Map<Long, T> entities) {
+        Editor<T> next = new Snapshot<>(indexDefinitions).edit();
+        entities.forEach(next::put);
+        snapshot = next.build();
+        markSynced();
+    }
+
+    /**
+     * 현재 저장소 상태를 "메모리와 일치함"으로 기록 (로드/저장 직후 호출)
+     */
+    void markSynced() {
+        store.markSynced();
+        synced = true;
+    }
+
+    /**
+     * 메모리 내용을 신뢰할 수 없게 된 경우 (파일 쓰기 실패, 롤백 등)
+     * 다음 접근 시 저장소 기준으로 다시 로드
+     */
+    void invalidate() {
+        synced = false;
+    }
+
+    /**
+     * 한 시점의 테이블 내용 (행 + 보조 인덱스)
+     * 공개된 뒤에는 바뀌지 않으며, 쓰기는 edit()로 바뀐 경로만 복사한 새 스냅샷을 만들어 공개함
+     * (바뀌지 않은 행/인덱스 노드는 이전 스냅샷과 공유하므로 쓰기 비용이 테이블 크기와 무관)
+     * (엔티티 인스턴스는 저장 때 만든 테이블 전용 복사본이며, JsonRepository는 조회 시 다시 복사해 돌려줌)
+     */
+    static final class Snapshot<T> {
+
+        // ID → 행
+        private final PersistentLongMap<Row<T>> rows;
+
+        // 처음 저장된 순번 → 행 (저장소에 기록된 순서 유지용)
+        private final PersistentLongMap<Row<T>> ordered;
+
+        // 다음에 새로 들어올 행의 순번
+        private final long nextOrder;
+
+        // 인덱스 이름 → 보조 인덱스
+        private final Map<String, EntityIndex<T>> indexes;
+
+        private Snapshot(Map<String, Function<T, ?>> indexDefinitions) {
+            this.rows = PersistentLongMap.empty();
+            this.ordered = PersistentLongMap.empty();
+            this.nextOrder = 0L;
+            Map<String, EntityIndex<T>> empty = new LinkedHashMap<>();
+            indexDefinitions.forEach((name, keyExtractor) -> empty.put(name, new EntityIndex<>(keyExtractor)));
+            this.indexes = Collections.unmodifiableMap(empty);
+        }
+
+        private Snapshot(PersistentLongMap<Row<T>> rows, PersistentLongMap<Row<T>> ordered, long nextOrder,
+                         Map<String, EntityIndex<T>> indexes) {
+            this.rows = rows;
+            this.ordered = ordered;
+            this.nextOrder = nextOrder;
+            this.indexes = indexes;
+        }
+
+        T get(Long id) {
+            if (id == null) {
+                return null;
+            }
+            Row<T> row = rows.get(id);
+            return row != null ? row.entity() : null;
+        }
+
+        /**
+         * 저장 순서의 엔티티 (읽기 전용 뷰)
+         */
+        Collection<T> values() {
+            return new AbstractCollection<>() {
+                @Override
+                public Iterator<T> iterator() {
+                    Iterator<Row<T>> iterator = ordered.valueIterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public T next() {
+                            return iterator.next().entity();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return rows.size();
+                }
+            };
+        }
+
+        /**
+         * 저장 순서의 ID (읽기 전용 뷰)
+         */
+        Set<Long> ids() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Long> iterator() {
+                    Iterator<Row<T>> iterator = ordered.valueIterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Long next() {
+                            return iterator.next().id();
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return o instanceof Long id && rows.containsKey(id);
+                }
+
+                @Override
+                public int size() {
+                    return rows.size();
+                }
+            };
+        }
+
+        /**
+         * 선언된 보조 인덱스 반환 (없으면 IllegalArgumentException)
+         */
+        EntityIndex<T> index(String name) {
+            EntityIndex<T> index = indexes.get(name);
+            if (index == null) {
+                throw new IllegalArgumentException("선언되지 않은 인덱스입니다: " + name);
+            }
+            return index;
+        }
+
+        private Editor<T> edit() {
+            return new Editor<>(this);
+        }
+    }
+
+    /**
+     * 스냅샷 한 건 = 행 (처음 저장된 순번은 교체해도 유지)
+     */
+    private record Row<T>(long id, long order, T entity) {
+    }
+
+    /**
+     * 새 스냅샷 편집기 - 원본 스냅샷과 노드를 공유하며 바뀐 경로만 복사
+     */
+    private static final class Editor<T> {
+
+        private final PersistentLongMap.Builder<Row<T>> rows;
+        private final PersistentLongMap.Builder<Row<T>> ordered;
+        private final Map<String, EntityIndex.Editor<T>> indexes = new LinkedHashMap<>();
+        private long nextOrder;
+
+        private Editor(Snapshot<T> source) {
+            this.rows = source.rows.builder();
+            this.ordered = source.ordered.builder();
+            this.nextOrder = source.nextOrder;
+            source.indexes.forEach((name, index) -> indexes.put(name, index.edit()));
+        }
+
+        T get(Long id) {
+            Row<T> row = rows.get(id);
+            return row != null ? row.entity() : null;
+        }
+
+        void put(Long id, T entity) {
+            Row<T> existing = rows.get(id);
+            long order = existing != null ? existing.order() : nextOrder++;
+            Row<T> row = new Row<>(id, order, entity);
+            rows.put(id, row);
+            ordered.put(order, row);
+            for (EntityIndex.Editor<T> index : indexes.values()) {
+                index.put(id, order, entity);
+            }
+        }
+
+        void remove(Long id) {
+            Row<T> existing = rows.get(id);
+            if (existing == null) {
+                return;
+            }
+            rows.remove(id);
+            ordered.remove(existing.order());
+            for (EntityIndex.Editor<T> index : indexes.values()) {
+                index.remove(id);
+            }
+        }
+
+        Snapshot<T> build() {
+            Map<String, EntityIndex<T>> built = new LinkedHashMap<>();
+            indexes.forEach((name, index) -> built.put(name, index.build()));
+            return new Snapshot<>(rows.build(), ordered.build(), nextOrder, Collections.unmodifiableMap(built));
+        }
+    }
+
+    /**
+     * 파일 변경 감지용 스탬프 (존재 여부, 크기, 수정 시각)
+     */
+    record FileStamp(boolean exists, long size, long modifiedNanos) {
+
+        private static final FileStamp ABSENT = new FileStamp(false, -1L, -1L);
+
+        static FileStamp of(Path path) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                long nanos = attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+                return new FileStamp(true, attrs.size(), nanos);
+            } catch (NoSuchFileException e) {
+                return ABSENT;
+            } catch (IOException e) {
+                throw new RuntimeException("파일 상태 확인 실패: " + path, e);
+            }
+        }
+    }
+}
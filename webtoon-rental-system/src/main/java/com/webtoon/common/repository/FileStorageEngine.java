@@ -0,0 +1,57 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 파일 저장 엔진 - src/main/resources/data/ 아래에 테이블마다 파일로 저장
+ * 저장 방식/형식을 지정하지 않으면(null) 각 Repository가 선언한 값을 따르고,
+ * 지정하면 모든 Repository에 같은 값을 적용 (json/journal/binary 엔진)
+ */
+final class FileStorageEngine implements StorageEngine {
+
+    private static final Path DATA_DIR = Paths.get("src/main/resources/data");
+
+    private final String name;
+    private final StorageMode mode;
+    private final SnapshotFormat format;
+
+    FileStorageEngine(String name, StorageMode mode, SnapshotFormat format) {
+        this.name = name;
+        this.mode = mode;
+        this.format = format;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+
+    @Override
+    public Path getDataDirectory() {
+        return DATA_DIR;
+    }
+
+    @Override
+    public <T> TableStore<T> openTable(TableSpec<T> spec) {
+        return new FileTableStore<>(spec, DATA_DIR,
+                mode != null ? mode : spec.storageMode(),
+                format != null ? format : spec.snapshotFormat());
+    }
+
+    /**
+     * {name}.archive 압축 보관 파일
+     */
+    @Override
+    public <T> ArchiveStore<T> openArchive(String archiveName, Gson gson, Class<T> entityClass) {
+        return new EntityArchive<>(DATA_DIR.resolve(archiveName + ".archive").toAbsolutePath().normalize(),
+                gson, entityClass);
+    }
+}
@@ -0,0 +1,321 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 파일 기반 테이블 저장소 (FileStorageEngine이 제공)
+ * - 기준 파일: {name}.json 또는 {name}.bin (SnapshotFormat)
+ * - 저널 모드: 기준 파일 + {name}.journal, 임계치를 넘으면 기준 파일로 압축
+ * - BINARY 형식인데 .bin이 아직 없으면 기존 .json을 가져와 바로 바이너리로 기록
+ * - 스냅샷 모드인데 이전 실행(저널 모드)의 유효한 저널이 남아 있으면 재생 후 기준 파일로 합침
+ * - 읽기/쓰기는 {name}.lock 파일 잠금(ProcessLock)을 잡고 수행하므로 다른 프로세스와 겹치지 않음
+ * - 다른 프로세스의 변경은 잠금 파일의 버전으로 감지하고, 잠금을 거치지 않은 수정은 파일 스탬프(stat)로 감지
+ * - 마지막 로드 이후 다른 프로세스가 기록했다면 기록 시 디스크 내용에 이번 변경을 덮어써 합친 뒤
+ *   메모리 테이블을 다시 읽게 함 (다른 프로세스의 변경을 덮어써 잃지 않음)
+ * - 체크섬이 맞지 않는 레코드는 건너뛰고 {파일}.quarantine에 격리한 뒤 남은 레코드로 기준 파일을 다시 기록
+ *
+ * @param <T> 엔티티 타입
+ */
+final class FileTableStore<T> implements TableStore<T> {
+
+    private final TableSpec<T> spec;
+    private final Path directory;
+    private final Path path;
+    private final Path jsonPath;
+    private final SnapshotFormat format;
+
+    // 저널 파일 (스냅샷 모드에서도 남은 저널 정리에 사용)
+    private final EntityJournal journal;
+    private final boolean journaling;
+
+    // JSON 코덱 (가져오기용)과 기준 파일 형식의 코덱
+    private final EntityCodec<T> jsonCodec;
+    private final SnapshotCodec<T> codec;
+
+    // 마지막으로 읽거나 쓴 시점의 파일 상태 (null = 아직 로드 전)
+    private volatile EntityTable.FileStamp stamp;
+    private volatile EntityTable.FileStamp journalStamp;
+
+    // 프로세스 간 잠금 + 버전 (처음 읽거나 쓸 때 엶 - exists()만 확인하는 경우 잠금 파일을 만들지 않음)
+    private volatile ProcessLock lock;
+
+    // 마지막으로 읽거나 쓴 시점의 잠금 파일 버전
+    private volatile long syncedVersion = -1L;
+
+    // 다른 프로세스의 변경과 합쳐 기록했는지 (markSynced 대신 다시 읽게 함)
+    private volatile boolean merged;
+
+    FileTableStore(TableSpec<T> spec, Path directory, StorageMode mode, SnapshotFormat format) {
+        this.spec = spec;
+        this.directory = directory;
+        this.format = format;
+        this.path = directory.resolve(spec.name() + format.getExtension()).toAbsolutePath().normalize();
+        this.jsonPath = path.resolveSibling(spec.name() + SnapshotFormat.JSON.getExtension());
+        this.journal = new EntityJournal(directory.resolve(spec.name() + ".journal"));
+        this.journaling = mode == StorageMode.JOURNAL;
+        this.jsonCodec = new EntityCodec<>(spec.gson(), spec.entityClass());
+        this.codec = format == SnapshotFormat.BINARY
+                ? new BinarySnapshotCodec<>(spec.gson(), spec.entityClass())
+                : jsonCodec;
+    }
+
+    @Override
+    public String getName() {
+        return path.getFileName().toString();
+    }
+
+    /**
+     * 기준 파일(또는 가져올 JSON 파일)에 내용이 있는지 (stat만으로 판단)
+     */
+    @Override
+    public boolean exists() {
+        return hasContent(path) || (format != SnapshotFormat.JSON && hasContent(jsonPath));
+    }
+
+    /**
+     * 파일(+ 저널)을 읽어 rows를 채움
+     * - 저널이 현재 기준 파일에 이어 붙은 것이면 순서대로 재생
+     * - 기준 파일이 바뀌었거나 없어졌다면 저널은 버림
+     * - 가져온 JSON, 쓰다 만 저널, 임계치를 넘은 저널은 바로 기준 파일로 압축
+     */
+    @Override
+    public long load(Map<Long, T> rows) {
+        ProcessLock processLock = lock();
+        return processLock.locked(() -> {
+            long maxId = loadLocked(rows);
+            syncedVersion = processLock.version();
+            return maxId;
+        });
+    }
+
+    private long loadLocked(Map<Long, T> rows) {
+        // BINARY 형식인데 .bin이 아직 없으면 기존 JSON 파일을 기준 파일로 삼아 가져옴
+        Path source = path;
+        boolean importing = false;
+        if (format != SnapshotFormat.JSON && !Files.exists(path) && Files.exists(jsonPath)) {
+            source = jsonPath;
+            importing = true;
+        }
+
+        List<DamagedRecord> damaged = new ArrayList<>();
+        readFile(source, importing ? jsonCodec : codec, entity -> rows.put(spec.idOf().apply(entity), entity),
+                damaged::add);
+        Quarantine.record(source, damaged);
+        long[] maxId = {Math.max(maxId(rows.keySet()), Quarantine.maxIdHint(damaged))};
+
+        // 손상 레코드를 격리했으면 다음 시작 때 다시 격리하지 않도록 바로 기준 파일로 다시 기록
+        boolean needsCompaction = importing || !damaged.isEmpty();
+        boolean replayed = false;
+        if (journal.matches(EntityTable.FileStamp.of(source))) {
+            boolean clean = journal.replay(record -> {
+                Long id = record.get("id").getAsLong();
+                maxId[0] = Math.max(maxId[0], id);
+                if (EntityJournal.OP_PUT.equals(record.get("op").getAsString())) {
+                    rows.put(id, spec.gson().fromJson(record.get("data"), spec.entityClass()));
+                } else {
+                    rows.remove(id);
+                }
+            });
+            replayed = true;
+            // 쓰다 만 레코드 뒤에 이어 쓰지 않도록 바로 압축
+            needsCompaction = needsCompaction || !clean || !journaling
+                    || journal.size() >= spec.compactionThreshold();
+        } else if (journaling) {
+            journal.discard();
+        }
+
+        if (needsCompaction) {
+            writeSnapshot(rows.values());
+            if (journaling) {
+                journal.reset(EntityTable.FileStamp.of(path));
+            } else if (replayed) {
+                journal.discard();
+            }
+            lock().bump();
+        }
+        return maxId[0];
+    }
+
+
+    /**
+     * 대기 중인 변경을 파일에 반영
+     * - 스냅샷 모드: 전체 파일을 임시 파일에 기록 후 원자적으로 교체
+     * - 저널 모드: 모인 레코드를 한 번에 추가 + fsync, 임계치를 넘으면 압축
+     */
+    @Override
+    public boolean write(List<JsonObject> records, Collection<T> current) {
+        ProcessLock processLock = lock();
+        return processLock.locked(() -> {
+            boolean snapshotWritten = processLock.version() != syncedVersion
+                    ? mergeLocked(records)
+                    : writeLocked(records, current);
+            syncedVersion = processLock.bump();
+            return snapshotWritten;
+        });
+    }
+
+    private boolean writeLocked(List<JsonObject> records, Collection<T> current) {
+        if (!journaling) {
+            writeSnapshot(current);
+            return true;
+        }
+        if (!journal.isOpen() || journal.size() + records.size() > spec.compactionThreshold()) {
+            // 저널이 아직 없거나 충분히 쌓였으면 현재 상태 전체를 기준 파일로 압축
+            writeSnapshot(current);
+            journal.reset(EntityTable.FileStamp.of(path));
+            return true;
+        }
+        journal.append(records);
+        return false;
+    }
+
+    /**
+     * 마지막 로드 이후 다른 프로세스가 기록한 경우 - 디스크의 최신 내용에 이번 변경만 덮어써 기록
+     * 메모리 테이블에는 다른 프로세스의 변경이 없으므로 markSynced 대신 다시 읽도록 표시
+     */
+    private boolean mergeLocked(List<JsonObject> records) {
+        Map<Long, T> rows = new LinkedHashMap<>();
+        loadLocked(rows);
+        for (JsonObject record : records) {
+            Long id = record.get("id").getAsLong();
+            if (EntityJournal.OP_PUT.equals(record.get("op").getAsString())) {
+                rows.put(id, spec.gson().fromJson(record.get("data"), spec.entityClass()));
+            } else {
+                rows.remove(id);
+            }
+        }
+        writeSnapshot(rows.values());
+        if (journaling) {
+            journal.reset(EntityTable.FileStamp.of(path));
+        }
+        merged = true;
+        return true;
+    }
+
+    /**
+     * 다른 프로세스가 기록한 뒤라면 메모리 내용으로 덮어쓰지 않고 건너뜀 (다음 접근 때 다시 읽음)
+     */
+    @Override
+    public boolean compact(Collection<T> current) {
+        if (!journaling) {
+            return false;
+        }
+        ProcessLock processLock = lock();
+        return processLock.locked(() -> {
+            if (processLock.version() != syncedVersion) {
+                return false;
+            }
+            writeSnapshot(current);
+            journal.reset(EntityTable.FileStamp.of(path));
+            syncedVersion = processLock.bump();
+            return true;
+        });
+    }
+
+    /**
+     * 파일 전체를 읽는 대신 stat 한 번으로 판단 (삭제 포함)
+     */
+    @Override
+    public boolean isStale() {
+        EntityTable.FileStamp current = stamp;
+        if (current == null || lock().version() != syncedVersion
+                || !current.equals(EntityTable.FileStamp.of(path))) {
+            return true;
+        }
+        return journaling && !journalStamp.equals(EntityTable.FileStamp.of(journal.getPath()));
+    }
+
+    @Override
+    public void markSynced() {
+        if (merged) {
+            merged = false;
+            stamp = null;
+            return;
+        }
+        if (journaling) {
+            journalStamp = EntityTable.FileStamp.of(journal.getPath());
+        }
+        stamp = EntityTable.FileStamp.of(path);
+    }
+
+    @Override
+    public void drop() {
+        ProcessLock processLock = lock();
+        processLock.locked(() -> {
+            try {
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(jsonPath);
+                journal.discard();
+                syncedVersion = processLock.bump();
+            } catch (IOException e) {
+                throw new RuntimeException("데이터 파일 삭제 실패: " + path, e);
+            }
+        });
+    }
+
+    private ProcessLock lock() {
+        ProcessLock current = lock;
+        if (current == null) {
+            current = ProcessLock.of(directory, spec.name());
+            lock = current;
+        }
+        return current;
+    }
+
+    /**
+     * 파일에서 엔티티 로드 (원소 단위 스트리밍 파싱 / 바이너리는 메모리 매핑)
+     * UTF-8 인코딩을 명시적으로 지정하여 맥/윈도우 호환성 보장
+     * 체크섬이 맞지 않는 레코드는 건너뛰고 damaged에 전달
+     */
+    private static <T> void readFile(Path file, SnapshotCodec<T> reader, Consumer<T> consumer,
+                                     Consumer<DamagedRecord> damaged) {
+        // 파일이 없으면 빈 테이블
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try {
+            reader.read(file, consumer, damaged);
+        } catch (IOException | JsonParseException e) {
+            throw new RuntimeException("데이터 파일 읽기 실패: " + file, e);
+        }
+    }
+
+    /**
+     * 엔티티 전체를 기준 파일에 저장 (compact JSON 또는 바이너리, 스트리밍 기록)
+     * 임시 파일에 기록 + fsync 후 rename하므로 도중에 종료되어도 기존 파일이 깨지지 않음
+     */
+    private void writeSnapshot(Collection<T> entities) {
+        try {
+            DurableFiles.replace(path, temp -> codec.write(temp, entities));
+        } catch (IOException e) {
+            throw new RuntimeException("데이터 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    private static boolean hasContent(Path file) {
+        EntityTable.FileStamp fileStamp = EntityTable.FileStamp.of(file);
+        return fileStamp.exists() && fileStamp.size() > 0;
+    }
+
+    private static long maxId(Collection<Long> ids) {
+        long max = 0L;
+        for (Long id : ids) {
+            if (id != null && id > max) {
+                max = id;
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,123 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 그룹 커밋(group commit) 처리기 - 테이블마다 하나
+ * - 저장/삭제 요청은 메모리에 반영된 뒤 여기에 "디스크 반영 대기"로 등록됨
+ * - 대기 중인 요청을 한 번에 모아 한 번의 파일 기록 + fsync로 처리
+ * - 기록이 진행되는 동안 들어온 요청은 다음 기록에 함께 묶임
+ * - 각 요청자는 CompletableFuture로 디스크 반영 완료를 통보받음
+ */
+class GroupCommitter {
+
+    // 모든 테이블이 공유하는 기록 스레드 (데몬)
+    private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+            new CommitThreadFactory());
+
+    private final Consumer<List<JsonObject>> flushAction;
+    private final long windowMillis;
+
+    private final Object monitor = new Object();
+    private List<Pending> pending = new ArrayList<>();
+    private boolean busy; // 기록 예약 또는 진행 중
+
+    /**
+     * @param flushAction  대기 중인 요청을 디스크에 반영하는 동작 (저널 레코드 목록을 받음)
+     * @param windowMillis 첫 요청 이후 추가 요청을 기다리는 시간 (0이면 즉시 기록)
+     */
+    GroupCommitter(Consumer<List<JsonObject>> flushAction, long windowMillis) {
+        this.flushAction = flushAction;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 디스크 반영 대기 등록 (저장/삭제 한 번 = 요청 하나, 일괄 저장이면 여러 레코드)
+     * 한 요청의 레코드들은 항상 같은 기록에 함께 포함됨
+     *
+     * @param journalRecords 변경 레코드 목록 (저널에 추가하거나 다른 프로세스의 기록과 합칠 때 사용)
+     * @return 이 요청이 포함된 기록이 끝나면 완료되는 handle
+     */
+    CompletableFuture<Void> submitAll(List<JsonObject> journalRecords) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (monitor) {
+            pending.add(new Pending(journalRecords, future));
+            if (!busy) {
+                busy = true;
+                EXECUTOR.schedule(this::run, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * 아직 디스크에 반영되지 않은 요청이 있는지
+     * (이 동안에는 파일이 바뀌어도 외부 변경으로 보지 않음)
+     */
+    boolean isBusy() {
+        synchronized (monitor) {
+            return busy;
+        }
+    }
+
+    private void run() {
+        List<Pending> batch;
+        synchronized (monitor) {
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+
+        List<JsonObject> records = new ArrayList<>();
+        for (Pending p : batch) {
+            records.addAll(p.journalRecords());
+        }
+
+        Throwable failure = null;
+        try {
+            flushAction.accept(records);
+        } catch (Throwable t) {
+            failure = t;
+        }
+
+        synchronized (monitor) {
+            if (pending.isEmpty()) {
+                busy = false;
+            } else {
+                EXECUTOR.schedule(this::run, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        for (Pending p : batch) {
+            if (failure == null) {
+                p.future().complete(null);
+            } else {
+                p.future().completeExceptionally(failure);
+            }
+        }
+    }
+
+    private record Pending(List<JsonObject> journalRecords, CompletableFuture<Void> future) {
+    }
+
+    private static class CommitThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "repository-commit-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.webtoon.common.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Repository별 단조 증가 ID 시퀀스
+ * - 로드 시 한 번만 복구하고, 이후 ID 발급은 AtomicLong 증가로 처리 (전체 스캔 없음)
+ * - 삭제된 ID가 다시 발급되지 않도록 마지막 발급 값을 {fileName}.seq 파일에 보관
+ * - .seq 파일은 파일에 남은 최대 ID만으로 복구할 수 없을 때(마지막 ID 삭제 등)만 기록
+ * - 샤드로 나눈 Repository는 샤드끼리 시퀀스 하나를 공유하고, 발급 전에 blockSize만큼 미리 예약해 기록
+ *   (.seq 값이 항상 발급한 ID 이상이므로 모든 샤드를 읽지 않아도 복구 가능)
+ * - 경로가 null이면(영구 저장하지 않는 엔진) .seq 파일 없이 메모리에서만 발급
+ * - 같은 데이터 디렉터리를 쓰는 다른 프로세스와 겹치지 않도록 {fileName}.seq.lock의 공유 카운터(ProcessLock)를
+ *   잠금 안에서 LEASE_SIZE만큼 올려 ID 묶음을 예약하고, 예약한 범위 안에서는 잠금 없이 발급
+ *   (프로세스끼리 ID 순서는 섞일 수 있고, 쓰지 못한 예약분은 release() 전에 종료되면 비어 있는 번호로 남음)
+ */
+class IdSequence {
+
+    // 공유 카운터 잠금 한 번에 예약하는 ID 수
+    static final long LEASE_SIZE = 64L;
+
+    private final Path path;
+
+    // 마지막으로 발급(또는 관측)한 ID
+    private final AtomicLong last = new AtomicLong();
+
+    // .seq 파일에 기록된 값 (중복 기록 방지, 예약 모드에서는 예약한 상한)
+    private volatile long persisted;
+
+    // 한 번에 예약할 ID 수 (0이면 예약하지 않음)
+    private final long blockSize;
+
+    // 예약 모드에서 이미 복구했는지 (이후 샤드 로드는 최대 ID만 반영)
+    private boolean recovered;
+
+    // 프로세스 간 공유 카운터 (처음 발급할 때 엶, 경로가 null이면 사용하지 않음)
+    private volatile ProcessLock shared;
+
+    // 공유 카운터에서 예약한 범위의 끝 (last가 여기에 닿으면 다음 묶음을 예약)
+    private long leaseEnd;
+
+    IdSequence(Path path) {
+        this(path, 0L);
+    }
+
+    IdSequence(Path path, long blockSize) {
+        this.path = path;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 시퀀스 복구 (테이블 로드 시 한 번 호출)
+     * - 기준 파일이 있으면 max(파일/저널의 최대 ID, .seq 값)
+     * - 기준 파일이 없으면 새 저장소이므로 남아 있던 .seq 파일은 버림
+     * - 예약 모드에서는 처음 한 번만 복구하고, 이후(다른 샤드 로드)에는 최대 ID만 반영
+     */
+    synchronized void recover(long maxId, boolean baseExists) {
+        if (blockSize > 0 && recovered) {
+            observe(maxId);
+            return;
+        }
+        recovered = true;
+        long stored = 0L;
+        if (baseExists) {
+            stored = readStored();
+        } else {
+            discard();
+            // 새 저장소이므로 이전 저장소에서 쓰던 공유 카운터도 되돌림
+            if (path != null) {
+                ProcessLock processLock = shared();
+                processLock.locked(() -> processLock.counter(maxId));
+            }
+        }
+        persisted = stored;
+        last.set(Math.max(maxId, stored));
+        leaseEnd = 0L;
+    }
+
+    /**
+     * 다음 ID 발급
+     */
+    long next() {
+        long id = path == null ? last.incrementAndGet() : nextShared();
+        reserve(id);
+        return id;
+    }
+
+    /**
+     * 외부에서 ID를 지정해 저장한 경우, 이후 발급 ID가 겹치지 않도록 반영
+     * (다른 프로세스가 이미 예약한 범위 안의 ID를 지정하면 그 프로세스의 발급과 겹칠 수 있음)
+     */
+    void observe(long id) {
+        last.accumulateAndGet(id, Math::max);
+        if (path != null && id > shared().counter()) {
+            ProcessLock processLock = shared();
+            processLock.locked(() -> {
+                if (id > processLock.counter()) {
+                    processLock.counter(id);
+                }
+            });
+        }
+        reserve(id);
+    }
+
+    long current() {
+        return last.get();
+    }
+
+    /**
+     * 스냅샷 기록 직후 호출 - 파일에 남은 최대 ID보다 시퀀스가 앞서 있으면 .seq 파일에 기록
+     *
+     * @param value    스냅샷 시점의 시퀀스 값
+     * @param maxRowId 스냅샷에 포함된 최대 ID
+     */
+    void persistIfAhead(long value, long maxRowId) {
+        // 예약 모드에서는 발급 전에 이미 기록됨
+        if (blockSize > 0 || value <= maxRowId || value <= persisted) {
+            return;
+        }
+        write(value);
+    }
+
+    /**
+     * 쓰지 않은 예약분을 공유 카운터에 돌려줌 (종료/재시작 전에 호출)
+     * 이후 다른 프로세스가 예약하지 않았을 때만 되돌리므로 다른 프로세스의 범위와 겹치지 않음
+     */
+    synchronized void release() {
+        if (path == null || leaseEnd == 0L) {
+            return;
+        }
+        ProcessLock processLock = shared();
+        processLock.locked(() -> {
+            if (processLock.counter() == leaseEnd && last.get() < leaseEnd) {
+                processLock.counter(last.get());
+            }
+        });
+        leaseEnd = 0L;
+    }
+
+    /**
+     * 예약한 범위 안에서 다음 ID 발급 (범위를 다 쓰면 공유 카운터 잠금 안에서 다음 묶음을 예약)
+     * 다른 프로세스가 예약/발급한 ID보다 큰 범위를 예약하므로 겹치지 않음
+     */
+    private synchronized long nextShared() {
+        while (true) {
+            if (last.get() >= leaseEnd) {
+                ProcessLock processLock = shared();
+                processLock.locked(() -> {
+                    long start = Math.max(last.get(), processLock.counter());
+                    leaseEnd = start + LEASE_SIZE;
+                    processLock.counter(leaseEnd);
+                    last.accumulateAndGet(start, Math::max);
+                });
+            }
+            long id = last.incrementAndGet();
+            // observe()가 그사이 예약 범위 밖으로 올렸으면 새 범위를 예약해 다시 발급
+            if (id <= leaseEnd) {
+                return id;
+            }
+        }
+    }
+
+    private ProcessLock shared() {
+        ProcessLock current = shared;
+        if (current == null) {
+            current = ProcessLock.of(path.resolveSibling(path.getFileName() + ProcessLock.EXTENSION));
+            shared = current;
+        }
+        return current;
+    }
+
+    /**
+     * 예약 모드에서 발급할 ID가 예약 범위를 넘으면 다음 블록을 예약해 .seq 파일에 기록
+     * (블록마다 fsync 한 번이므로 발급 대부분은 메모리에서 끝남)
+     */
+    private void reserve(long id) {
+        if (blockSize == 0 || id <= persisted) {
+            return;
+        }
+        synchronized (this) {
+            if (id > persisted) {
+                write(id + blockSize);
+            }
+        }
+    }
+
+    private synchronized void write(long value) {
+        if (path == null) {
+            persisted = value;
+            return;
+        }
+        byte[] bytes = Long.toString(value).getBytes(StandardCharsets.UTF_8);
+        try {
+            DurableFiles.replace(path, temp -> {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+            });
+            persisted = value;
+        } catch (IOException e) {
+            throw new RuntimeException("시퀀스 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    private long readStored() {
+        if (path == null || !Files.exists(path)) {
+            return 0L;
+        }
+        String content;
+        try {
+            content = Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("시퀀스 파일 읽기 실패: " + path, e);
+        }
+        try {
+            return Long.parseLong(content.trim());
+        } catch (NumberFormatException e) {
+            // 손상된 시퀀스 파일 - 원문은 격리해 두고 파일에 남은 최대 ID 기준으로 복구
+            Quarantine.record(path, List.of(new DamagedRecord(0L, "시퀀스 값 손상", content)));
+            discard();
+            return 0L;
+        }
+    }
+
+    private void discard() {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new RuntimeException("시퀀스 파일 삭제 실패: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.webtoon.common.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 보조 인덱스 키를 바이트열로 인코딩 - 부호 없는 바이트 순서가 키 값의 순서와 같음
+ * - LSM 엔진은 이 바이트열로 인덱스 항목 키를 만들어 구간을 그대로 읽고, 상주 테이블은 구간 비교에 사용
+ * - 복합 키는 List로 선언 (예: List.of(readerId, episodeId)) - 부분마다 스스로 끝이 구분되므로
+ *   앞부분만 인코딩한 값은 전체 키 인코딩의 접두사가 됨 (앞부분만으로 구간 조회 가능)
+ *
+ * 키 부분 인코딩
+ *   정수(Long/Integer/Short/Byte), Boolean : [0x10][부호 반전 big-endian 8바이트]
+ *   그 외 (문자열, enum은 name())         : [0x20][UTF-8, 0x00은 0x00 0xFF로][0x00 0x00]
+ */
+final class IndexKeys {
+
+    private static final int NUMBER = 0x10;
+    private static final int TEXT = 0x20;
+
+    private IndexKeys() {
+    }
+
+    /**
+     * 키 값(단일 값 또는 복합 키 List)을 바이트열로 인코딩 (null이면 null = 색인하지 않음)
+     */
+    static byte[] encode(Object key) {
+        if (key == null) {
+            return null;
+        }
+        List<?> parts = key instanceof List<?> list ? list : List.of(key);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Object part : parts) {
+            if (part == null) {
+                return null;
+            }
+            writePart(out, part);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 키 값이 [from, to] 구간인지 (from/to가 복합 키의 앞부분이면 그 부분이 같은 키 전체를 포함)
+     */
+    static boolean inRange(Object key, Object from, Object to) {
+        byte[] encoded = encode(key);
+        if (encoded == null) {
+            return false;
+        }
+        byte[] end = LsmStore.successor(encode(to));
+        return Arrays.compareUnsigned(encoded, encode(from)) >= 0
+                && (end == null || Arrays.compareUnsigned(encoded, end) < 0);
+    }
+
+    private static void writePart(ByteArrayOutputStream out, Object part) {
+        if (part instanceof Long || part instanceof Integer || part instanceof Short || part instanceof Byte
+                || part instanceof Boolean) {
+            long value = part instanceof Boolean flag ? (flag ? 1L : 0L) : ((Number) part).longValue();
+            out.write(NUMBER);
+            out.writeBytes(ByteBuffer.allocate(Long.BYTES).putLong(value ^ Long.MIN_VALUE).array());
+            return;
+        }
+        String text = part instanceof Enum<?> constant ? constant.name() : part.toString();
+        out.write(TEXT);
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            out.write(b);
+            if (b == 0) {
+                out.write(0xFF);
+            }
+        }
+        out.write(0);
+        out.write(0);
+    }
+}
@@ -2,21 +2,33 @@ package com.webtoon.common.repository;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.webtoon.common.util.LocalDateTimeAdapter;
 
 import java.io.IOException;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 
 import com.webtoon.common.util.UserTypeAdapter;
@@ -24,20 +36,53 @@ import com.webtoon.domain.User;
 /**
  * JSON 파일 기반 Repository 추상 클래스
  * 모든 Repository가 이 클래스를 상속받아 CRUD 기능을 사용
+ * 파일은 최초 접근 시 한 번만 읽어 메모리 테이블(EntityTable)에 상주시키고,
+ * 조회는 메모리 스냅샷에서 락 없이, 저장/삭제는 새 스냅샷 공개 후 파일에 반영한다.
+ * 테이블에는 저장 시점에 직렬화한 복사본을 넣고 조회는 다시 복사본을 돌려주므로,
+ * 조회한 엔티티를 고쳐도 save 전에는 테이블(다른 스레드의 조회, 다음 파일 기록)에 보이지 않는다.
+ * 저장 방식은 StorageMode로 선택 (전체 파일 기록 / 저널 append + 주기적 압축)
+ * 실제 입출력은 StorageEngine이 여는 TableStore가 담당 (기본 file 엔진, memory 엔진이면 파일을 쓰지 않음)
+ * 샤드 기준 인덱스를 선언하면 키 해시로 여러 파일에 나누어 저장 (샤드마다 테이블/락/기록 스레드 분리)
+ * 저장소가 DirectTableStore(lsm 엔진)면 테이블을 상주시키지 않고 ID/보조 인덱스 조회를 저장소에서 바로 처리
  *
  * @param <T> 엔티티 타입
  */
 public abstract class JsonRepository<T> {
 
     // Gson 인스턴스 (LocalDateTime 어댑터 포함)
+    // 파일에는 compact 형식으로 저장하고, 들여쓰기는 exportPretty()에서만 사용
     private static final Gson GSON = new GsonBuilder()
-            .setPrettyPrinting()
             .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
             .registerTypeAdapter(User.class, new UserTypeAdapter())
             .create();
 
-    // 동시성 제어를 위한 ReadWriteLock
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 엔진 + 저장소 이름별 상주 테이블 (같은 저장소를 쓰는 Repository 인스턴스끼리 공유)
+    private static final Map<StoreKey, EntityTable<?>> TABLES = new ConcurrentHashMap<>();
+
+    // 엔진 + 파일명별 ID 시퀀스 (샤드끼리 공유)
+    private static final Map<StoreKey, IdSequence> SEQUENCES = new ConcurrentHashMap<>();
+
+    // 엔진 + 파일명별 보관 저장소 (같은 저장소에 대한 추가를 직렬화)
+    private static final Map<StoreKey, ArchiveStore<?>> ARCHIVES = new ConcurrentHashMap<>();
+
+    // 샤드로 나눈 Repository가 한 번에 예약하는 ID 수
+    private static final long SHARD_SEQUENCE_BLOCK = 1024L;
+
+    // 이 인스턴스가 사용하는 테이블 - 샤드 번호 순 (최초 접근 시 결정, 샤드를 쓰지 않으면 1개)
+    private volatile List<EntityTable<T>> tables;
+
+    // 샤드 수와 샤드 키 추출 함수 (최초 사용 시 결정, 0 = 아직 결정 전)
+    private volatile int shardCount;
+    private volatile Function<T, ?> shardKey;
+
+    // JSON 읽기/쓰기 코덱 (최초 사용 시 생성, 가져오기/내보내기에 사용)
+    private volatile EntityCodec<T> codec;
+
+    // 기준 파일 형식 (최초 사용 시 결정)
+    private volatile SnapshotFormat snapshotFormat;
+
+    // 저장 엔진 (최초 사용 시 결정)
+    private volatile StorageEngine storageEngine;
 
     // 추상 메서드 - 각 구현체가 정의해야 함
     /**
@@ -62,65 +107,333 @@ public abstract class JsonRepository<T> {
     protected abstract void setId(T entity, Long id);
 
     /**
-     * 파일 경로 반환
-     * src/main/resources/data/{fileName}.json
+     * 저장 방식 반환 (기본: 매번 전체 파일 기록)
+     * 쓰기가 잦은 Repository는 JOURNAL로 재정의
      */
-    private String getFilePath() {
-        return "src/main/resources/data/" + getFileName() + ".json";
+    protected StorageMode getStorageMode() {
+        return StorageMode.SNAPSHOT;
+    }
+
+    /**
+     * 저널 모드에서 전체 파일로 압축하기 전까지 쌓아 둘 최대 레코드 수
+     */
+    protected int getCompactionThreshold() {
+        return 1000;
+    }
+
+    /**
+     * 기준 파일 저장 형식 (기본: 시스템 프로퍼티 webtoon.storage.format, 없으면 JSON)
+     * BINARY면 {fileName}.bin으로 저장하고, 기존 {fileName}.json은 처음 로드할 때 가져옴
+     */
+    protected SnapshotFormat getSnapshotFormat() {
+        return SnapshotFormat.configured();
+    }
+
+    /**
+     * 저장 엔진 (기본: StorageEngines.current())
+     * 처음 테이블을 열 때 한 번만 호출되며, 테스트 등에서 엔진을 고정할 때 재정의
+     */
+    protected StorageEngine getStorageEngine() {
+        return StorageEngines.current();
+    }
+
+    /**
+     * 보조 인덱스 선언 (인덱스 이름 → 키 추출 함수)
+     * 선언된 인덱스는 저장/삭제 시 함께 갱신되며 findByIndex()/findByIndexRange()로 조회
+     * 복합 키는 List로 반환 (구간 조회 순서는 IndexKeys 참고)
+     * 예: Map.of("readerId", Rental::getReaderId,
+     *            "readerEpisode", rental -> List.of(rental.getReaderId(), rental.getEpisodeId()))
+     */
+    protected Map<String, Function<T, ?>> getIndexes() {
+        return Map.of();
+    }
+
+    /**
+     * 샤드 기준 인덱스 이름 (기본: null = 나누지 않음)
+     * getIndexes()에 선언한 인덱스 중 하나를 지정하면 키 해시로 getShardCount()개의 파일에 나누어 저장
+     * - 같은 키의 엔티티는 항상 같은 샤드에 있으므로 이 인덱스 조회와 저장은 샤드 하나만 다룸
+     * - 저장 후 키 값이 바뀌지 않는 필드(readerId 등)만 사용해야 함
+     */
+    protected String getShardIndex() {
+        return null;
+    }
+
+    /**
+     * 샤드 수 (기본: 시스템 프로퍼티 webtoon.storage.shards, 없으면 1 = 나누지 않음)
+     * getShardIndex()를 선언한 Repository에만 적용
+     * 1보다 크면 파일은 {fileName}-{샤드 번호}.json, 기존 단일 파일은 처음 열 때 샤드로 옮김
+     */
+    protected int getShardCount() {
+        return Integer.getInteger("webtoon.storage.shards", 1);
+    }
+
+    /**
+     * 엔티티를 테이블에 반영하기 전에 호출 (save/saveAll 공통)
+     * 엔티티 파일 밖에 따로 보관할 데이터(본문 등)를 옮길 때 재정의
+     */
+    protected void beforeSave(T entity) {
+    }
+
+    /**
+     * 파일(또는 저널)에서 읽어 들인 엔티티를 테이블에 넣기 전에 호출
+     * 파일에 저장되지 않는 연결 정보(본문 로더 등)를 붙일 때 재정의
+     */
+    protected void afterLoad(T entity) {
+    }
+
+    /**
+     * 샤드 테이블 이름 반환 (샤드를 쓰지 않으면 getFileName()과 같음)
+     * 파일 엔진에서는 src/main/resources/data/{fileName}-{shard}.json
+     */
+    private String getTableName(int shard) {
+        if (shardCount() == 1) {
+            return getFileName();
+        }
+        return getFileName() + "-" + shard;
+    }
+
+    private TableSpec<T> tableSpec(String name) {
+        return new TableSpec<>(name, getEntityClass(), GSON, this::getId,
+                getStorageMode(), snapshotFormat(), getCompactionThreshold(), getIndexes());
+    }
+
+    /**
+     * 시퀀스 파일 경로 반환 (샤드끼리 공유)
+     * src/main/resources/data/{fileName}.seq
+     */
+    private String getSequencePath() {
+        return "src/main/resources/data/" + getFileName() + ".seq";
     }
 
     /**
      * 엔티티 저장 (신규 또는 업데이트)
      * ID가 null이면 자동 생성, 존재하면 업데이트
+     * 메모리 테이블을 먼저 갱신하고, 디스크에 안전하게 반영(fsync)된 뒤 반환
      */
     public T save(T entity) {
-        lock.writeLock().lock();
+        return await(saveAsync(entity));
+    }
+
+    /**
+     * 엔티티 저장 (디스크 반영은 비동기)
+     * 메모리 테이블에는 즉시 반영되며, 반환된 handle은 디스크 반영이 끝나면 완료됨
+     * 동시에 들어온 저장 요청들은 한 번의 기록으로 묶임 (그룹 커밋)
+     */
+    public CompletableFuture<T> saveAsync(T entity) {
+        return saveAllAsync(List.of(entity)).thenApply(saved -> entity);
+    }
+
+    /**
+     * 엔티티 여러 건 일괄 저장 (신규/업데이트 혼합 가능)
+     * 한 번의 락 안에서 메모리에 반영하고, 파일 기록도 한 번으로 처리
+     */
+    public List<T> saveAll(Collection<T> entities) {
+        return await(saveAllAsync(entities));
+    }
+
+    /**
+     * 엔티티 여러 건 일괄 저장 (디스크 반영은 비동기)
+     * 진행 중인 UnitOfWork가 있으면 바로 반영하지 않고 그 트랜잭션에 등록 (commit 때 함께 반영)
+     * 샤드로 나눈 경우 샤드별로 나누어 각 샤드의 락 안에서 반영
+     */
+    public CompletableFuture<List<T>> saveAllAsync(Collection<T> entities) {
+        List<T> saved = new ArrayList<>(entities);
+        if (saved.isEmpty()) {
+            return CompletableFuture.completedFuture(saved);
+        }
+        saved.forEach(this::beforeSave);
+
+        Map<Integer, List<T>> byShard = new TreeMap<>();
+        for (T entity : saved) {
+            byShard.computeIfAbsent(shardOf(entity), shard -> new ArrayList<>()).add(entity);
+        }
+        List<CompletableFuture<Void>> durable = new ArrayList<>();
+        byShard.forEach((shard, shardEntities) -> durable.add(saveToShard(table(shard), shardEntities)));
+        return allOf(durable).thenApply(v -> saved);
+    }
+
+    /**
+     * 한 샤드(테이블)에 엔티티 저장 - ID 발급 후 메모리 반영 또는 UnitOfWork에 등록
+     */
+    private CompletableFuture<Void> saveToShard(EntityTable<T> table, List<T> entities) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        table.writeLock().lock();
         try {
-            List<T> entities = loadFromFile();
-
-            Long id = getId(entity);
-            if (id == null) {
-                // 신규 - ID 자동 생성
-                Long nextId = getNextId();
-                setId(entity, nextId);
-                entities.add(entity);
-            } else {
-                // 업데이트 - 기존 엔티티 교체
-                entities.removeIf(e -> getId(e).equals(id));
-                entities.add(entity);
-            }
-
-            saveToFile(entities);
-            return entity;
+            Map<Long, T> changes = new LinkedHashMap<>();
+            for (T entity : entities) {
+                Long id = getId(entity);
+                if (id == null) {
+                    // 신규 - 시퀀스에서 ID 발급 (O(1))
+                    id = table.sequence().next();
+                    setId(entity, id);
+                } else {
+                    table.sequence().observe(id);
+                }
+                changes.put(id, entity);
+            }
+
+            if (unitOfWork != null) {
+                unitOfWork.stage(this, table, changes);
+                return CompletableFuture.completedFuture(null);
+            }
+            // 신규 추가 또는 기존 엔티티 교체 (인덱스 포함 새 스냅샷 한 번 공개)
+            return applyChanges(table, changes);
         } finally {
-            lock.writeLock().unlock();
+            table.writeLock().unlock();
         }
     }
 
     /**
-     * ID로 엔티티 조회
+     * 엔티티 여러 건 일괄 업데이트
+     */
+    public void updateAll(Collection<T> entities) {
+        saveAll(entities); // saveAll()이 업데이트 로직 포함
+    }
+
+    /**
+     * ID로 엔티티 조회 (현재 스냅샷에서 락 없이 조회, 복사본 반환)
      */
     public Optional<T> findById(Long id) {
-        lock.readLock().lock();
-        try {
-            return loadFromFile().stream()
-                    .filter(e -> getId(e).equals(id))
-                    .findFirst();
-        } finally {
-            lock.readLock().unlock();
+        for (EntityTable<T> table : allTables()) {
+            T entity = find(table, id);
+            if (entity != null) {
+                return Optional.of(table.direct() != null ? entity : copyOf(entity));
+            }
         }
+        return Optional.empty();
     }
 
     /**
-     * 전체 엔티티 조회
+     * 전체 엔티티 조회 (현재 스냅샷 기준, 복사본 반환)
      */
     public List<T> findAll() {
-        lock.readLock().lock();
-        try {
-            return new ArrayList<>(loadFromFile());
-        } finally {
-            lock.readLock().unlock();
+        List<T> result = new ArrayList<>();
+        for (EntityTable<T> table : allTables()) {
+            DirectTableStore<T> direct = table.direct();
+            if (direct != null) {
+                // 저장소에서 바로 읽는 테이블은 이미 새 인스턴스이므로 복사하지 않음
+                direct.forEach(entity -> result.add(loadedCopy(entity)));
+                continue;
+            }
+            for (T entity : table.snapshot().values()) {
+                result.add(copyOf(entity));
+            }
         }
+        return result;
+    }
+
+    /**
+     * 테이블에 들어 있는 인스턴스 그대로 (직렬화/조건 검사처럼 고치지 않는 내부 용도 전용)
+     */
+    private List<T> storedValues() {
+        List<T> result = new ArrayList<>();
+        forEachStored(result::add);
+        return result;
+    }
+
+    /**
+     * 모든 엔티티를 복사하지 않고 차례로 전달 (ID/시각만 읽는 정리 작업처럼 전체를 훑는 내부 용도 전용)
+     * 상주 테이블은 테이블 인스턴스 그대로이므로 받은 엔티티를 고치거나 밖으로 내보내면 안 됨
+     */
+    protected void forEachStored(Consumer<T> consumer) {
+        for (EntityTable<T> table : allTables()) {
+            DirectTableStore<T> direct = table.direct();
+            if (direct != null) {
+                direct.forEach(entity -> consumer.accept(loadedCopy(entity)));
+                continue;
+            }
+            for (T entity : table.snapshot().values()) {
+                consumer.accept(entity);
+            }
+        }
+    }
+
+    /**
+     * 테이블 하나에서 ID로 조회 (상주 테이블은 테이블 인스턴스 그대로, 없으면 null)
+     */
+    private T find(EntityTable<T> table, Long id) {
+        DirectTableStore<T> direct = table.direct();
+        if (direct == null) {
+            return table.snapshot().get(id);
+        }
+        T entity = id != null ? direct.get(id) : null;
+        return entity != null ? loadedCopy(entity) : null;
+    }
+
+    /**
+     * 보조 인덱스로 조회 (일치하는 건수만큼만 접근, 저장 순서 유지, 복사본 반환)
+     * 샤드 기준 인덱스면 해당 샤드 하나만 조회
+     * (저장소에서 바로 읽는 테이블은 ID 순 - ID는 저장 순서대로 발급되므로 새로 저장한 엔티티끼리는 같은 순서)
+     *
+     * @param index getIndexes()에 선언한 인덱스 이름
+     * @param key   찾을 키 값
+     */
+    protected List<T> findByIndex(String index, Object key) {
+        List<EntityTable<T>> targets = shardCount() > 1 && index.equals(getShardIndex())
+                ? List.of(table(shardOfKey(key)))
+                : allTables();
+        List<T> result = new ArrayList<>();
+        for (EntityTable<T> table : targets) {
+            DirectTableStore<T> direct = table.direct();
+            if (direct != null) {
+                direct.scanIndex(index, key, key, entity -> result.add(loadedCopy(entity)));
+                continue;
+            }
+            EntityTable.Snapshot<T> snapshot = table.snapshot();
+            EntityIndex<T> entityIndex = snapshot.index(index);
+            for (Long id : entityIndex.ids(key)) {
+                T entity = snapshot.get(id);
+                if (entity != null) {
+                    result.add(copyOf(entity));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 보조 인덱스 구간 조회 (from 이상 to 이하, 키 순 → 같은 키는 ID 순, 복사본 반환)
+     * 복합 키는 앞부분만 넘기면 그 부분이 같은 키 전체를 뜻함
+     * 예: findByIndexRange("readerEpisode", List.of(readerId), List.of(readerId)) → 독자의 모든 회차
+     * 저장소에서 바로 읽는 테이블은 정렬된 인덱스에서 구간만 읽고, 상주 테이블은 행을 훑어 골라냄
+     *
+     * @param index getIndexes()에 선언한 인덱스 이름
+     * @param from  구간 시작 키 (포함)
+     * @param to    구간 끝 키 (포함)
+     */
+    protected List<T> findByIndexRange(String index, Object from, Object to) {
+        Function<T, ?> keyExtractor = getIndexes().get(index);
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("선언되지 않은 인덱스입니다: " + index);
+        }
+        if (IndexKeys.encode(from) == null || IndexKeys.encode(to) == null) {
+            throw new IllegalArgumentException("구간 조회 키는 null일 수 없습니다: " + from + " ~ " + to);
+        }
+        List<T> result = new ArrayList<>();
+        for (EntityTable<T> table : allTables()) {
+            DirectTableStore<T> direct = table.direct();
+            if (direct != null) {
+                direct.scanIndex(index, from, to, entity -> result.add(loadedCopy(entity)));
+                continue;
+            }
+            for (T entity : table.snapshot().values()) {
+                if (IndexKeys.inRange(keyExtractor.apply(entity), from, to)) {
+                    result.add(copyOf(entity));
+                }
+            }
+        }
+        // 샤드가 여럿이거나 상주 테이블이면 순서가 섞이므로 키 → ID 순으로 다시 정렬
+        Comparator<T> byKey = (a, b) -> Arrays.compareUnsigned(
+                IndexKeys.encode(keyExtractor.apply(a)), IndexKeys.encode(keyExtractor.apply(b)));
+        result.sort(byKey.thenComparing(this::getId));
+        return result;
+    }
+
+    /**
+     * 보조 인덱스로 첫 번째 엔티티 조회
+     */
+    protected Optional<T> findFirstByIndex(String index, Object key) {
+        return findByIndex(index, key).stream().findFirst();
     }
 
     /**
@@ -134,65 +447,572 @@ public abstract class JsonRepository<T> {
      * ID로 엔티티 삭제
      */
     public void deleteById(Long id) {
-        lock.writeLock().lock();
+        await(deleteByIdAsync(id));
+    }
+
+    /**
+     * ID로 엔티티 삭제 (디스크 반영은 비동기)
+     */
+    public CompletableFuture<Void> deleteByIdAsync(Long id) {
+        return deleteAllByIdAsync(List.of(id));
+    }
+
+    /**
+     * ID 목록으로 엔티티 일괄 삭제 (없는 ID는 무시)
+     */
+    public void deleteAllById(Collection<Long> ids) {
+        await(deleteAllByIdAsync(ids));
+    }
+
+    /**
+     * ID 목록으로 엔티티 일괄 삭제 (디스크 반영은 비동기)
+     * 진행 중인 UnitOfWork가 있으면 그 트랜잭션에 등록
+     * 샤드로 나눈 경우 ID가 들어 있는 샤드를 찾아 샤드별로 삭제
+     */
+    public CompletableFuture<Void> deleteAllByIdAsync(Collection<Long> ids) {
+        List<EntityTable<T>> targets = allTables();
+        Map<EntityTable<T>, Map<Long, T>> byShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            EntityTable<T> target = targets.get(0);
+            for (EntityTable<T> table : targets) {
+                if (targets.size() > 1 && find(table, id) != null) {
+                    target = table;
+                    break;
+                }
+            }
+            byShard.computeIfAbsent(target, t -> new LinkedHashMap<>()).put(id, null);
+        }
+
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        List<CompletableFuture<Void>> durable = new ArrayList<>();
+        byShard.forEach((table, changes) -> {
+            if (unitOfWork != null) {
+                unitOfWork.stage(this, table, changes);
+                return;
+            }
+            table.writeLock().lock();
+            try {
+                durable.add(applyChanges(table, changes));
+            } finally {
+                table.writeLock().unlock();
+            }
+        });
+        return allOf(durable);
+    }
+
+    /**
+     * 조건에 맞는 엔티티를 압축 보관 파일({fileName}.archive)로 옮기고 테이블에서 삭제
+     * 보관 파일에 먼저 기록(fsync)한 뒤 삭제하므로 도중에 종료되어도 엔티티를 잃지 않음
+     * (보관 후 삭제 전에 종료되면 다음 보관 때 다시 옮겨지고, 조회 시 중복은 하나로 합침)
+     * 조건은 복사본이 아닌 테이블 행에 그대로 적용되므로 엔티티 상태를 바꾸지 않는 읽기만 해야 함
+     *
+     * @return 옮긴 엔티티 수
+     */
+    protected int archiveWhere(Predicate<T> condition) {
+        List<T> targets = new ArrayList<>();
+        for (T entity : storedValues()) {
+            if (condition.test(entity)) {
+                targets.add(entity);
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        archive().append(targets);
+        deleteAllById(targets.stream().map(this::getId).toList());
+        return targets.size();
+    }
+
+    /**
+     * 보관 파일에서 조건에 맞는 엔티티 조회 (보관 순서, 파일 전체를 읽으므로 자주 호출하지 않음)
+     */
+    protected List<T> findArchived(Predicate<T> condition) {
+        Map<Long, T> archived = new LinkedHashMap<>();
+        archive().forEach(entity -> {
+            if (condition.test(entity)) {
+                archived.put(getId(entity), entity);
+            }
+        });
+        return new ArrayList<>(archived.values());
+    }
+
+    /**
+     * 변경을 메모리에 반영하고 디스크 반영 대기로 등록 (쓰기 락을 잡은 상태에서 호출)
+     * UnitOfWork commit도 같은 경로로 반영함
+     * 테이블에는 넘겨받은 인스턴스 대신 지금 상태를 직렬화해 만든 복사본을 넣음
+     * (호출한 쪽이 저장 후에 엔티티를 고쳐도 테이블과 파일 기록에는 섞이지 않음)
+     *
+     * @param changes ID → 엔티티 (값이 null이면 삭제)
+     */
+    CompletableFuture<Void> applyChanges(EntityTable<T> table, Map<Long, T> changes) {
+        DirectTableStore<T> direct = table.direct();
+        if (direct != null) {
+            // 저장소에 바로 반영 (조회에 즉시 보임), 디스크 확정은 그룹 커밋에서
+            List<JsonObject> records = new ArrayList<>();
+            changes.forEach((id, entity) -> records.add(changeRecord(id, entity)));
+            return direct.apply(records)
+                    ? table.committer().submitAll(records)
+                    : CompletableFuture.completedFuture(null);
+        }
+        Map<Long, T> copies = new LinkedHashMap<>();
+        Map<Long, JsonObject> trees = new HashMap<>();
+        changes.forEach((id, entity) -> {
+            if (entity == null) {
+                copies.put(id, null);
+                return;
+            }
+            JsonObject tree = GSON.toJsonTree(entity).getAsJsonObject();
+            trees.put(id, tree);
+            copies.put(id, fromTree(tree));
+        });
+        Map<Long, T> applied = table.apply(copies);
+        if (applied.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // 스냅샷 모드도 다른 프로세스의 기록과 합칠 때 이번 변경이 필요하므로 항상 레코드를 만듦
+        List<JsonObject> records = new ArrayList<>();
+        applied.forEach((id, entity) -> records.add(entity != null
+                ? EntityJournal.put(id, trees.get(id))
+                : EntityJournal.delete(id)));
+        return table.committer().submitAll(records);
+    }
+
+    /**
+     * 테이블 밖으로 내보낼 복사본 (저장소에서 새로 읽은 것과 같게 afterLoad까지 적용)
+     */
+    private T copyOf(T entity) {
+        return fromTree(GSON.toJsonTree(entity));
+    }
+
+    /**
+     * 저장소에서 바로 읽은 새 인스턴스 (복사 없이 afterLoad만 적용)
+     */
+    private T loadedCopy(T entity) {
+        afterLoad(entity);
+        return entity;
+    }
+
+    private T fromTree(JsonElement tree) {
+        T entity = GSON.fromJson(tree, getEntityClass());
+        afterLoad(entity);
+        return entity;
+    }
+
+    /**
+     * 트랜잭션 로그용 변경 레코드 (저널 레코드 + 대상 파일명)
+     */
+    List<JsonObject> transactionRecords(EntityTable<T> table, Map<Long, T> changes) {
+        String file = table.getName();
+        List<JsonObject> records = new ArrayList<>();
+        changes.forEach((id, entity) -> {
+            JsonObject record = changeRecord(id, entity);
+            record.addProperty("file", file);
+            records.add(record);
+        });
+        return records;
+    }
+
+    /**
+     * 변경 한 건을 저널 형식 레코드로 변환 (메모리 반영 시점의 상태로 직렬화)
+     */
+    private static JsonObject changeRecord(Long id, Object entity) {
+        return entity != null
+                ? EntityJournal.put(id, GSON.toJsonTree(entity).getAsJsonObject())
+                : EntityJournal.delete(id);
+    }
+
+    /**
+     * 샤드 하나의 상주 테이블 반환
+     * - 처음 접근하거나 파일이 외부에서 바뀐 경우에만 파일을 다시 읽음
+     */
+    private EntityTable<T> table(int shard) {
+        return loaded(tables().get(shard));
+    }
+
+    /**
+     * 모든 샤드의 상주 테이블 반환 (샤드를 쓰지 않으면 1개)
+     */
+    private List<EntityTable<T>> allTables() {
+        List<EntityTable<T>> current = tables();
+        current.forEach(this::loaded);
+        return current;
+    }
+
+    private EntityTable<T> loaded(EntityTable<T> table) {
+        if (table.isStale()) {
+            table.writeLock().lock();
+            try {
+                if (table.isStale()) {
+                    load(table);
+                }
+            } finally {
+                table.writeLock().unlock();
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 이 Repository가 쓰는 테이블 목록 (아직 저장소를 읽지 않은 상태일 수 있음)
+     */
+    @SuppressWarnings("unchecked")
+    private List<EntityTable<T>> tables() {
+        List<EntityTable<T>> current = tables;
+        if (current == null) {
+            StorageEngine engine = engine();
+            if (engine.isDurable()) {
+                // 이전 실행에서 반영하지 못한 트랜잭션이 있으면 테이블을 읽기 전에 먼저 복구
+                TransactionLog.of(engine.getDataDirectory()).recoverOnce();
+            }
+            int count = shardCount();
+            Path sequencePath = engine.isDurable()
+                    ? Paths.get(getSequencePath()).toAbsolutePath().normalize()
+                    : null;
+            IdSequence sequence = SEQUENCES.computeIfAbsent(new StoreKey(engine, getFileName()),
+                    k -> new IdSequence(sequencePath, count > 1 ? SHARD_SEQUENCE_BLOCK : 0L));
+
+            List<EntityTable<T>> opened = new ArrayList<>();
+            for (int shard = 0; shard < count; shard++) {
+                TableStore<T> store = engine.openTable(tableSpec(getTableName(shard)));
+                opened.add((EntityTable<T>) TABLES.computeIfAbsent(new StoreKey(engine, store.getName()),
+                        k -> createTable(store, sequence)));
+            }
+            current = List.copyOf(opened);
+            if (count > 1) {
+                migrateToShards(current, sequence);
+            }
+            tables = current;
+        }
+        return current;
+    }
+
+    private EntityTable<T> createTable(TableStore<T> store, IdSequence sequence) {
+        EntityTable<T> created = new EntityTable<>(store, sequence, getIndexes());
+        created.attach(new GroupCommitter(records -> flush(created, records), getGroupCommitWindowMillis()));
+        return created;
+    }
+
+    /**
+     * 나누기 전의 단일 테이블이 남아 있으면 샤드로 옮긴 뒤 삭제
+     * 옮기는 도중 종료되어도 단일 테이블이 남아 있으므로 다음 시작 때 다시 옮김 (같은 ID는 덮어씀)
+     */
+    private void migrateToShards(List<EntityTable<T>> shards, IdSequence sequence) {
+        TableStore<T> legacy = engine().openTable(tableSpec(getFileName()));
+        synchronized (TABLES) {
+            if (!legacy.exists()) {
+                return;
+            }
+            Map<Long, T> rows = new LinkedHashMap<>();
+            long legacyMaxId = legacy.load(rows);
+            rows.values().forEach(this::afterLoad);
+            // 샤드를 읽기 전에 단일 테이블의 최대 ID로 공유 시퀀스를 먼저 복구
+            sequence.recover(legacyMaxId, true);
+
+            Map<Integer, Map<Long, T>> byShard = new TreeMap<>();
+            rows.forEach((id, entity) ->
+                    byShard.computeIfAbsent(shardOf(entity), shard -> new LinkedHashMap<>()).put(id, entity));
+            List<CompletableFuture<Void>> durable = new ArrayList<>();
+            byShard.forEach((shard, changes) -> {
+                EntityTable<T> target = loaded(shards.get(shard));
+                target.writeLock().lock();
+                try {
+                    durable.add(applyChanges(target, changes));
+                } finally {
+                    target.writeLock().unlock();
+                }
+            });
+            await(allOf(durable));
+
+            legacy.drop();
+        }
+    }
+
+    /**
+     * 엔티티가 속한 샤드 번호 (샤드를 쓰지 않으면 0)
+     */
+    private int shardOf(T entity) {
+        return shardCount() == 1 ? 0 : shardOfKey(shardKey.apply(entity));
+    }
+
+    private int shardOfKey(Object key) {
+        return Math.floorMod(Objects.hashCode(key), shardCount());
+    }
+
+    /**
+     * 프로세스 간 공유 시퀀스에서 예약해 두고 쓰지 않은 ID를 돌려줌 (애플리케이션 종료 전에 호출)
+     * 호출하지 않고 종료해도 다음 실행의 ID가 건너뛸 뿐 겹치지는 않음
+     */
+    public static void releaseIdLeases() {
+        SEQUENCES.values().forEach(IdSequence::release);
+    }
+
+    /**
+     * 모든 상주 테이블을 비움 (테스트용: 애플리케이션 재시작 흉내)
+     */
+    static void clearTables() {
+        releaseIdLeases();
+        TABLES.clear();
+        SEQUENCES.clear();
+        LsmStore.closeAll();
+        TransactionLog.resetAll();
+    }
+
+    /**
+     * 저장소를 읽어 테이블을 다시 채움 (쓰기 락을 잡은 상태에서 호출)
+     * - 저널 재생/형식 변환/압축은 저장소가 처리
+     * - ID 시퀀스는 읽은 레코드의 최대 ID(삭제 레코드 포함)와 .seq 파일 값으로 복구
+     * - 압축으로 삭제 레코드가 사라져 저장소만으로 시퀀스를 복구할 수 없으면 .seq 파일도 함께 기록
+     */
+    private void load(EntityTable<T> table) {
+        DirectTableStore<T> direct = table.direct();
+        if (direct != null) {
+            // 행은 읽지 않고 저장소만 열어 시퀀스 복구
+            table.sequence().recover(direct.open(), hasStoredData());
+            table.markSynced();
+            return;
+        }
+        Map<Long, T> rows = new LinkedHashMap<>();
+        long maxId = table.store().load(rows);
+        rows.values().forEach(this::afterLoad);
+
+        // 샤드끼리 시퀀스를 공유하므로 다른 샤드에 데이터가 있어도 기존 저장소로 봄
+        table.sequence().recover(maxId, hasStoredData());
+        table.reload(rows);
+        table.sequence().persistIfAhead(table.sequence().current(), maxId(rows.keySet()));
+    }
+
+    /**
+     * 대기 중인 변경을 저장소에 반영 (GroupCommitter 기록 스레드에서 호출)
+     * - 스냅샷 모드: 전체 파일을 임시 파일에 기록 후 원자적으로 교체
+     * - 저널 모드: 모인 레코드를 한 번에 추가 + fsync, 임계치를 넘으면 압축
+     * 기록 시작 시점의 스냅샷을 쓰므로 기록 중에도 조회/저장이 막히지 않음
+     * 쓰기에 실패하면 다음 접근 때 저장소 기준으로 다시 로드하도록 무효화
+     */
+    private void flush(EntityTable<T> table, List<JsonObject> records) {
+        table.commitLock().lock();
         try {
-            List<T> entities = loadFromFile();
-            entities.removeIf(e -> getId(e).equals(id));
-            saveToFile(entities);
+            EntityTable.Snapshot<T> snapshot = table.snapshot();
+            // 스냅샷을 먼저 잡은 뒤 읽으므로 스냅샷 안의 모든 ID 이상
+            long sequence = table.sequence().current();
+            if (table.store().write(records, snapshot.values())) {
+                // 마지막 ID가 삭제되어 기준 파일만으로 시퀀스를 복구할 수 없으면 .seq 파일도 함께 기록
+                table.sequence().persistIfAhead(sequence, maxId(snapshot.ids()));
+            }
+            table.markSynced();
+        } catch (RuntimeException e) {
+            table.invalidate();
+            throw e;
         } finally {
-            lock.writeLock().unlock();
+            table.commitLock().unlock();
         }
     }
 
     /**
-     * 파일에서 엔티티 로드
-     * UTF-8 인코딩을 명시적으로 지정하여 맥/윈도우 호환성 보장
+     * 저널을 기준 파일로 압축 (snapshot + compaction)
+     * 현재 메모리 상태 전체를 기준 파일에 기록하고 저널을 비움
+     * 스냅샷 모드(또는 압축할 것이 없는 엔진)에서는 아무 일도 하지 않음
      */
-    private List<T> loadFromFile() {
-        Path path = Paths.get(getFilePath());
-
-        // 파일이 없으면 빈 리스트 반환
-        if (!Files.exists(path)) {
-            return new ArrayList<>();
+    public void compact() {
+        for (EntityTable<T> table : allTables()) {
+            table.commitLock().lock();
+            try {
+                EntityTable.Snapshot<T> snapshot = table.snapshot();
+                long sequence = table.sequence().current();
+                if (table.store().compact(snapshot.values())) {
+                    table.sequence().persistIfAhead(sequence, maxId(snapshot.ids()));
+                    table.markSynced();
+                }
+            } catch (RuntimeException e) {
+                table.invalidate();
+                throw e;
+            } finally {
+                table.commitLock().unlock();
+            }
         }
+    }
 
+    /**
+     * 그룹 커밋 대기 시간(ms) - 첫 저장 요청 이후 이 시간 동안 들어온 요청을 함께 기록
+     * 기본값 0: 즉시 기록하되, 기록 중에 들어온 요청은 다음 기록에 묶음
+     */
+    protected long getGroupCommitWindowMillis() {
+        return 0L;
+    }
+
+    /**
+     * 현재 데이터를 사람이 읽기 쉬운 들여쓰기 JSON으로 내보내기
+     * (저장 파일 자체는 compact 형식이므로 확인/백업용으로 사용)
+     */
+    public void exportPretty(Path target) {
+        List<T> entities = storedValues();
         try {
-            String json = Files.readString(path, StandardCharsets.UTF_8);
-            Type listType = TypeToken.getParameterized(List.class, getEntityClass()).getType();
-            List<T> entities = GSON.fromJson(json, listType);
-            return entities != null ? entities : new ArrayList<>();
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            codec().write(target, entities, true);
         } catch (IOException e) {
-            throw new RuntimeException("JSON 파일 읽기 실패: " + getFilePath(), e);
+            throw new RuntimeException("JSON 내보내기 실패: " + target, e);
+        }
+    }
+
+    /**
+     * JSON 파일의 엔티티를 가져와 저장 (같은 ID는 덮어씀, 형식과 무관하게 사용 가능)
+     * exportPretty()로 내보낸 파일이나 다른 환경의 JSON 데이터를 옮길 때 사용
+     *
+     * @return 가져온 엔티티 수
+     */
+    public int importJson(Path source) {
+        List<T> entities = new ArrayList<>();
+        try {
+            codec().read(source, entities::add);
+        } catch (IOException | JsonParseException e) {
+            throw new RuntimeException("데이터 파일 읽기 실패: " + source, e);
+        }
+        saveAll(entities);
+        return entities.size();
+    }
+
+    /**
+     * 모든 테이블을 미리 읽고 인덱스를 구성 (시작 시 RepositoryWarmUp에서 호출)
+     * 이미 읽은 테이블은 다시 읽지 않음 (저장소에서 바로 읽는 테이블은 열기만 하므로 0건으로 셈)
+     *
+     * @return 상주 테이블의 엔티티 수
+     */
+    int warmUp() {
+        int count = 0;
+        for (EntityTable<T> table : allTables()) {
+            count += table.snapshot().ids().size();
         }
+        return count;
     }
 
     /**
-     * 파일에 엔티티 저장
-     * UTF-8 인코딩을 명시적으로 지정하여 맥/윈도우 호환성 보장
+     * 저장된 데이터가 있는지 확인 (파일 엔진은 파일을 읽지 않고 stat만으로 판단)
+     * BINARY 형식이면 아직 가져오지 않은 JSON 파일도, 샤드를 쓰면 아직 옮기지 않은 단일 테이블도 데이터로 봄
      */
-    private void saveToFile(List<T> entities) {
-        Path path = Paths.get(getFilePath());
+    public boolean hasStoredData() {
+        List<String> names = new ArrayList<>();
+        names.add(getFileName());
+        if (shardCount() > 1) {
+            for (int shard = 0; shard < shardCount(); shard++) {
+                names.add(getTableName(shard));
+            }
+        }
+        for (String name : names) {
+            if (engine().openTable(tableSpec(name)).exists()) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    /**
+     * 저장 엔진이 데이터를 디스크에 남기는지 (memory 엔진이면 false)
+     * 엔티티 파일 밖의 보조 저장소(본문 등)를 쓸지 판단할 때 사용
+     */
+    protected boolean isDurableStorage() {
+        return engine().isDurable();
+    }
+
+    /**
+     * UnitOfWork 커밋에 쓸 트랜잭션 로그 (엔진의 데이터 디렉터리, 디스크에 남기지 않는 엔진이면 null)
+     */
+    TransactionLog transactionLog() {
+        StorageEngine engine = engine();
+        return engine.isDurable() ? TransactionLog.of(engine.getDataDirectory()) : null;
+    }
+
+    /**
+     * 비동기 handle을 기다리고, 실패 원인은 원래 예외 그대로 전달
+     */
+    private static <R> R await(CompletableFuture<R> future) {
         try {
-            // 디렉토리 생성 (없을 경우)
-            Files.createDirectories(path.getParent());
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-            String json = GSON.toJson(entities);
-            Files.writeString(path, json, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new RuntimeException("JSON 파일 쓰기 실패: " + getFilePath(), e);
+    private EntityCodec<T> codec() {
+        EntityCodec<T> current = codec;
+        if (current == null) {
+            current = new EntityCodec<>(GSON, getEntityClass());
+            codec = current;
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArchiveStore<T> archive() {
+        StorageEngine engine = engine();
+        return (ArchiveStore<T>) ARCHIVES.computeIfAbsent(new StoreKey(engine, getFileName()),
+                k -> engine.openArchive(getFileName(), GSON, getEntityClass()));
+    }
+
+    private StorageEngine engine() {
+        StorageEngine current = storageEngine;
+        if (current == null) {
+            current = Objects.requireNonNull(getStorageEngine(), "storageEngine");
+            storageEngine = current;
+        }
+        return current;
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+        if (futures.size() == 1) {
+            return futures.get(0);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private int shardCount() {
+        int current = shardCount;
+        if (current == 0) {
+            String index = getShardIndex();
+            current = index == null ? 1 : getShardCount();
+            if (current < 1) {
+                throw new IllegalStateException("샤드 수는 1 이상이어야 합니다: " + current);
+            }
+            if (index != null) {
+                Function<T, ?> keyExtractor = getIndexes().get(index);
+                if (keyExtractor == null) {
+                    throw new IllegalStateException("샤드 기준 인덱스가 선언되지 않았습니다: " + index);
+                }
+                shardKey = keyExtractor;
+            }
+            shardCount = current;
+        }
+        return current;
+    }
+
+    private SnapshotFormat snapshotFormat() {
+        SnapshotFormat current = snapshotFormat;
+        if (current == null) {
+            current = Objects.requireNonNull(getSnapshotFormat(), "snapshotFormat");
+            snapshotFormat = current;
+        }
+        return current;
+    }
+
+    /**
+     * 테이블의 최대 ID (시퀀스 기록 판단용, 로드와 기준 파일 기록 시에만 사용)
+     */
+    private static long maxId(Collection<Long> ids) {
+        long max = 0L;
+        for (Long id : ids) {
+            if (id != null && id > max) {
+                max = id;
+            }
         }
+        return max;
     }
 
     /**
-     * 다음 ID 생성 (Auto Increment)
+     * 엔진별 공유 맵의 키 (엔진 인스턴스 + 저장소 이름)
      */
-    private Long getNextId() {
-        List<T> all = loadFromFile();
-        return all.stream()
-                .map(this::getId)
-                .filter(Objects::nonNull)
-                .max(Long::compareTo)
-                .orElse(0L) + 1;
+    private record StoreKey(StorageEngine engine, String name) {
     }
-}
\ No newline at end of file
+}
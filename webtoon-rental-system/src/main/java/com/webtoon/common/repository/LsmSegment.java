@@ -0,0 +1,288 @@
+package com.webtoon.common.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * LsmStore의 불변 정렬 세그먼트 파일 (seg-{번호}.sst)
+ * - 레코드는 키 오름차순 (바이트 단위 부호 없는 비교), 한 번 기록한 뒤에는 바뀌지 않음 (병합 시 새 파일로 대체)
+ * - 레코드 INDEX_INTERVAL개마다 (키, 위치)를 희소 인덱스에 남겨 두고 메모리에 올림
+ *   → 조회는 희소 인덱스 이진 탐색 + 블록 하나(최대 INDEX_INTERVAL개) 읽기
+ *
+ * 파일 구조
+ *   ([키 길이 int][값 길이 int, -1 = 삭제 표시][키 바이트][값 바이트]) × 레코드 수
+ *   ([키 길이 int][키 바이트][위치 long]) × 인덱스 수
+ *   [인덱스 위치 long][인덱스 수 int][레코드 수 int][최대 ID long][magic "WTS2"]
+ */
+final class LsmSegment {
+
+    // 희소 인덱스 간격 (블록당 레코드 수)
+    static final int INDEX_INTERVAL = 64;
+
+    private static final int MAGIC = 0x57545332; // "WTS2"
+    private static final int FOOTER_SIZE = 8 + 4 + 4 + 8 + 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final byte[][] indexKeys;
+    private final long[] indexOffsets;
+    private final long dataEnd;
+    private final int recordCount;
+    private final long maxId;
+
+    private LsmSegment(Path path, FileChannel channel, byte[][] indexKeys, long[] indexOffsets,
+                       long dataEnd, int recordCount, long maxId) {
+        this.path = path;
+        this.channel = channel;
+        this.indexKeys = indexKeys;
+        this.indexOffsets = indexOffsets;
+        this.dataEnd = dataEnd;
+        this.recordCount = recordCount;
+        this.maxId = maxId;
+    }
+
+    /**
+     * 세그먼트 파일 열기 (꼬리말과 희소 인덱스만 읽음)
+     */
+    static LsmSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < FOOTER_SIZE) {
+                throw new IOException("세그먼트 파일이 너무 짧습니다: " + path);
+            }
+            ByteBuffer footer = read(channel, size - FOOTER_SIZE, FOOTER_SIZE);
+            long indexOffset = footer.getLong();
+            int indexCount = footer.getInt();
+            int recordCount = footer.getInt();
+            long maxId = footer.getLong();
+            if (footer.getInt() != MAGIC) {
+                throw new IOException("세그먼트 파일 형식이 아닙니다: " + path);
+            }
+
+            ByteBuffer index = read(channel, indexOffset, (int) (size - FOOTER_SIZE - indexOffset));
+            byte[][] keys = new byte[indexCount][];
+            long[] offsets = new long[indexCount];
+            for (int i = 0; i < indexCount; i++) {
+                keys[i] = new byte[index.getInt()];
+                index.get(keys[i]);
+                offsets[i] = index.getLong();
+            }
+            return new LsmSegment(path, channel, keys, offsets, indexOffset, recordCount, maxId);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 정렬된 레코드를 세그먼트 파일로 기록 (닫기 전에 fsync, 임시 파일 + rename은 호출 측에서)
+     *
+     * @param entries        키 오름차순 레코드 (값이 LsmStore.TOMBSTONE이면 삭제 표시)
+     * @param dropTombstones 더 오래된 세그먼트가 없어 삭제 표시를 남길 필요가 없으면 true
+     * @param maxId          입력이 지금까지 본 최대 ID (삭제 포함, 시퀀스 복구용)
+     */
+    static void write(Path path, Iterator<Map.Entry<byte[], byte[]>> entries, boolean dropTombstones, long maxId)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_SIZE));
+
+            ByteBuffer index = ByteBuffer.allocate(1024);
+            int indexCount = 0;
+            int count = 0;
+            long position = 0L;
+            while (entries.hasNext()) {
+                Map.Entry<byte[], byte[]> entry = entries.next();
+                byte[] key = entry.getKey();
+                byte[] value = entry.getValue();
+                boolean tombstone = value == LsmStore.TOMBSTONE;
+                if (tombstone && dropTombstones) {
+                    continue;
+                }
+                if (count % INDEX_INTERVAL == 0) {
+                    if (index.remaining() < 12 + key.length) {
+                        index = ByteBuffer.allocate(Math.max(index.capacity() * 2, index.position() + 12 + key.length))
+                                .put(index.flip());
+                    }
+                    index.putInt(key.length).put(key).putLong(position);
+                    indexCount++;
+                }
+                out.writeInt(key.length);
+                out.writeInt(tombstone ? -1 : value.length);
+                out.write(key);
+                if (!tombstone) {
+                    out.write(value);
+                }
+                position += 8 + key.length + (tombstone ? 0 : value.length);
+                count++;
+            }
+
+            out.write(index.array(), 0, index.position());
+            out.writeLong(position);
+            out.writeInt(indexCount);
+            out.writeInt(count);
+            out.writeLong(maxId);
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long maxId() {
+        return maxId;
+    }
+
+    int size() {
+        return recordCount;
+    }
+
+    /**
+     * 키 하나 조회 (없으면 null, 삭제 표시면 LsmStore.TOMBSTONE)
+     */
+    byte[] get(byte[] key) throws IOException {
+        int block = floorBlock(key);
+        if (block < 0) {
+            return null;
+        }
+        ByteBuffer buffer = readBlock(block);
+        while (buffer.hasRemaining()) {
+            byte[] current = new byte[buffer.getInt()];
+            int length = buffer.getInt();
+            buffer.get(current);
+            int order = Arrays.compareUnsigned(current, key);
+            if (order == 0) {
+                return value(buffer, length);
+            }
+            if (order > 0) {
+                return null;
+            }
+            buffer.position(buffer.position() + Math.max(length, 0));
+        }
+        return null;
+    }
+
+    /**
+     * [from, to) 구간의 레코드를 키 오름차순으로 순회 (삭제 표시 포함, 블록 단위로 읽음)
+     *
+     * @param to 구간 끝 (포함하지 않음, null이면 끝까지)
+     */
+    Iterator<Map.Entry<byte[], byte[]>> iterator(byte[] from, byte[] to) {
+        return new Iterator<>() {
+            private int block = Math.max(floorBlock(from), 0);
+            private ByteBuffer buffer;
+            private Map.Entry<byte[], byte[]> next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Map.Entry<byte[], byte[]> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Map.Entry<byte[], byte[]> current = next;
+                next = advance();
+                return current;
+            }
+
+            private Map.Entry<byte[], byte[]> advance() {
+                try {
+                    while (true) {
+                        if (buffer == null || !buffer.hasRemaining()) {
+                            if (block >= indexOffsets.length) {
+                                return null;
+                            }
+                            buffer = readBlock(block++);
+                        }
+                        byte[] key = new byte[buffer.getInt()];
+                        int length = buffer.getInt();
+                        buffer.get(key);
+                        if (to != null && Arrays.compareUnsigned(key, to) >= 0) {
+                            block = indexOffsets.length;
+                            buffer = null;
+                            return null;
+                        }
+                        byte[] value = value(buffer, length);
+                        if (Arrays.compareUnsigned(key, from) >= 0) {
+                            return new AbstractMap.SimpleImmutableEntry<>(key, value);
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException("세그먼트 파일 읽기 실패: " + path, e);
+                }
+            }
+        };
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 닫기 실패는 무시 (읽기 전용 채널)
+        }
+    }
+
+    /**
+     * key 이하의 첫 키를 가진 블록 번호 (모든 블록이 key보다 크면 -1)
+     */
+    private int floorBlock(byte[] key) {
+        int low = 0;
+        int high = indexKeys.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(indexKeys[mid], key) <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private ByteBuffer readBlock(int block) throws IOException {
+        long start = indexOffsets[block];
+        long end = block + 1 < indexOffsets.length ? indexOffsets[block + 1] : dataEnd;
+        return read(channel, start, (int) (end - start));
+    }
+
+    private static byte[] value(ByteBuffer buffer, int length) {
+        if (length < 0) {
+            return LsmStore.TOMBSTONE;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return value;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("세그먼트 파일이 예상보다 짧습니다");
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,388 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * LSM 저장 엔진 - 테이블마다 src/main/resources/data/{name}.lsm/ 디렉터리의 LsmStore에 저장
+ * - 저장/삭제는 변경 건수만큼만 WAL에 추가하므로 테이블 크기와 무관하게 쓰기 비용이 일정
+ * - 행을 메모리에 상주시키지 않고 ID/보조 인덱스 조회를 저장소에서 바로 처리 (DirectTableStore)
+ *   보조 인덱스는 정렬된 인덱스 항목으로 함께 저장하므로 복합 키의 구간 조회도 해당 구간만 읽음
+ * - LSM 저장소가 비어 있고 파일 엔진 데이터({name}.json/.bin + 저널)가 있으면 처음 로드할 때 가져옴
+ *   (기존 파일은 그대로 두므로 file 엔진으로 되돌리면 가져오기 전 상태가 보임)
+ * - 보관 파일은 파일 엔진과 같은 {name}.archive 사용
+ */
+final class LsmStorageEngine implements StorageEngine {
+
+    // 트랜잭션 로그의 file 값으로도 쓰이는 저장소 이름 확장자
+    static final String EXTENSION = ".lsm";
+
+    static final Path DATA_DIR = Paths.get("src/main/resources/data");
+
+    // 가져오기 시 WAL 한 번에 추가할 레코드 수
+    private static final int IMPORT_BATCH = 4096;
+
+    // 행 키(0x00) 외에 쓰는 키의 첫 바이트
+    private static final byte INDEX = 0x01;
+    private static final byte REINDEX = 0x02;
+
+    // 인덱스 항목/재색인 표시의 값 (삭제 표시와 구분되는 빈 값)
+    private static final byte[] PRESENT = new byte[0];
+
+    @Override
+    public String getName() {
+        return "lsm";
+    }
+
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+
+    @Override
+    public Path getDataDirectory() {
+        return DATA_DIR;
+    }
+
+    @Override
+    public <T> TableStore<T> openTable(TableSpec<T> spec) {
+        return new LsmTableStore<>(spec);
+    }
+
+    @Override
+    public <T> ArchiveStore<T> openArchive(String archiveName, Gson gson, Class<T> entityClass) {
+        return new EntityArchive<>(DATA_DIR.resolve(archiveName + ".archive").toAbsolutePath().normalize(),
+                gson, entityClass);
+    }
+
+    /**
+     * 트랜잭션 로그 복구로 행을 직접 기록 (보조 인덱스는 다음에 테이블을 열 때 다시 색인)
+     * 복구 시점에는 인덱스 정의를 모르므로, 행과 함께 같은 WAL 배치에 재색인 표시를 남김
+     */
+    static void recover(Path directory, List<JsonObject> records) {
+        List<LsmStore.Mutation> mutations = new ArrayList<>();
+        for (JsonObject record : records) {
+            mutations.add(LsmStore.Mutation.row(record));
+            mutations.add(new LsmStore.Mutation(reindexKey(record.get("id").getAsLong()), PRESENT));
+        }
+        LsmStore.open(directory).apply(mutations);
+    }
+
+    private static byte[] reindexKey(long id) {
+        byte[] key = LsmStore.rowKey(id);
+        key[0] = REINDEX;
+        return key;
+    }
+
+    /**
+     * LSM 테이블 저장소 - 행을 상주시키지 않고 LsmStore에서 바로 조회
+     * LsmStore는 매번 open()으로 찾으므로 테스트에서 LsmStore.closeAll() 후에도 다시 열림
+     *
+     * 키 구성 (행 키는 LsmStore 참고)
+     *   인덱스 항목 : [0x01][인덱스 이름 UTF-8][0x00][IndexKeys 인코딩 키][ID 8바이트] → 빈 값
+     *   재색인 표시 : [0x02][ID 8바이트] → 빈 값 (트랜잭션 로그 복구로 인덱스 없이 기록된 행)
+     * 인덱스 항목은 행과 같은 배치로 바꾸지만, 조회 때 행에서 키를 다시 꺼내 맞는 항목만 사용
+     * (복구로 키가 바뀐 행의 예전 항목은 남아 있어도 결과에 섞이지 않음)
+     */
+    private static final class LsmTableStore<T> implements DirectTableStore<T> {
+
+        private final TableSpec<T> spec;
+        private final Path directory;
+
+        // apply()로 memtable에 반영했지만 아직 WAL에 기록하지 않은 변경 (반영 순서 유지)
+        private final List<Staged> pending = new ArrayList<>();
+
+        private LsmTableStore(TableSpec<T> spec) {
+            this.spec = spec;
+            this.directory = DATA_DIR.resolve(spec.name() + EXTENSION).toAbsolutePath().normalize();
+        }
+
+        @Override
+        public String getName() {
+            return directory.getFileName().toString();
+        }
+
+        @Override
+        public boolean exists() {
+            return store().hasData() || legacy().exists();
+        }
+
+        /**
+         * 전체 행을 읽어 채움 (샤드 이전처럼 테이블 전체가 필요한 경우에만 사용)
+         */
+        @Override
+        public long load(Map<Long, T> rows) {
+            long maxId = open();
+            store().forEach((id, value) -> rows.put(id, decode(value)));
+            return maxId;
+        }
+
+        @Override
+        public synchronized long open() {
+            LsmStore store = store();
+            if (!store.hasData()) {
+                importLegacy(store);
+            }
+            reindex(store);
+            return store.maxId();
+        }
+
+        @Override
+        public synchronized boolean apply(List<JsonObject> records) {
+            LsmStore store = store();
+            List<LsmStore.Mutation> mutations = new ArrayList<>();
+            for (JsonObject record : records) {
+                long id = record.get("id").getAsLong();
+                byte[] previous = store.get(id);
+                boolean put = EntityJournal.OP_PUT.equals(record.get("op").getAsString());
+                if (!put && previous == null) {
+                    continue;
+                }
+                T before = previous != null ? decode(previous) : null;
+                T after = put ? spec.gson().fromJson(record.get("data"), spec.entityClass()) : null;
+                addIndexMutations(mutations, id, before, after);
+                mutations.add(LsmStore.Mutation.row(record));
+            }
+            if (mutations.isEmpty()) {
+                return false;
+            }
+            pending.add(new Staged(records, store.stage(mutations)));
+            return true;
+        }
+
+        /**
+         * apply()로 반영해 둔 변경 중 records에 해당하는 것을 WAL에 한 번에 기록
+         * 실패하면 아직 기록하지 않은 변경을 모두 memtable에서 되돌림
+         * (나중에 반영된 변경도 되돌린 값 위에 쌓였으므로 함께 버리고, 그 기록 요청도 실패로 끝남)
+         */
+        @Override
+        public boolean write(List<JsonObject> records, Collection<T> current) {
+            List<Staged> batch = new ArrayList<>();
+            synchronized (this) {
+                Set<JsonObject> requested = Collections.newSetFromMap(new IdentityHashMap<>());
+                requested.addAll(records);
+                int covered = 0;
+                while (!pending.isEmpty() && requested.contains(pending.get(0).records().get(0))) {
+                    covered += pending.get(0).records().size();
+                    batch.add(pending.remove(0));
+                }
+                if (covered != records.size()) {
+                    // 앞선 기록 실패로 되돌린 변경이 섞여 있음
+                    rollback(batch);
+                    throw new IllegalStateException("이전 기록 실패로 취소된 변경입니다: " + getName());
+                }
+            }
+            List<LsmStore.Mutation> mutations = new ArrayList<>();
+            for (Staged staged : batch) {
+                mutations.addAll(staged.store().mutations());
+            }
+            try {
+                store().log(mutations);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    rollback(batch);
+                }
+                throw e;
+            }
+            return false;
+        }
+
+        /**
+         * batch와 그 뒤에 반영된 대기 변경을 모두 memtable에서 되돌림 (this 락 안에서 호출)
+         */
+        private void rollback(List<Staged> batch) {
+            List<LsmStore.Staged> staged = new ArrayList<>();
+            for (Staged entry : batch) {
+                staged.add(entry.store());
+            }
+            for (Staged entry : pending) {
+                staged.add(entry.store());
+            }
+            pending.clear();
+            store().unstage(staged);
+        }
+
+        @Override
+        public T get(long id) {
+            byte[] value = store().get(id);
+            return value != null ? decode(value) : null;
+        }
+
+        @Override
+        public void forEach(Consumer<T> consumer) {
+            store().forEach((id, value) -> consumer.accept(decode(value)));
+        }
+
+        @Override
+        public void scanIndex(String index, Object from, Object to, Consumer<T> consumer) {
+            Function<T, ?> keyExtractor = spec.indexes().get(index);
+            if (keyExtractor == null) {
+                throw new IllegalArgumentException("선언되지 않은 인덱스입니다: " + index);
+            }
+            byte[] fromKey = IndexKeys.encode(from);
+            byte[] toKey = IndexKeys.encode(to);
+            if (fromKey == null || toKey == null) {
+                return;
+            }
+            // 구간의 인덱스 항목을 먼저 모은 뒤 행을 읽음 (구간 순회 중에 저장소 락을 오래 잡지 않도록)
+            LsmStore store = store();
+            List<byte[]> entries = new ArrayList<>();
+            store.scan(indexPrefix(index, fromKey), LsmStore.successor(indexPrefix(index, toKey)),
+                    (key, value) -> entries.add(key));
+            for (byte[] entry : entries) {
+                long id = LsmStore.idOf(entry);
+                byte[] value = store.get(id);
+                if (value == null) {
+                    continue;
+                }
+                T entity = decode(value);
+                if (Arrays.equals(entry, indexKey(index, keyExtractor.apply(entity), id))) {
+                    consumer.accept(entity);
+                }
+            }
+        }
+
+        /**
+         * memtable을 세그먼트로 내리고 세그먼트를 병합 (WAL은 비워짐)
+         */
+        @Override
+        public boolean compact(Collection<T> current) {
+            LsmStore store = store();
+            store.flushNow();
+            store.mergeNow();
+            return false;
+        }
+
+        /**
+         * 같은 프로세스 안에서는 이 저장소를 거쳐서만 바뀌므로 항상 최신
+         */
+        @Override
+        public boolean isStale() {
+            return false;
+        }
+
+        @Override
+        public void markSynced() {
+        }
+
+        @Override
+        public void drop() {
+            store().drop();
+            legacy().drop();
+        }
+
+        private LsmStore store() {
+            return LsmStore.open(directory);
+        }
+
+        /**
+         * apply() 한 번으로 반영한 변경 레코드와 저장소 쪽 되돌리기 정보
+         */
+        private record Staged(List<JsonObject> records, LsmStore.Staged store) {
+        }
+
+        private TableStore<T> legacy() {
+            return new FileTableStore<>(spec, DATA_DIR, spec.storageMode(), spec.snapshotFormat());
+        }
+
+        private T decode(byte[] value) {
+            return spec.gson().fromJson(new String(value, StandardCharsets.UTF_8), spec.entityClass());
+        }
+
+        /**
+         * 행이 before → after로 바뀔 때의 인덱스 항목 변경 (키가 그대로인 인덱스는 건드리지 않음)
+         */
+        private void addIndexMutations(List<LsmStore.Mutation> mutations, long id, T before, T after) {
+            spec.indexes().forEach((index, keyExtractor) -> {
+                byte[] previous = before != null ? indexKey(index, keyExtractor.apply(before), id) : null;
+                byte[] next = after != null ? indexKey(index, keyExtractor.apply(after), id) : null;
+                if (Arrays.equals(previous, next)) {
+                    return;
+                }
+                if (previous != null) {
+                    mutations.add(new LsmStore.Mutation(previous, LsmStore.TOMBSTONE));
+                }
+                if (next != null) {
+                    mutations.add(new LsmStore.Mutation(next, PRESENT));
+                }
+            });
+        }
+
+        /**
+         * 트랜잭션 로그 복구로 기록된 행의 인덱스 항목을 다시 만들고 재색인 표시를 지움
+         */
+        private void reindex(LsmStore store) {
+            List<Long> ids = new ArrayList<>();
+            store.scan(new byte[]{REINDEX}, new byte[]{REINDEX + 1}, (key, value) -> ids.add(LsmStore.idOf(key)));
+            if (ids.isEmpty()) {
+                return;
+            }
+            List<LsmStore.Mutation> mutations = new ArrayList<>();
+            for (Long id : ids) {
+                byte[] value = store.get(id);
+                if (value != null) {
+                    addIndexMutations(mutations, id, null, decode(value));
+                }
+                mutations.add(new LsmStore.Mutation(reindexKey(id), LsmStore.TOMBSTONE));
+            }
+            store.apply(mutations);
+        }
+
+        /**
+         * 파일 엔진 데이터를 LSM 저장소로 가져오기 (인덱스 항목 포함)
+         */
+        private void importLegacy(LsmStore store) {
+            TableStore<T> legacy = legacy();
+            if (!legacy.exists()) {
+                return;
+            }
+            Map<Long, T> rows = new LinkedHashMap<>();
+            legacy.load(rows);
+            List<LsmStore.Mutation> batch = new ArrayList<>();
+            for (Map.Entry<Long, T> row : rows.entrySet()) {
+                addIndexMutations(batch, row.getKey(), null, row.getValue());
+                batch.add(LsmStore.Mutation.row(EntityJournal.put(row.getKey(),
+                        spec.gson().toJsonTree(row.getValue(), spec.entityClass()).getAsJsonObject())));
+                if (batch.size() >= IMPORT_BATCH) {
+                    store.apply(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            store.apply(batch);
+        }
+
+        private static byte[] indexPrefix(String index, byte[] encodedKey) {
+            byte[] name = index.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(name.length + 2 + encodedKey.length)
+                    .put(INDEX).put(name).put((byte) 0).put(encodedKey).array();
+        }
+
+        /**
+         * 인덱스 항목 키 (키 값이 null이면 null = 색인하지 않음)
+         */
+        private static byte[] indexKey(String index, Object key, long id) {
+            byte[] encodedKey = IndexKeys.encode(key);
+            if (encodedKey == null) {
+                return null;
+            }
+            byte[] prefix = indexPrefix(index, encodedKey);
+            return ByteBuffer.allocate(prefix.length + Long.BYTES).put(prefix).putLong(id ^ Long.MIN_VALUE).array();
+        }
+    }
+}
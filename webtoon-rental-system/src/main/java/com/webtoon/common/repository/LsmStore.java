@@ -0,0 +1,841 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * 내장 LSM(log-structured merge) 키-값 저장소 - 키는 바이트열 (부호 없는 바이트 순서로 정렬)
+ * - 행 키 [0x00][ID 8바이트, 부호 반전 big-endian] → 엔티티 JSON 바이트 (ID 순서 = 키 순서)
+ * - 첫 바이트가 다른 키(보조 인덱스 항목 등)는 사용하는 쪽(LsmStorageEngine)이 정의하며 행과 섞이지 않음
+ * - 쓰기: WAL(wal.log)에 배치 단위로 추가 + fsync 후 정렬된 memtable에 반영 (파일 전체를 다시 쓰지 않음)
+ *   (stage()로 memtable에 먼저 반영해 조회에 보이게 하고, WAL 기록은 log()로 나중에 묶어서 할 수도 있음
+ *    log()가 실패하면 unstage()로 되돌려 디스크에 없는 값이 조회되지 않게 함)
+ * - memtable이 memtableLimit 바이트를 넘으면 불변 정렬 세그먼트(seg-{번호}.sst)로 내리고 WAL을 비움
+ * - 세그먼트가 mergeTrigger개 이상 쌓이면 백그라운드 스레드에서 하나로 병합 (삭제 표시 제거)
+ * - 살아 있는 세그먼트 목록은 MANIFEST에 기록 (임시 파일 + rename), 목록에 없는 파일은 열 때 삭제
+ * - 조회: memtable → 최신 세그먼트 순으로 찾아 처음 나온 값 사용 (세그먼트는 희소 인덱스로 블록 하나만 읽음)
+ * - 같은 디렉터리는 프로세스 안에서 인스턴스 하나만 사용 (open()으로 공유)
+ * - 쓰다 만 WAL 끝부분은 복구 때 wal.log.quarantine에 격리 (바이트는 Base64)
+ *
+ * WAL 레코드 구조
+ *   [CRC32 int][키 길이 int][값 길이 int, -1 = 삭제][키 바이트][값 바이트] - CRC가 맞지 않거나 잘린 레코드부터는 버림
+ */
+final class LsmStore {
+
+    // 삭제 표시 (memtable/세그먼트 조회 결과에서 참조 비교로 구분)
+    static final byte[] TOMBSTONE = new byte[0];
+
+    // 행 키의 첫 바이트
+    static final byte ROW = 0x00;
+    private static final int ROW_KEY_LENGTH = 9;
+
+    private static final long DEFAULT_MEMTABLE_LIMIT = 4L * 1024 * 1024;
+    private static final int DEFAULT_MERGE_TRIGGER = 4;
+
+    // memtable 항목당 대략적인 부가 메모리 (키 객체, 스킵 리스트 노드)
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final String MANIFEST = "MANIFEST";
+    private static final String WAL = "wal.log";
+    private static final String SEGMENT_PREFIX = "seg-";
+    private static final String SEGMENT_SUFFIX = ".sst";
+
+    // 디렉터리별 저장소 (트랜잭션 복구와 Repository가 같은 인스턴스를 씀)
+    private static final Map<Path, LsmStore> STORES = new ConcurrentHashMap<>();
+
+    // 모든 저장소가 공유하는 병합 스레드 (데몬)
+    private static final ExecutorService MERGER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "lsm-merge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path directory;
+    private final long memtableLimit;
+    private final int mergeTrigger;
+
+    // 세그먼트 목록/memtable 교체와 조회를 구분하는 락 (조회끼리는 동시에 진행)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // memtable 반영/내리기 직렬화 (잡는 순서: memtableMonitor → walMonitor → lock)
+    private final Object memtableMonitor = new Object();
+
+    // WAL 추가/비우기 직렬화 (log()의 fsync 중에도 stage()는 진행됨)
+    private final Object walMonitor = new Object();
+
+    // 병합끼리 직렬화 (병합은 쓰기를 막지 않음)
+    private final Object mergeMonitor = new Object();
+
+    private volatile ConcurrentSkipListMap<byte[], byte[]> memtable =
+            new ConcurrentSkipListMap<>(Arrays::compareUnsigned);
+    private long memtableBytes;
+
+    // 살아 있는 세그먼트 (최신 순)
+    private volatile List<LsmSegment> segments = List.of();
+
+    private final AtomicLong nextSegmentNumber = new AtomicLong(1L);
+
+    // memtable/WAL에 기록된 행의 최대 ID (삭제 포함)
+    private volatile long memtableMaxId;
+
+    private FileChannel wal;
+
+    // 테스트용: null이 아니면 WAL 기록이 이 예외로 실패 (디스크 오류 흉내)
+    private volatile IOException walFailure;
+
+    private boolean merging;
+    private boolean closed;
+
+    // 마지막 백그라운드 병합 실패 (성공하면 null로 되돌림)
+    private volatile RuntimeException mergeFailure;
+
+    private LsmStore(Path directory, long memtableLimit, int mergeTrigger) {
+        this.directory = directory;
+        this.memtableLimit = memtableLimit;
+        this.mergeTrigger = mergeTrigger;
+    }
+
+    /**
+     * 디렉터리의 저장소 열기 (처음 열 때 MANIFEST/세그먼트/WAL을 읽어 복구)
+     */
+    static LsmStore open(Path directory) {
+        return open(directory, DEFAULT_MEMTABLE_LIMIT, DEFAULT_MERGE_TRIGGER);
+    }
+
+    static LsmStore open(Path directory, long memtableLimit, int mergeTrigger) {
+        return STORES.computeIfAbsent(directory.toAbsolutePath().normalize(), dir -> {
+            LsmStore store = new LsmStore(dir, memtableLimit, mergeTrigger);
+            store.recover();
+            return store;
+        });
+    }
+
+    /**
+     * 열린 저장소를 모두 닫음 (테스트용: 애플리케이션 재시작 흉내)
+     */
+    static void closeAll() {
+        STORES.values().forEach(LsmStore::close);
+        STORES.clear();
+    }
+
+    /**
+     * 저장된 데이터가 있는지 (삭제 표시만 남은 경우 포함)
+     */
+    boolean hasData() {
+        return !segments.isEmpty() || !memtable.isEmpty();
+    }
+
+    /**
+     * 지금까지 기록된 최대 ID (삭제 포함, 시퀀스 복구용)
+     */
+    long maxId() {
+        long max = memtableMaxId;
+        for (LsmSegment segment : segments) {
+            max = Math.max(max, segment.maxId());
+        }
+        return max;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 마지막 백그라운드 병합이 실패했으면 그 예외 (기존 세그먼트가 그대로 남고 다음 내리기 때 다시 시도)
+     */
+    RuntimeException lastMergeFailure() {
+        return mergeFailure;
+    }
+
+    /**
+     * 변경 레코드({"op","id","data"}) 여러 건을 행으로 WAL에 한 번에 추가(fsync)하고 memtable에 반영
+     */
+    void write(List<JsonObject> records) {
+        List<Mutation> mutations = new ArrayList<>(records.size());
+        for (JsonObject record : records) {
+            mutations.add(Mutation.row(record));
+        }
+        apply(mutations);
+    }
+
+    /**
+     * 키-값 변경 여러 건을 WAL에 한 번에 추가(fsync)하고 memtable에 반영
+     * memtable이 한도를 넘으면 세그먼트로 내림
+     */
+    void apply(List<Mutation> mutations) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        synchronized (memtableMonitor) {
+            // WAL 추가와 memtable 반영 사이에 내리기(WAL 비우기)가 끼지 않도록 memtable 쪽을 먼저 잡음
+            synchronized (walMonitor) {
+                checkOpen();
+                appendWal(mutations);
+            }
+            putAll(mutations);
+        }
+    }
+
+    /**
+     * 변경을 WAL 없이 memtable에만 반영 (바로 조회에 보이며, 디스크 확정은 같은 변경을 log()로 기록할 때)
+     * log() 전에 memtable이 세그먼트로 내려가면 그 세그먼트로 확정되고, log()는 같은 값을 한 번 더 남길 뿐임
+     *
+     * @return log()가 실패했을 때 unstage()로 되돌릴 정보 (키마다 반영 전 memtable 값)
+     */
+    Staged stage(List<Mutation> mutations) {
+        synchronized (memtableMonitor) {
+            checkOpen();
+            ConcurrentSkipListMap<byte[], byte[]> target = memtable;
+            byte[][] previous = new byte[mutations.size()][];
+            for (int i = 0; i < mutations.size(); i++) {
+                previous[i] = put(mutations.get(i).key(), mutations.get(i).value());
+            }
+            flushIfFull();
+            return new Staged(mutations, previous, target);
+        }
+    }
+
+    /**
+     * stage()로 반영했지만 WAL에 기록하지 못한 변경을 되돌림 - 반영한 순서대로 넘기며, 뒤에서부터 되돌림
+     * 되돌리는 변경 위에 나중에 반영된 변경이 있으면 그것도 함께 넘겨야 함 (빠진 것이 있으면 값이 섞임)
+     * 그사이 memtable이 세그먼트로 내려간 변경은 이미 디스크에 확정되었으므로 그대로 둠
+     */
+    void unstage(List<Staged> staged) {
+        synchronized (memtableMonitor) {
+            for (int i = staged.size() - 1; i >= 0; i--) {
+                Staged batch = staged.get(i);
+                if (batch.memtable() != memtable) {
+                    continue;
+                }
+                for (int j = batch.mutations().size() - 1; j >= 0; j--) {
+                    restore(batch.mutations().get(j).key(), batch.previous()[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * stage()로 반영해 둔 변경을 WAL에 한 번에 추가(fsync) - 반영한 순서대로 넘겨야 함
+     * 실패하면 이번에 붙인 부분을 잘라내고 예외를 던짐 (되돌리기는 호출한 쪽이 unstage()로)
+     */
+    void log(List<Mutation> mutations) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        synchronized (walMonitor) {
+            checkOpen();
+            appendWal(mutations);
+        }
+    }
+
+    /**
+     * ID 하나 조회 (없거나 삭제되었으면 null)
+     */
+    byte[] get(long id) {
+        return get(rowKey(id));
+    }
+
+    /**
+     * 키 하나 조회 (없거나 삭제되었으면 null)
+     */
+    byte[] get(byte[] key) {
+        lock.readLock().lock();
+        try {
+            byte[] value = memtable.get(key);
+            if (value == null) {
+                for (LsmSegment segment : segments) {
+                    value = segment.get(key);
+                    if (value != null) {
+                        break;
+                    }
+                }
+            }
+            return value == TOMBSTONE ? null : value;
+        } catch (IOException e) {
+            throw new RuntimeException("LSM 저장소 읽기 실패: " + directory, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ID가 [from, to] 구간인 살아 있는 행을 ID 오름차순으로 전달
+     */
+    void scan(long from, long to, BiConsumer<Long, byte[]> consumer) {
+        scan(rowKey(from), successor(rowKey(to)), (key, value) -> consumer.accept(idOf(key), value));
+    }
+
+    /**
+     * 모든 행을 ID 오름차순으로 전달
+     */
+    void forEach(BiConsumer<Long, byte[]> consumer) {
+        scan(Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+    }
+
+    /**
+     * 키가 [from, to) 구간인 살아 있는 레코드를 키 오름차순으로 전달
+     * memtable과 모든 세그먼트를 k-way 병합하며, 같은 키는 가장 최신 값만 사용
+     *
+     * @param to 구간 끝 (포함하지 않음, null이면 끝까지)
+     */
+    void scan(byte[] from, byte[] to, BiConsumer<byte[], byte[]> consumer) {
+        lock.readLock().lock();
+        try {
+            List<Iterator<Map.Entry<byte[], byte[]>>> sources = new ArrayList<>();
+            sources.add((to != null ? memtable.subMap(from, true, to, false) : memtable.tailMap(from, true))
+                    .entrySet().iterator());
+            for (LsmSegment segment : segments) {
+                sources.add(segment.iterator(from, to));
+            }
+            mergeSources(sources, (key, value) -> {
+                if (value != TOMBSTONE) {
+                    consumer.accept(key, value);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ID의 행 키 - [0x00][부호 반전 big-endian 8바이트] (바이트 순서 = ID 순서)
+     */
+    static byte[] rowKey(long id) {
+        return ByteBuffer.allocate(ROW_KEY_LENGTH).put(ROW).putLong(id ^ Long.MIN_VALUE).array();
+    }
+
+    /**
+     * 키의 마지막 8바이트에 담긴 ID (행 키, 또는 ID로 끝나는 다른 키)
+     */
+    static long idOf(byte[] key) {
+        return ByteBuffer.wrap(key, key.length - Long.BYTES, Long.BYTES).getLong() ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * prefix로 시작하는 모든 키보다 큰 가장 작은 키 (구간 끝으로 사용, 그런 키가 없으면 null = 끝까지)
+     */
+    static byte[] successor(byte[] prefix) {
+        for (int i = prefix.length - 1; i >= 0; i--) {
+            if (prefix[i] != (byte) 0xFF) {
+                byte[] next = Arrays.copyOf(prefix, i + 1);
+                next[i]++;
+                return next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * memtable을 바로 세그먼트로 내림 (비어 있으면 아무 일도 하지 않음)
+     */
+    void flushNow() {
+        synchronized (memtableMonitor) {
+            flush();
+        }
+    }
+
+    /**
+     * 세그먼트가 2개 이상이면 모두 하나로 병합 (병합 중에도 쓰기/조회 가능)
+     * 병합 시점의 모든 세그먼트를 합치므로 더 오래된 세그먼트가 없어 삭제 표시는 버림
+     */
+    void mergeNow() {
+        synchronized (mergeMonitor) {
+            List<LsmSegment> inputs = segments;
+            if (inputs.size() < 2) {
+                return;
+            }
+            long maxId = 0L;
+            List<Iterator<Map.Entry<byte[], byte[]>>> sources = new ArrayList<>();
+            for (LsmSegment segment : inputs) {
+                sources.add(segment.iterator(new byte[0], null));
+                maxId = Math.max(maxId, segment.maxId());
+            }
+            Path file = directory.resolve(segmentName(nextSegmentNumber.getAndIncrement()));
+            LsmSegment merged = writeSegment(file, mergedIterator(sources), true, maxId);
+
+            lock.writeLock().lock();
+            try {
+                if (closed) {
+                    merged.close();
+                    deleteQuietly(file);
+                    return;
+                }
+                List<LsmSegment> next = new ArrayList<>();
+                for (LsmSegment segment : segments) {
+                    if (!inputs.contains(segment)) {
+                        next.add(segment); // 병합 중에 새로 내려진 세그먼트 (더 최신)
+                    }
+                }
+                next.add(merged);
+                writeManifest(next);
+                segments = List.copyOf(next);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            for (LsmSegment segment : inputs) {
+                segment.close();
+                deleteQuietly(segment.getPath());
+            }
+        }
+    }
+
+    /**
+     * 저장소 전체 삭제 (디렉터리 포함)
+     */
+    void drop() {
+        synchronized (memtableMonitor) {
+            lock.writeLock().lock();
+            try {
+                close();
+                STORES.remove(directory);
+                if (Files.isDirectory(directory)) {
+                    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                        for (Path file : files) {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                    Files.deleteIfExists(directory);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("LSM 저장소 삭제 실패: " + directory, e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void close() {
+        synchronized (memtableMonitor) {
+            synchronized (walMonitor) {
+                lock.writeLock().lock();
+                try {
+                    closed = true;
+                    if (wal != null) {
+                        wal.close();
+                        wal = null;
+                    }
+                    segments.forEach(LsmSegment::close);
+                } catch (IOException e) {
+                    throw new RuntimeException("WAL 닫기 실패: " + directory, e);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * memtable을 세그먼트로 내리고 MANIFEST 갱신 후 WAL을 비움 (memtableMonitor 안에서 호출)
+     * 세그먼트 기록 후 MANIFEST 갱신 전에 종료되면 세그먼트는 버려지고 WAL로 다시 복구됨
+     * WAL에 있는 레코드는 모두 memtable에 먼저 반영된 것이므로 (stage → log, apply는 두 모니터를 함께 잡음)
+     * WAL을 비워도 세그먼트에 남음
+     */
+    private void flush() {
+        ConcurrentSkipListMap<byte[], byte[]> frozen = memtable;
+        if (frozen.isEmpty()) {
+            return;
+        }
+        Path file = directory.resolve(segmentName(nextSegmentNumber.getAndIncrement()));
+        // 더 오래된 세그먼트의 값을 가려야 하므로 삭제 표시도 기록
+        LsmSegment segment = writeSegment(file, frozen.entrySet().iterator(), false, memtableMaxId);
+
+        synchronized (walMonitor) {
+            lock.writeLock().lock();
+            try {
+                List<LsmSegment> next = new ArrayList<>();
+                next.add(segment);
+                next.addAll(segments);
+                writeManifest(next);
+                segments = List.copyOf(next);
+                memtable = new ConcurrentSkipListMap<>(Arrays::compareUnsigned);
+                memtableBytes = 0L;
+                resetWal();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        scheduleMerge();
+    }
+
+    private void scheduleMerge() {
+        synchronized (this) {
+            if (merging || segments.size() < mergeTrigger) {
+                return;
+            }
+            merging = true;
+        }
+        MERGER.execute(() -> {
+            try {
+                mergeNow();
+                mergeFailure = null;
+            } catch (RuntimeException e) {
+                // 병합 실패 - 기존 세그먼트가 그대로 남으므로 다음 내리기 때 다시 시도
+                mergeFailure = e;
+            } finally {
+                synchronized (this) {
+                    merging = false;
+                }
+            }
+        });
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("닫힌 저장소입니다: " + directory);
+        }
+    }
+
+    /**
+     * memtable에 반영하고, 한도를 넘으면 세그먼트로 내림 (memtableMonitor 안에서 호출)
+     */
+    private void putAll(List<Mutation> mutations) {
+        for (Mutation mutation : mutations) {
+            put(mutation.key(), mutation.value());
+        }
+        flushIfFull();
+    }
+
+    private void flushIfFull() {
+        if (memtableBytes >= memtableLimit) {
+            flush();
+        }
+    }
+
+    /**
+     * @return 반영 전 memtable 값 (없었으면 null)
+     */
+    private byte[] put(byte[] key, byte[] value) {
+        byte[] previous = memtable.put(key, value);
+        memtableBytes += key.length + value.length + ENTRY_OVERHEAD
+                - (previous != null ? key.length + previous.length + ENTRY_OVERHEAD : 0);
+        if (key.length == ROW_KEY_LENGTH && key[0] == ROW) {
+            long id = idOf(key);
+            if (id > memtableMaxId) {
+                memtableMaxId = id;
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * memtable 값을 되돌림 (previous가 null이면 항목 제거 → 세그먼트 값이 다시 보임)
+     */
+    private void restore(byte[] key, byte[] previous) {
+        if (previous != null) {
+            put(key, previous);
+            return;
+        }
+        byte[] removed = memtable.remove(key);
+        if (removed != null) {
+            memtableBytes -= key.length + removed.length + ENTRY_OVERHEAD;
+        }
+    }
+
+    /**
+     * MANIFEST → 세그먼트 → WAL 순으로 복구
+     * MANIFEST에 없는 세그먼트(기록 도중 종료, 병합 후 삭제 전 종료)는 삭제
+     */
+    private void recover() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            List<String> live = new ArrayList<>();
+            Path manifest = directory.resolve(MANIFEST);
+            if (Files.exists(manifest)) {
+                for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                    if (!line.isBlank()) {
+                        live.add(line.trim());
+                    }
+                }
+            }
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(SEGMENT_SUFFIX)) {
+                        long number = Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                                name.length() - SEGMENT_SUFFIX.length()));
+                        nextSegmentNumber.accumulateAndGet(number + 1, Math::max);
+                    }
+                    if (!live.contains(name)) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+            List<LsmSegment> opened = new ArrayList<>();
+            for (String name : live) {
+                opened.add(LsmSegment.open(directory.resolve(name)));
+            }
+            segments = List.copyOf(opened);
+            replayWal();
+        } catch (IOException | NumberFormatException e) {
+            throw new RuntimeException("LSM 저장소 복구 실패: " + directory, e);
+        }
+    }
+
+    private void replayWal() throws IOException {
+        Path path = directory.resolve(WAL);
+        if (!Files.exists(path)) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int valid = 0;
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= 12) {
+            int start = buffer.position();
+            int checksum = buffer.getInt();
+            int keyLength = buffer.getInt();
+            int length = buffer.getInt();
+            int size = Math.max(length, 0);
+            if (keyLength < 0 || length < -1 || buffer.remaining() < keyLength + (long) size) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.array(), start + 4, 8 + keyLength + size);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            buffer.get(key);
+            byte[] value = TOMBSTONE;
+            if (length >= 0) {
+                value = new byte[length];
+                buffer.get(value);
+            }
+            put(key, value);
+            valid = buffer.position();
+        }
+        if (valid < buffer.capacity()) {
+            // 쓰다 만 레코드 - 원문은 격리해 두고 이어 쓰기 전에 잘라냄
+            byte[] tail = Arrays.copyOfRange(buffer.array(), valid, buffer.capacity());
+            Quarantine.record(path, List.of(new DamagedRecord(valid, "WAL 레코드 손상",
+                    Base64.getEncoder().encodeToString(tail))));
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+                channel.force(true);
+            }
+        }
+    }
+
+    private void appendWal(List<Mutation> mutations) {
+        int size = 0;
+        for (Mutation mutation : mutations) {
+            size += 12 + mutation.key().length + mutation.value().length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (Mutation mutation : mutations) {
+            byte[] key = mutation.key();
+            byte[] value = mutation.value();
+            int start = buffer.position();
+            buffer.putInt(0).putInt(key.length).putInt(value == TOMBSTONE ? -1 : value.length).put(key).put(value);
+            crc.reset();
+            crc.update(buffer.array(), start + 4, 8 + key.length + value.length);
+            buffer.putInt(start, (int) crc.getValue());
+        }
+        buffer.flip();
+        long start = -1L;
+        try {
+            FileChannel channel = walChannel();
+            start = channel.size();
+            if (walFailure != null) {
+                throw walFailure;
+            }
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            discardWalTail(start);
+            throw new RuntimeException("WAL 쓰기 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 실패한 기록의 일부가 WAL에 남아 재시작 때 되살아나지 않도록 기록 전 길이로 자름
+     */
+    private void discardWalTail(long length) {
+        if (length < 0 || wal == null) {
+            return;
+        }
+        try {
+            wal.truncate(length);
+            wal.force(true);
+        } catch (IOException e) {
+            // 잘라내지 못한 레코드는 CRC가 맞으면 재시작 때 반영됨 (호출한 쪽에는 이미 실패로 알림)
+        }
+    }
+
+    /**
+     * 테스트용: 이후 WAL 기록을 주어진 예외로 실패시킴 (null이면 해제)
+     */
+    void failWalWrites(IOException failure) {
+        walFailure = failure;
+    }
+
+    private FileChannel walChannel() throws IOException {
+        if (wal == null) {
+            Files.createDirectories(directory);
+            wal = FileChannel.open(directory.resolve(WAL), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return wal;
+    }
+
+    private void resetWal() {
+        try {
+            FileChannel channel = walChannel();
+            channel.truncate(0);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new RuntimeException("WAL 정리 실패: " + directory, e);
+        }
+    }
+
+    private LsmSegment writeSegment(Path file, Iterator<Map.Entry<byte[], byte[]>> entries,
+                                    boolean dropTombstones, long maxId) {
+        try {
+            DurableFiles.replace(file, temp -> LsmSegment.write(temp, entries, dropTombstones, maxId));
+            return LsmSegment.open(file);
+        } catch (IOException e) {
+            throw new RuntimeException("세그먼트 파일 쓰기 실패: " + file, e);
+        }
+    }
+
+    private void writeManifest(List<LsmSegment> live) {
+        StringBuilder content = new StringBuilder();
+        for (LsmSegment segment : live) {
+            content.append(segment.getPath().getFileName()).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            DurableFiles.replace(directory.resolve(MANIFEST), temp -> {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("MANIFEST 쓰기 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 최신 순으로 넘겨받은 정렬 소스들을 키 순으로 합침 (같은 키는 앞선 소스의 값만 전달)
+     */
+    private static void mergeSources(List<Iterator<Map.Entry<byte[], byte[]>>> sources,
+                                     BiConsumer<byte[], byte[]> consumer) {
+        Iterator<Map.Entry<byte[], byte[]>> merged = mergedIterator(sources);
+        while (merged.hasNext()) {
+            Map.Entry<byte[], byte[]> entry = merged.next();
+            consumer.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static Iterator<Map.Entry<byte[], byte[]>> mergedIterator(
+            List<Iterator<Map.Entry<byte[], byte[]>>> sources) {
+        // (현재 항목, 소스 순위) - 키가 같으면 순위가 낮은(최신) 소스가 먼저
+        PriorityQueue<Head> heads = new PriorityQueue<>();
+        for (int rank = 0; rank < sources.size(); rank++) {
+            Iterator<Map.Entry<byte[], byte[]>> source = sources.get(rank);
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), rank, source));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Map.Entry<byte[], byte[]> next() {
+                Head head = heads.poll();
+                Map.Entry<byte[], byte[]> entry = head.entry;
+                advance(head);
+                // 같은 키의 오래된 값은 건너뜀
+                while (!heads.isEmpty() && Arrays.equals(heads.peek().entry.getKey(), entry.getKey())) {
+                    advance(heads.poll());
+                }
+                return entry;
+            }
+
+            private void advance(Head head) {
+                if (head.source.hasNext()) {
+                    heads.add(new Head(head.source.next(), head.rank, head.source));
+                }
+            }
+        };
+    }
+
+    private static String segmentName(long number) {
+        return String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // 다음에 열 때 MANIFEST에 없는 파일로 정리됨
+        }
+    }
+
+    private record Head(Map.Entry<byte[], byte[]> entry, int rank, Iterator<Map.Entry<byte[], byte[]>> source)
+            implements Comparable<Head> {
+        @Override
+        public int compareTo(Head other) {
+            int byKey = Arrays.compareUnsigned(entry.getKey(), other.entry.getKey());
+            return byKey != 0 ? byKey : Integer.compare(rank, other.rank);
+        }
+    }
+
+    /**
+     * stage()로 반영한 변경과 반영 전 memtable 값 (memtable은 반영한 시점의 것 - 내려갔는지 확인용)
+     */
+    record Staged(List<Mutation> mutations, byte[][] previous,
+                  ConcurrentSkipListMap<byte[], byte[]> memtable) {
+    }
+
+    /**
+     * 키 하나의 변경 (값이 TOMBSTONE이면 삭제)
+     */
+    record Mutation(byte[] key, byte[] value) {
+
+        /**
+         * 변경 레코드({"op","id","data"})를 행 변경으로 변환
+         */
+        static Mutation row(JsonObject record) {
+            byte[] key = rowKey(record.get("id").getAsLong());
+            return EntityJournal.OP_PUT.equals(record.get("op").getAsString())
+                    ? new Mutation(key, record.get("data").toString().getBytes(StandardCharsets.UTF_8))
+                    : new Mutation(key, TOMBSTONE);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 저장 엔진 - 파일을 전혀 쓰지 않음 (부하 테스트/단위 테스트용)
+ * - 테이블마다 마지막으로 반영된 상태를 Gson 트리로 보관 (변경 레코드만 적용하므로 저장 비용은 변경 건수에 비례)
+ * - 엔티티 인스턴스가 아니라 트리를 보관하므로, UnitOfWork 롤백 후 다시 로드하면 반영 전 상태로 돌아감
+ * - 엔진 인스턴스가 살아 있는 동안만 유지 (프로세스 종료 시 사라짐)
+ */
+final class MemoryStorageEngine implements StorageEngine {
+
+    private final Map<String, MemoryTableStore<?>> tables = new ConcurrentHashMap<>();
+    private final Map<String, MemoryArchiveStore<?>> archives = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public boolean isDurable() {
+        return false;
+    }
+
+    @Override
+    public Path getDataDirectory() {
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TableStore<T> openTable(TableSpec<T> spec) {
+        String tableName = spec.name() + spec.snapshotFormat().getExtension();
+        return (TableStore<T>) tables.computeIfAbsent(tableName, n -> new MemoryTableStore<>(n, spec));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ArchiveStore<T> openArchive(String archiveName, Gson gson, Class<T> entityClass) {
+        return (ArchiveStore<T>) archives.computeIfAbsent(archiveName,
+                n -> new MemoryArchiveStore<>(gson, entityClass));
+    }
+
+    /**
+     * 메모리 테이블 저장소 (ID → 엔티티 트리)
+     */
+    private static final class MemoryTableStore<T> implements TableStore<T> {
+
+        private final String name;
+        private final TableSpec<T> spec;
+        private final Map<Long, JsonElement> rows = new LinkedHashMap<>();
+
+        // 지금까지 기록된 최대 ID (삭제 포함)
+        private long maxId;
+
+        private MemoryTableStore(String name, TableSpec<T> spec) {
+            this.name = name;
+            this.spec = spec;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public synchronized boolean exists() {
+            return !rows.isEmpty();
+        }
+
+        @Override
+        public synchronized long load(Map<Long, T> target) {
+            rows.forEach((id, tree) -> target.put(id, spec.gson().fromJson(tree, spec.entityClass())));
+            return maxId;
+        }
+
+
+        @Override
+        public synchronized boolean write(List<JsonObject> records, Collection<T> current) {
+            for (JsonObject record : records) {
+                Long id = record.get("id").getAsLong();
+                maxId = Math.max(maxId, id);
+                if (EntityJournal.OP_PUT.equals(record.get("op").getAsString())) {
+                    rows.put(id, record.get("data"));
+                } else {
+                    rows.remove(id);
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean compact(Collection<T> current) {
+            return false;
+        }
+
+        /**
+         * 이 엔진을 거치지 않고 바뀔 수 없으므로 항상 최신
+         */
+        @Override
+        public boolean isStale() {
+            return false;
+        }
+
+        @Override
+        public void markSynced() {
+        }
+
+        @Override
+        public synchronized void drop() {
+            rows.clear();
+        }
+    }
+
+    /**
+     * 메모리 보관 저장소 (보관한 순서대로 트리 목록)
+     */
+    private static final class MemoryArchiveStore<T> implements ArchiveStore<T> {
+
+        private final Gson gson;
+        private final Class<T> entityClass;
+        private final List<JsonElement> entries = new ArrayList<>();
+
+        private MemoryArchiveStore(Gson gson, Class<T> entityClass) {
+            this.gson = gson;
+            this.entityClass = entityClass;
+        }
+
+        @Override
+        public synchronized void append(List<T> entities) {
+            for (T entity : entities) {
+                entries.add(gson.toJsonTree(entity, entityClass));
+            }
+        }
+
+        @Override
+        public synchronized void forEach(Consumer<T> consumer) {
+            for (JsonElement entry : entries) {
+                consumer.accept(gson.fromJson(entry, entityClass));
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.webtoon.common.repository;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 같은 데이터 디렉터리를 쓰는 여러 프로세스(CLI, 배치 도구) 사이의 잠금 + 버전 스탬프 ({name}.lock)
+ * - 잠금: FileChannel.lock() (OS 수준 배타 잠금) + 같은 JVM 안의 ReentrantLock
+ *   (FileChannel.lock은 같은 JVM에서 겹쳐 잡으면 예외이므로 JVM 안에서는 ReentrantLock으로 직렬화하고
+ *   가장 바깥에서 한 번만 파일 잠금을 잡음)
+ * - 버전: 파일을 바꿀 때마다 1씩 올리는 값, 메모리 매핑으로 읽으므로 확인할 때 시스템 호출이 없음
+ *   → 마지막으로 읽은 뒤 버전이 그대로면 다시 읽지 않음
+ * - 카운터: 프로세스끼리 공유하는 ID 발급 상한 (IdSequence가 사용)
+ * - 경로마다 인스턴스 하나를 공유 (채널/매핑은 프로세스 종료까지 유지)
+ *
+ * 파일 구조
+ *   [버전 long][ID 카운터 long]
+ */
+final class ProcessLock {
+
+    static final String EXTENSION = ".lock";
+
+    private static final int VERSION_OFFSET = 0;
+    private static final int COUNTER_OFFSET = 8;
+    private static final int SIZE = 16;
+
+    private static final Map<Path, ProcessLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer state;
+    private final ReentrantLock localLock = new ReentrantLock();
+
+    private ProcessLock(Path path) {
+        this.path = path;
+        try {
+            Files.createDirectories(path.getParent());
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // 파일이 SIZE보다 짧으면 매핑하면서 늘어남 (새 파일은 버전 0)
+            this.state = channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+        } catch (IOException e) {
+            throw new RuntimeException("잠금 파일 열기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 경로의 잠금 파일 (같은 경로면 같은 인스턴스)
+     */
+    static ProcessLock of(Path path) {
+        return LOCKS.computeIfAbsent(path.toAbsolutePath().normalize(), ProcessLock::new);
+    }
+
+    /**
+     * 데이터 디렉터리 안의 {name}.lock
+     */
+    static ProcessLock of(Path directory, String name) {
+        return of(directory.resolve(name + EXTENSION));
+    }
+
+    /**
+     * 잠금을 잡은 상태에서 실행 (같은 스레드에서 다시 호출해도 됨)
+     */
+    <R> R locked(Supplier<R> action) {
+        localLock.lock();
+        try {
+            FileLock fileLock = localLock.getHoldCount() == 1 ? acquire() : null;
+            try {
+                return action.get();
+            } finally {
+                if (fileLock != null) {
+                    release(fileLock);
+                }
+            }
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    void locked(Runnable action) {
+        locked(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 버전 (잠금 없이 읽음 - 다른 프로세스의 기록을 감지하는 용도)
+     */
+    long version() {
+        return state.getLong(VERSION_OFFSET);
+    }
+
+    /**
+     * 버전을 1 올림 (잠금을 잡은 상태에서 파일을 바꾼 직후 호출)
+     *
+     * @return 새 버전
+     */
+    long bump() {
+        requireLocked();
+        long next = state.getLong(VERSION_OFFSET) + 1;
+        state.putLong(VERSION_OFFSET, next);
+        return next;
+    }
+
+    /**
+     * 프로세스끼리 공유하는 ID 카운터
+     */
+    long counter() {
+        return state.getLong(COUNTER_OFFSET);
+    }
+
+    void counter(long value) {
+        requireLocked();
+        state.putLong(COUNTER_OFFSET, value);
+    }
+
+    private FileLock acquire() {
+        try {
+            return channel.lock();
+        } catch (IOException e) {
+            throw new RuntimeException("파일 잠금 실패: " + path, e);
+        }
+    }
+
+    private void release(FileLock fileLock) {
+        try {
+            fileLock.release();
+        } catch (IOException e) {
+            throw new RuntimeException("파일 잠금 해제 실패: " + path, e);
+        }
+    }
+
+    private void requireLocked() {
+        if (!localLock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("잠금을 잡지 않고 잠금 파일을 변경할 수 없습니다: " + path);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 손상 레코드 격리 파일 ({데이터 파일}.quarantine)
+ * - 읽기에서 건너뛴 레코드 원문을 한 줄에 하나씩(JSON) 추가 (격리 파일이 곧 손상 보고이며 따로 출력하지 않음)
+ * - 호출 측은 격리 후 남은 레코드로 기준 파일을 다시 기록하므로, 같은 레코드가 다시 격리되지 않음
+ * - 원문이 남아 있으므로 필요하면 수동으로 복구 가능
+ *
+ * 줄 형식
+ *   {"time":"...","file":"users.json","position":12,"reason":"체크섬 불일치","raw":"..."}
+ */
+final class Quarantine {
+
+    static final String EXTENSION = ".quarantine";
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\":(\\d{1,18})\\b");
+
+    private Quarantine() {
+    }
+
+    /**
+     * 데이터 파일에 대응하는 격리 파일 경로
+     */
+    static Path pathOf(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + EXTENSION);
+    }
+
+    /**
+     * 격리한 레코드 원문에서 읽을 수 있는 가장 큰 ID (없으면 0)
+     * 격리된 엔티티의 ID가 새 엔티티에 다시 쓰이지 않도록 시퀀스 복구에 반영하기 위함
+     * (JSON 원문만 해당, 바이너리 원문은 ID를 알 수 없음 / 중첩 객체의 id를 잡아도 ID를 건너뛸 뿐 겹치지는 않음)
+     */
+    static long maxIdHint(List<DamagedRecord> damaged) {
+        long max = 0L;
+        for (DamagedRecord record : damaged) {
+            Matcher matcher = ID_PATTERN.matcher(record.raw());
+            if (matcher.find()) {
+                try {
+                    max = Math.max(max, Long.parseLong(matcher.group(1)));
+                } catch (NumberFormatException e) {
+                    // 숫자가 손상된 경우 무시
+                }
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 손상 레코드를 격리 파일에 추가 (fsync)
+     */
+    static void record(Path dataFile, List<DamagedRecord> damaged) {
+        if (damaged.isEmpty()) {
+            return;
+        }
+        Path target = pathOf(dataFile);
+        String time = LocalDateTime.now().toString();
+        StringBuilder lines = new StringBuilder();
+        for (DamagedRecord record : damaged) {
+            JsonObject line = new JsonObject();
+            line.addProperty("time", time);
+            line.addProperty("file", dataFile.getFileName().toString());
+            line.addProperty("position", record.position());
+            line.addProperty("reason", record.reason());
+            line.addProperty("raw", record.raw());
+            lines.append(line).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new RuntimeException("격리 파일 쓰기 실패: " + target, e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.webtoon.common.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시작 시 여러 Repository의 테이블을 동시에 읽어 두는 워밍업 단계
+ * - 크기가 정해진 스레드 풀에서 Repository마다 파일 로드 + 인덱스 구성을 수행
+ *   → 전체 시작 시간이 파일 크기의 합이 아니라 가장 큰 파일에 맞춰짐
+ * - Repository별 로드 시간/엔티티 수를 결과로 돌려줌 (입력 순서 유지)
+ * - 하나라도 실패하면 나머지를 기다린 뒤 예외를 던짐 (일부만 읽힌 상태로 CLI를 열지 않음)
+ */
+public final class RepositoryWarmUp {
+
+    /**
+     * Repository 하나의 워밍업 결과
+     *
+     * @param name          저장소 이름 (파일 이름)
+     * @param records       읽은 엔티티 수
+     * @param elapsedMillis 로드 + 인덱스 구성에 걸린 시간
+     */
+    public record Result(String name, int records, long elapsedMillis) {
+    }
+
+    private RepositoryWarmUp() {
+    }
+
+    /**
+     * Repository들을 병렬로 워밍업
+     *
+     * @param repositories 읽을 Repository 목록
+     * @param parallelism  최대 동시 로드 수 (1 이상)
+     */
+    public static List<Result> run(List<? extends JsonRepository<?>> repositories, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("동시 로드 수는 1 이상이어야 합니다: " + parallelism);
+        }
+        if (repositories.isEmpty()) {
+            return List.of();
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, repositories.size()),
+                task -> {
+                    Thread thread = new Thread(task, "repository-warmup-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            List<Callable<Result>> tasks = new ArrayList<>();
+            for (JsonRepository<?> repository : repositories) {
+                tasks.add(() -> warmUp(repository));
+            }
+            List<Future<Result>> futures = executor.invokeAll(tasks);
+
+            List<Result> results = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("저장소 로드 실패: " + repositories.get(i).getFileName(), e.getCause());
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("저장소 로드 중 인터럽트 발생", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Result warmUp(JsonRepository<?> repository) {
+        long start = System.nanoTime();
+        int records = repository.warmUp();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        return new Result(repository.getFileName(), records, elapsedMillis);
+    }
+}
@@ -0,0 +1,40 @@
+package com.webtoon.common.repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 기준 파일(스냅샷) 읽기/쓰기 코덱
+ * SnapshotFormat마다 구현이 하나씩 있음 (JSON: EntityCodec, BINARY: BinarySnapshotCodec)
+ * 두 형식 모두 레코드마다 CRC32 체크섬을 함께 기록하므로 손상된 레코드만 골라 건너뛸 수 있음
+ *
+ * @param <T> 엔티티 타입
+ */
+interface SnapshotCodec<T> {
+
+    /**
+     * 파일의 엔티티를 하나씩 읽어 consumer에 전달 (빈 파일은 빈 목록)
+     * 손상된 레코드가 하나라도 있으면 IOException
+     */
+    default void read(Path path, Consumer<T> consumer) throws IOException {
+        List<DamagedRecord> damaged = new ArrayList<>();
+        read(path, consumer, damaged::add);
+        if (!damaged.isEmpty()) {
+            throw new IOException("손상된 레코드 " + damaged.size() + "건: " + path);
+        }
+    }
+
+    /**
+     * 파일의 엔티티를 하나씩 읽되, 체크섬이 맞지 않거나 잘린 레코드는 건너뛰고 damaged에 전달
+     * (체크섬 없이 기록된 이전 형식 파일은 레코드 단위로 건너뛸 수 없으므로 손상 시 IOException)
+     */
+    void read(Path path, Consumer<T> consumer, Consumer<DamagedRecord> damaged) throws IOException;
+
+    /**
+     * 엔티티 목록을 파일에 기록 (기존 내용은 덮어쓰고, 닫기 전에 fsync)
+     */
+    void write(Path path, Iterable<T> entities) throws IOException;
+}
@@ -0,0 +1,46 @@
+package com.webtoon.common.repository;
+
+import java.util.Locale;
+
+/**
+ * 기준 파일(스냅샷) 저장 형식
+ * 기본값은 시스템 프로퍼티 webtoon.storage.format (json | binary)으로 바꿀 수 있음
+ */
+public enum SnapshotFormat {
+
+    /**
+     * JSON 배열 ({fileName}.json) - 기본값
+     * 한 줄에 레코드 하나씩 compact JSON + CRC32 체크섬으로 기록 (EntityCodec)
+     */
+    JSON(".json"),
+
+    /**
+     * 바이너리 스냅샷 ({fileName}.bin)
+     * 길이 + CRC32 접두 레코드 + 고정 폭 숫자 + 문자열 테이블, 메모리 매핑으로 로드
+     * 기존 JSON 파일이 있으면 처음 로드할 때 가져오고(import), JSON은 가져오기/내보내기 용도로만 사용
+     */
+    BINARY(".bin");
+
+    private static final String PROPERTY = "webtoon.storage.format";
+
+    private final String extension;
+
+    SnapshotFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 시스템 프로퍼티로 지정한 기본 형식 (지정하지 않았으면 JSON)
+     */
+    public static SnapshotFormat configured() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        return SnapshotFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,49 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+
+import java.nio.file.Path;
+
+/**
+ * JsonRepository 아래에서 실제 저장을 맡는 저장 엔진 (storage SPI)
+ * - 모든 Repository는 엔진이 열어 준 TableStore에 읽고 쓰므로, 엔진만 바꾸면 엔티티 종류와 무관하게 저장 방식이 바뀜
+ * - 상주 테이블/인덱스/그룹 커밋/UnitOfWork는 JsonRepository가 담당하고, 엔진은 테이블 단위 입출력만 담당
+ * - 기본 엔진은 StorageEngines.configured() (시스템 프로퍼티 webtoon.storage.engine, 없으면 file)
+ *
+ * 제공 엔진 (StorageEngines)
+ *   memory  - 파일 없이 메모리에만 보관 (부하 테스트용, 프로세스 종료 시 사라짐)
+ *   file    - 각 Repository가 선언한 StorageMode/SnapshotFormat 그대로 파일에 저장 (기본값)
+ *   json    - 모든 Repository를 전체 JSON 파일 기록(SNAPSHOT + JSON)으로 저장
+ *   journal - 모든 Repository를 저널 append + 주기적 압축(JOURNAL)으로 저장
+ *   binary  - 모든 Repository의 기준 파일을 바이너리 스냅샷(BINARY)으로 저장
+ *   lsm     - 테이블마다 WAL + 정렬 세그먼트(LSM)에 저장, 쓰기 비용이 테이블 크기와 무관
+ */
+public interface StorageEngine {
+
+    /**
+     * 엔진 이름 (설정 값과 같음, 예: "file", "memory")
+     */
+    String getName();
+
+    /**
+     * 프로세스가 종료되어도 데이터가 남는지
+     * false면 트랜잭션 로그/ID 시퀀스 파일/본문 저장소 등 디스크 보조 파일도 쓰지 않음
+     */
+    boolean isDurable();
+
+    /**
+     * 데이터 디렉터리 (트랜잭션 로그 등 엔진 공용 파일 위치, isDurable()이 false면 null)
+     */
+    Path getDataDirectory();
+
+    /**
+     * 테이블 하나(샤드를 쓰면 샤드 하나)의 저장소 열기
+     * 여는 것만으로는 입출력하지 않으며, 처음 load() 할 때 읽음
+     */
+    <T> TableStore<T> openTable(TableSpec<T> spec);
+
+    /**
+     * 보관(archive) 저장소 열기 - 같은 이름이면 같은 저장소에 쌓임
+     */
+    <T> ArchiveStore<T> openArchive(String name, Gson gson, Class<T> entityClass);
+}
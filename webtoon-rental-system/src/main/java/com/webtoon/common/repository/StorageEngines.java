@@ -0,0 +1,118 @@
+package com.webtoon.common.repository;
+
+import java.util.Locale;
+
+/**
+ * 저장 엔진 선택
+ * - Repository는 처음 테이블을 열 때 current() 엔진을 사용 (이후 바꿔도 이미 연 Repository에는 영향 없음)
+ * - 애플리케이션 시작 시 Repository를 만들기 전에 use()로 지정하고,
+ *   지정하지 않으면 시스템 프로퍼티 webtoon.storage.engine (memory | file | json | journal | binary | lsm, 기본 file)
+ */
+public final class StorageEngines {
+
+    private static final String PROPERTY = "webtoon.storage.engine";
+
+    // 파일 엔진은 상태가 없으므로 하나씩만 둠 (같은 엔진을 쓰는 Repository끼리 테이블을 공유)
+    private static final StorageEngine FILE = new FileStorageEngine("file", null, null);
+    private static final StorageEngine JSON = new FileStorageEngine("json", StorageMode.SNAPSHOT, SnapshotFormat.JSON);
+    private static final StorageEngine JOURNAL = new FileStorageEngine("journal", StorageMode.JOURNAL, null);
+    private static final StorageEngine BINARY = new FileStorageEngine("binary", null, SnapshotFormat.BINARY);
+    private static final StorageEngine LSM = new LsmStorageEngine();
+
+    private static volatile StorageEngine current;
+
+    private StorageEngines() {
+    }
+
+    /**
+     * 메모리 엔진 (호출할 때마다 비어 있는 새 엔진)
+     */
+    public static StorageEngine memory() {
+        return new MemoryStorageEngine();
+    }
+
+    /**
+     * 파일 엔진 - 각 Repository가 선언한 저장 방식/형식을 그대로 사용 (기본값)
+     */
+    public static StorageEngine file() {
+        return FILE;
+    }
+
+    /**
+     * 전체 JSON 파일 기록 엔진 - 모든 테이블을 SNAPSHOT + JSON으로 저장
+     */
+    public static StorageEngine json() {
+        return JSON;
+    }
+
+    /**
+     * 저널 엔진 - 모든 테이블을 JOURNAL 방식으로 저장 (기준 파일 형식은 Repository 선언을 따름)
+     */
+    public static StorageEngine journal() {
+        return JOURNAL;
+    }
+
+    /**
+     * 바이너리 엔진 - 모든 테이블의 기준 파일을 BINARY 형식으로 저장 (저장 방식은 Repository 선언을 따름)
+     */
+    public static StorageEngine binary() {
+        return BINARY;
+    }
+
+    /**
+     * LSM 엔진 - 테이블마다 WAL + 정렬 세그먼트 디렉터리({fileName}.lsm)에 저장 (쓰기가 많은 환경용)
+     */
+    public static StorageEngine lsm() {
+        return LSM;
+    }
+
+    /**
+     * 이름으로 엔진 생성 (대소문자 무시)
+     */
+    public static StorageEngine fromName(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "memory" -> memory();
+            case "file" -> file();
+            case "json" -> json();
+            case "journal" -> journal();
+            case "binary" -> binary();
+            case "lsm" -> lsm();
+            default -> throw new IllegalArgumentException("알 수 없는 저장 엔진입니다: " + name);
+        };
+    }
+
+    /**
+     * 시스템 프로퍼티로 지정한 엔진 (지정하지 않았으면 file)
+     */
+    public static StorageEngine configured() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isBlank()) {
+            return file();
+        }
+        return fromName(value);
+    }
+
+    /**
+     * 이후에 여는 Repository가 사용할 엔진 지정
+     */
+    public static void use(StorageEngine engine) {
+        current = engine;
+    }
+
+    /**
+     * 현재 엔진 (지정하지 않았으면 configured()로 한 번 결정)
+     */
+    public static StorageEngine current() {
+        StorageEngine engine = current;
+        if (engine == null) {
+            synchronized (StorageEngines.class) {
+                engine = current;
+                if (engine == null) {
+                    engine = configured();
+                    current = engine;
+                }
+            }
+        }
+        return engine;
+    }
+}
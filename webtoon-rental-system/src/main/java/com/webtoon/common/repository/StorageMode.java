@@ -0,0 +1,19 @@
+package com.webtoon.common.repository;
+
+/**
+ * JsonRepository 저장 방식
+ */
+public enum StorageMode {
+
+    /**
+     * 저장/삭제할 때마다 전체 파일을 다시 기록 (기본값)
+     */
+    SNAPSHOT,
+
+    /**
+     * 저장/삭제 1건당 저널 파일에 한 줄만 추가하고,
+     * 저널이 일정 크기를 넘으면 전체 파일로 압축(compaction)
+     * 쓰기가 잦은 Repository(대여, 알림, 결제 내역)에 사용
+     */
+    JOURNAL
+}
@@ -0,0 +1,24 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * StorageEngine.openTable()에 넘기는 테이블 정의
+ *
+ * @param name                테이블 이름 (확장자 제외, 샤드면 "{fileName}-{샤드 번호}")
+ * @param entityClass         엔티티 클래스
+ * @param gson                엔티티 직렬화에 쓸 Gson
+ * @param idOf                엔티티의 ID 추출 함수
+ * @param storageMode         Repository가 선언한 저장 방식 (엔진이 무시할 수 있음)
+ * @param snapshotFormat      Repository가 선언한 기준 파일 형식 (엔진이 무시할 수 있음)
+ * @param compactionThreshold 저널을 압축하기 전까지 쌓아 둘 최대 레코드 수
+ * @param indexes             Repository가 선언한 보조 인덱스 (저장소가 직접 인덱스를 유지하는 엔진만 사용)
+ * @param <T>                 엔티티 타입
+ */
+public record TableSpec<T>(String name, Class<T> entityClass, Gson gson, Function<T, Long> idOf,
+                           StorageMode storageMode, SnapshotFormat snapshotFormat, int compactionThreshold,
+                           Map<String, Function<T, ?>> indexes) {
+}
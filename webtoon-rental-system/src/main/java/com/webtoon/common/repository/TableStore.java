@@ -0,0 +1,69 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블 하나의 저장소 (StorageEngine이 제공)
+ * - JsonRepository가 상주 테이블을 채울 때 load(), 그룹 커밋마다 write()를 호출
+ * - write()/compact()는 그룹 커밋 기록 스레드에서 테이블마다 한 번에 하나씩만 호출됨
+ * - 변경 레코드 형식: {"op":"PUT","id":1,"data":{...}} / {"op":"DEL","id":2}
+ *
+ * @param <T> 엔티티 타입
+ */
+public interface TableStore<T> {
+
+    /**
+     * 저장소 이름 (트랜잭션 로그/정렬용, 예: "rentals.json", "rentals-3.bin")
+     */
+    String getName();
+
+    /**
+     * 저장된 데이터가 있는지 (내용을 읽지 않고 판단)
+     */
+    boolean exists();
+
+    /**
+     * 저장된 엔티티를 rows에 채움 (ID → 엔티티, 저장 순서 유지)
+     * 복구/형식 변환이 필요하면 여기서 함께 처리
+     *
+     * @return 읽은 레코드의 최대 ID (삭제 레코드 포함, 시퀀스 복구용)
+     */
+    long load(Map<Long, T> rows);
+
+    /**
+     * 대기 중인 변경을 반영
+     *
+     * 전체를 다시 기록하는 저장소도 다른 인스턴스/프로세스의 기록과 합칠 때는 records만 덮어씀
+     *
+     * @param records 이번에 반영할 변경 레코드 (저장 모드와 관계없이 항상 전달됨)
+     * @param current 반영 시점의 테이블 전체
+     * @return current 전체를 기준 데이터로 다시 기록했으면 true (ID 시퀀스 보관 판단용)
+     */
+    boolean write(List<JsonObject> records, Collection<T> current);
+
+    /**
+     * 쌓인 변경 로그를 기준 데이터로 압축
+     *
+     * @return current 전체를 다시 기록했으면 true (압축할 것이 없는 저장소는 false)
+     */
+    boolean compact(Collection<T> current);
+
+    /**
+     * 마지막 markSynced() 이후 다른 인스턴스/프로세스가 저장소를 바꿨는지
+     */
+    boolean isStale();
+
+    /**
+     * 현재 저장소 상태를 "메모리와 일치함"으로 기록 (로드/저장 직후 호출)
+     */
+    void markSynced();
+
+    /**
+     * 저장된 데이터 전체 삭제 (샤드 이전 후 기존 테이블 정리용)
+     */
+    void drop();
+}
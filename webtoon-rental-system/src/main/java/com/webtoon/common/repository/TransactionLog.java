@@ -0,0 +1,378 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * UnitOfWork용 재실행(redo) 트랜잭션 로그 - 데이터 디렉터리마다 하나 ({directory}/transactions.log)
+ * - 커밋할 변경 전체를 한 줄로 파일 끝에 추가 + fsync (이 시점이 커밋 지점)
+ * - 동시에 커밋하는 트랜잭션은 fsync 한 번으로 함께 내림 (그룹 커밋: 먼저 fsync하는 쪽이 그때까지 추가된 줄을 모두 포함)
+ * - 모든 테이블 파일에 반영되면 완료 표시를 추가 (fsync 없음 - 다음 커밋의 fsync에 함께 포함되고, 잃어도 다시 적용할 뿐)
+ * - 진행 중인 트랜잭션이 없고 로그가 CHECKPOINT_BYTES를 넘으면 비움
+ * - 시작 시 완료 표시가 없는 트랜잭션이 남아 있으면(반영 도중 종료) 테이블을 읽기 전에 기록 순서대로 각 파일에 다시 적용
+ *   (엔티티 클래스 없이 JSON 그대로 적용하므로 Repository 생성 순서와 무관)
+ * - 한 테이블을 쓰는 트랜잭션은 테이블 쓰기 락으로 직렬화되고 완료 표시도 락 안에서 추가하므로,
+ *   완료되지 않은 트랜잭션 뒤에 같은 테이블을 바꾼 트랜잭션이 완료로 남는 일은 없음 (다시 적용해도 최신 변경을 덮지 않음)
+ *
+ * 레코드 형식
+ *   {"tx":1,"changes":[{"op":"PUT","id":1,"data":{...},"file":"rentals.json"}, {"op":"DEL","id":2,"file":"purchases.bin"}]}
+ *   {"done":1}
+ *   (file은 기준 파일명 - 확장자로 JSON/바이너리 형식을 구분, 확장자가 없으면 JSON, .lsm이면 LSM 저장소 디렉터리)
+ *   (tx가 없는 레코드는 이전 형식 - 완료 표시 없이 남은 것이므로 다시 적용)
+ */
+final class TransactionLog {
+
+    static final String FILE_NAME = "transactions.log";
+
+    // 진행 중인 트랜잭션이 없을 때 로그를 비우는 크기
+    private static final long CHECKPOINT_BYTES = 1L << 20;
+
+    // 데이터 디렉터리별 로그 (같은 디렉터리를 쓰는 엔진끼리 공유)
+    private static final Map<Path, TransactionLog> LOGS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Path path;
+
+    // 이 프로세스에서 복구를 이미 확인했는지
+    private volatile boolean recovered;
+
+    // 추가 전용 채널 (처음 커밋할 때 엶)
+    private FileChannel channel;
+
+    // 마지막으로 발급한 트랜잭션 번호
+    private long lastTx;
+
+    // 지금까지 추가한 줄 수 / fsync로 내린 줄 수 (그룹 커밋 판단용)
+    private long appended;
+    private long synced;
+
+    // 커밋 지점을 지났지만 아직 완료 표시를 남기지 않은 트랜잭션
+    private final Set<Long> active = new HashSet<>();
+
+    // fsync 직렬화용 (추가는 this, fsync는 이 락으로 분리해 fsync 중에도 다른 트랜잭션이 추가할 수 있음)
+    private final Object syncLock = new Object();
+
+    private TransactionLog(Path directory) {
+        this.directory = directory;
+        this.path = directory.resolve(FILE_NAME);
+    }
+
+    /**
+     * 데이터 디렉터리의 트랜잭션 로그 (같은 디렉터리면 같은 인스턴스)
+     */
+    static TransactionLog of(Path directory) {
+        return LOGS.computeIfAbsent(directory.toAbsolutePath().normalize(), TransactionLog::new);
+    }
+
+    /**
+     * 모든 로그를 닫고 다음 테이블 로드 때 복구를 다시 확인하도록 초기화 (테스트용: 재시작 흉내)
+     */
+    static void resetAll() {
+        LOGS.values().forEach(TransactionLog::close);
+        LOGS.clear();
+    }
+
+    /**
+     * 트랜잭션 기록 + fsync (커밋 지점)
+     *
+     * @return 트랜잭션 번호 (반영이 끝나면 done()에 전달)
+     */
+    long commit(JsonArray changes) {
+        long tx;
+        long line;
+        synchronized (this) {
+            tx = ++lastTx;
+            JsonObject record = new JsonObject();
+            record.addProperty("tx", tx);
+            record.add("changes", changes);
+            append(record);
+            line = appended;
+            active.add(tx);
+        }
+        try {
+            sync(line);
+        } catch (RuntimeException e) {
+            // 커밋 지점에 닿지 못함 - 다시 적용되지 않도록 완료로 표시
+            done(tx);
+            throw e;
+        }
+        return tx;
+    }
+
+    /**
+     * 모든 테이블 파일에 반영된 트랜잭션의 완료 표시 (테이블 쓰기 락을 잡은 상태에서 호출)
+     */
+    synchronized void done(long tx) {
+        JsonObject record = new JsonObject();
+        record.addProperty("done", tx);
+        append(record);
+        active.remove(tx);
+        if (active.isEmpty()) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * 완료 표시가 남지 않은 트랜잭션이 있는지
+     */
+    synchronized boolean hasActive() {
+        return !active.isEmpty();
+    }
+
+    /**
+     * 남아 있는 트랜잭션을 각 파일에 적용 (프로세스당 한 번, 첫 테이블 로드 전에 호출)
+     * 끝까지 기록되지 못한 마지막 줄(커밋 지점 이전 종료)은 버림
+     */
+    void recoverOnce() {
+        if (recovered) {
+            return;
+        }
+        synchronized (this) {
+            if (recovered) {
+                return;
+            }
+            recover();
+            recovered = true;
+        }
+    }
+
+    private void append(JsonObject record) {
+        byte[] bytes = (record + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            if (channel == null) {
+                Files.createDirectories(directory);
+                channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            appended++;
+        } catch (IOException e) {
+            throw new RuntimeException("트랜잭션 로그 쓰기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * line번째 줄까지 디스크에 내림 - 다른 스레드의 fsync가 이미 포함했으면 바로 반환
+     */
+    private void sync(long line) {
+        synchronized (syncLock) {
+            if (synced >= line) {
+                return;
+            }
+            FileChannel target;
+            long upTo;
+            synchronized (this) {
+                target = channel;
+                upTo = appended;
+            }
+            try {
+                target.force(false);
+            } catch (IOException e) {
+                throw new RuntimeException("트랜잭션 로그 쓰기 실패: " + path, e);
+            }
+            synced = upTo;
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 없을 때 로그가 충분히 커졌으면 비움 (남은 줄은 모두 완료된 트랜잭션)
+     */
+    private void checkpoint() {
+        try {
+            if (channel.size() >= CHECKPOINT_BYTES) {
+                channel.truncate(0);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("트랜잭션 로그 정리 실패: " + path, e);
+        }
+    }
+
+    private synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException("트랜잭션 로그 닫기 실패: " + path, e);
+        }
+        channel = null;
+    }
+
+    /**
+     * 완료 표시가 없는 트랜잭션을 기록 순서대로 다시 적용한 뒤 로그 삭제
+     * 줄바꿈까지 기록된 줄을 읽지 못하면 손상으로 보고 예외 (로그를 지우지 않고 그대로 둠)
+     */
+    private void recover() {
+        Map<Long, JsonArray> pending = readPending();
+        if (!pending.isEmpty()) {
+            Map<String, JsonArray> changesByFile = new LinkedHashMap<>();
+            for (JsonArray transaction : pending.values()) {
+                for (JsonElement element : transaction) {
+                    JsonObject change = element.getAsJsonObject();
+                    changesByFile.computeIfAbsent(change.get("file").getAsString(), f -> new JsonArray()).add(change);
+                }
+            }
+            changesByFile.forEach((file, changes) -> {
+                if (file.endsWith(LsmStorageEngine.EXTENSION)) {
+                    applyToLsm(file, changes);
+                } else {
+                    applyToFile(file, changes);
+                }
+            });
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new RuntimeException("트랜잭션 로그 정리 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 완료 표시가 없는 트랜잭션 (트랜잭션 번호 → 변경 목록, 기록 순서)
+     */
+    private Map<Long, JsonArray> readPending() {
+        Map<Long, JsonArray> pending = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return pending;
+        }
+        String content;
+        try {
+            content = Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("트랜잭션 로그 읽기 실패: " + path, e);
+        }
+        // 줄바꿈까지 기록되어야 완전한 줄 (마지막 줄바꿈 뒤는 쓰다 만 줄)
+        String[] lines = content.substring(0, content.lastIndexOf('\n') + 1).split("\n");
+        long legacy = 0L;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            try {
+                JsonObject record = JsonParser.parseString(lines[i]).getAsJsonObject();
+                if (record.has("done")) {
+                    pending.remove(record.get("done").getAsLong());
+                } else {
+                    // 이전 형식(tx 없음)은 번호가 겹치지 않도록 음수로 구분
+                    long tx = record.has("tx") ? record.get("tx").getAsLong() : --legacy;
+                    pending.put(tx, record.getAsJsonArray("changes"));
+                }
+            } catch (JsonParseException | IllegalStateException | NullPointerException e) {
+                throw new RuntimeException("트랜잭션 로그 손상 (" + (i + 1) + "번째 줄): " + path, e);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 한 파일에 변경 적용
+     * 기준 파일 + (유효한) 저널을 합친 현재 상태에 변경을 덮어쓴 뒤 기준 파일로 기록하고 저널은 삭제
+     * 다른 프로세스가 같은 파일을 쓰고 있을 수 있으므로 파일 잠금 안에서 적용하고 버전을 올림
+     */
+    private void applyToFile(String file, JsonArray changes) {
+        ProcessLock processLock = ProcessLock.of(directory, stripExtension(file));
+        processLock.locked(() -> {
+            applyToFileLocked(file, changes);
+            processLock.bump();
+        });
+    }
+
+    private void applyToFileLocked(String file, JsonArray changes) {
+        boolean binary = file.endsWith(SnapshotFormat.BINARY.getExtension());
+        String fileName = stripExtension(file);
+        Path base = directory.resolve(fileName + (binary ? SnapshotFormat.BINARY : SnapshotFormat.JSON).getExtension());
+        EntityJournal journal = new EntityJournal(directory.resolve(fileName + ".journal"));
+
+        Map<Long, JsonElement> rows = new LinkedHashMap<>();
+        try {
+            // 바이너리 파일이 아직 없으면 JSON 파일에서 가져오는 중이었던 것
+            Path source = binary && !Files.exists(base)
+                    ? directory.resolve(fileName + SnapshotFormat.JSON.getExtension())
+                    : base;
+            if (Files.exists(source)) {
+                List<DamagedRecord> damaged = new ArrayList<>();
+                readRows(source, binary && source == base, rows, damaged);
+                Quarantine.record(source, damaged);
+            }
+            if (journal.matches(EntityTable.FileStamp.of(source))) {
+                journal.replay(change -> apply(rows, change));
+            }
+            for (JsonElement change : changes) {
+                apply(rows, change.getAsJsonObject());
+            }
+
+            JsonArray merged = new JsonArray();
+            rows.values().forEach(merged::add);
+            if (binary) {
+                DurableFiles.replace(base, temp -> BinarySnapshotCodec.writeTrees(temp, merged));
+            } else {
+                DurableFiles.replace(base, temp -> EntityCodec.writeTrees(temp, merged));
+            }
+            // 기준 파일이 바뀌었으므로 이전 저널은 더 이상 유효하지 않음
+            journal.discard();
+        } catch (IOException | JsonParseException e) {
+            throw new RuntimeException("트랜잭션 복구 실패: " + fileName, e);
+        }
+    }
+
+    /**
+     * LSM 저장소에 변경 적용 (WAL에 다시 추가 - 같은 값을 여러 번 적용해도 결과는 같음)
+     * 보조 인덱스 항목은 테이블을 열 때 다시 만들어짐 (LsmStorageEngine.recover)
+     */
+    private void applyToLsm(String file, JsonArray changes) {
+        List<JsonObject> records = new ArrayList<>();
+        changes.forEach(change -> records.add(change.getAsJsonObject()));
+        LsmStorageEngine.recover(directory.resolve(file), records);
+    }
+
+    private static void readRows(Path path, boolean binary, Map<Long, JsonElement> rows,
+                                 List<DamagedRecord> damaged) throws IOException {
+        Consumer<JsonElement> collector = row -> rows.put(row.getAsJsonObject().get("id").getAsLong(), row);
+        if (binary) {
+            BinarySnapshotCodec.readTrees(path, collector, damaged::add);
+        } else {
+            EntityCodec.readTrees(path, collector, damaged::add);
+        }
+    }
+
+    private static String stripExtension(String file) {
+        for (SnapshotFormat format : SnapshotFormat.values()) {
+            if (file.endsWith(format.getExtension())) {
+                return file.substring(0, file.length() - format.getExtension().length());
+            }
+        }
+        return file;
+    }
+
+    private static void apply(Map<Long, JsonElement> rows, JsonObject change) {
+        Long id = change.get("id").getAsLong();
+        if (EntityJournal.OP_PUT.equals(change.get("op").getAsString())) {
+            rows.put(id, change.get("data"));
+        } else {
+            rows.remove(id);
+        }
+    }
+}
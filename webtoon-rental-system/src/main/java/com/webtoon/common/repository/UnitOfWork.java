@@ -0,0 +1,211 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 여러 Repository에 걸친 변경을 하나로 묶는 작업 단위 (트랜잭션)
+ * - begin() 이후 같은 스레드에서 호출한 save/update/delete는 바로 반영되지 않고 여기에 모임
+ * - commit() 시 모든 변경을 트랜잭션 로그에 한 줄로 추가(fsync)한 뒤 각 테이블에 함께 반영
+ * - 관련 테이블의 쓰기 락만 잡으므로 다른 테이블을 쓰는 트랜잭션과는 동시에 커밋됨
+ * - 트랜잭션 로그에 기록된 시점이 커밋 지점: 이후 비정상 종료되어도 다음 실행 때 로그로 복구
+ * - commit() 없이 close()되면 모은 변경은 버림 (조회 결과는 복사본이므로 테이블에는 아무것도 남지 않음)
+ *
+ * 사용 예
+ *   try (UnitOfWork uow = UnitOfWork.begin()) {
+ *       purchaseRepository.save(purchase);
+ *       readerRepository.update(reader);
+ *       uow.commit();
+ *   }
+ */
+public final class UnitOfWork implements AutoCloseable {
+
+    // 스레드별 진행 중인 작업 단위
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    // 테이블별 모인 변경 (같은 파일을 쓰는 Repository 인스턴스끼리 합침)
+    private final Map<EntityTable<?>, Pending<?>> pending = new IdentityHashMap<>();
+
+    // 바깥 작업 단위에 합류한 경우 (commit/close는 바깥에서 처리)
+    private final boolean nested;
+
+    private boolean finished;
+
+    private UnitOfWork(boolean nested) {
+        this.nested = nested;
+    }
+
+    /**
+     * 작업 단위 시작 (이미 진행 중이면 바깥 작업 단위에 합류)
+     */
+    public static UnitOfWork begin() {
+        if (CURRENT.get() != null) {
+            return new UnitOfWork(true);
+        }
+        UnitOfWork unitOfWork = new UnitOfWork(false);
+        CURRENT.set(unitOfWork);
+        return unitOfWork;
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 작업 단위 (없으면 null)
+     */
+    static UnitOfWork current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 변경 등록 (JsonRepository에서 호출)
+     *
+     * @param changes ID → 엔티티 (값이 null이면 삭제)
+     */
+    @SuppressWarnings("unchecked")
+    <T> void stage(JsonRepository<T> repository, EntityTable<T> table, Map<Long, T> changes) {
+        if (finished) {
+            throw new IllegalStateException("이미 종료된 작업 단위입니다.");
+        }
+        Pending<T> entry = (Pending<T>) pending.computeIfAbsent(table, t -> new Pending<>(repository, table));
+        entry.changes.putAll(changes);
+    }
+
+    /**
+     * 모인 변경을 한 번에 반영
+     * 1) 관련 테이블의 쓰기 락을 저장소 이름 순으로 획득 (교착 방지)
+     * 2) 모든 변경을 트랜잭션 로그 끝에 추가 + fsync → 커밋 지점 (디스크에 남지 않는 엔진만 관련되면 생략)
+     * 3) 각 테이블 메모리에 반영하고 그룹 커밋으로 파일 기록 (테이블끼리 동시에 진행)
+     * 4) 모든 파일 기록이 끝나면 트랜잭션 로그에 완료 표시
+     * 락은 관련 테이블에만 잡으므로 테이블이 겹치지 않는 트랜잭션은 동시에 커밋되고 로그 fsync도 함께 묶임
+     * 락은 4)까지 유지하므로, 완료 표시 전에 같은 테이블의 다른 쓰기가 끼어들지 않음
+     */
+    public void commit() {
+        if (nested) {
+            return;
+        }
+        if (finished) {
+            throw new IllegalStateException("이미 종료된 작업 단위입니다.");
+        }
+        finished = true;
+        CURRENT.remove();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Pending<?>> entries = new ArrayList<>(pending.values());
+        entries.sort(Comparator.comparing(entry -> entry.table.getName()));
+        // memory 엔진처럼 디스크에 남지 않는 테이블뿐이면 복구할 것이 없으므로 트랜잭션 로그를 쓰지 않음
+        TransactionLog log = transactionLog(entries);
+
+        List<Pending<?>> locked = new ArrayList<>();
+        try {
+            for (Pending<?> entry : entries) {
+                entry.table.writeLock().lock();
+                locked.add(entry);
+            }
+
+            long tx = log != null ? writeTransactionLog(log, entries) : 0L;
+
+            List<CompletableFuture<Void>> pendingWrites = new ArrayList<>();
+            for (Pending<?> entry : entries) {
+                pendingWrites.add(entry.apply());
+            }
+            awaitAll(pendingWrites);
+
+            if (log != null) {
+                log.done(tx);
+            }
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                locked.get(i).table.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * commit() 없이 종료되면 모은 변경을 버림 (롤백)
+     * 서비스가 고친 엔티티는 조회한 복사본이라 테이블은 그대로이므로 다시 로드하지 않음
+     */
+    @Override
+    public void close() {
+        if (nested || finished) {
+            return;
+        }
+        finished = true;
+        CURRENT.remove();
+        pending.clear();
+    }
+
+    /**
+     * 관련 테이블이 쓰는 트랜잭션 로그 (디스크에 남는 테이블이 없으면 null)
+     * 복구는 로그가 있는 데이터 디렉터리 기준으로 적용하므로 한 작업 단위는 한 디렉터리 안에서만 커밋
+     */
+    private static TransactionLog transactionLog(List<Pending<?>> entries) {
+        TransactionLog log = null;
+        for (Pending<?> entry : entries) {
+            TransactionLog entryLog = entry.repository.transactionLog();
+            if (entryLog == null) {
+                continue;
+            }
+            if (log != null && log != entryLog) {
+                throw new IllegalStateException("한 작업 단위에서 서로 다른 데이터 디렉터리의 테이블을 함께 커밋할 수 없습니다.");
+            }
+            log = entryLog;
+        }
+        return log;
+    }
+
+    /**
+     * 모든 변경을 트랜잭션 로그에 기록 (커밋 지점)
+     *
+     * @return 트랜잭션 번호
+     */
+    private static long writeTransactionLog(TransactionLog log, List<Pending<?>> entries) {
+        JsonArray changes = new JsonArray();
+        for (Pending<?> entry : entries) {
+            entry.transactionRecords().forEach(changes::add);
+        }
+        // 실패하면 테이블에는 아직 아무것도 반영하지 않았으므로 롤백과 같음
+        return log.commit(changes);
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 한 테이블에 대해 모인 변경
+     */
+    private static final class Pending<T> {
+        private final JsonRepository<T> repository;
+        private final EntityTable<T> table;
+        private final Map<Long, T> changes = new LinkedHashMap<>();
+
+        private Pending(JsonRepository<T> repository, EntityTable<T> table) {
+            this.repository = repository;
+            this.table = table;
+        }
+
+        private List<JsonObject> transactionRecords() {
+            return repository.transactionRecords(table, changes);
+        }
+
+        private CompletableFuture<Void> apply() {
+            return repository.applyChanges(table, changes);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.webtoon.common.util;
+
+/**
+ * long 값 집합 (박싱 없는 open addressing)
+ * - 원소마다 Long 객체 + 해시 노드를 만드는 HashSet<Long> 대신 long[] 하나에 저장
+ * - 선형 탐사, 크기가 용량의 절반을 넘으면 두 배로 늘림
+ * - 0은 빈 칸 표시로 쓰므로 별도 플래그로 보관
+ * - 동기화하지 않음 (호출하는 쪽에서 잠금)
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private boolean containsZero;
+    private int size;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LongHashSet(int expectedSize) {
+        this.keys = new long[LongHashing.capacityFor(expectedSize, MIN_CAPACITY)];
+    }
+
+    /**
+     * @return 새로 추가했으면 true, 이미 있었으면 false
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int slot = LongHashing.slot(value, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int mask = keys.length - 1;
+        int slot = LongHashing.slot(value, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = keys;
+        keys = new long[capacity];
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value == 0) {
+                continue;
+            }
+            int slot = LongHashing.slot(value, mask);
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = value;
+        }
+    }
+}
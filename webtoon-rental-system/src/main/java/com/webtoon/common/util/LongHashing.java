@@ -0,0 +1,32 @@
+package com.webtoon.common.util;
+
+/**
+ * LongHashSet / LongLongHashMap 공통 해시 계산
+ */
+final class LongHashing {
+
+    private LongHashing() {
+    }
+
+    /**
+     * 연속된 ID도 고르게 흩어지도록 섞은 뒤 칸 번호로 변환
+     */
+    static int slot(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * expectedSize개를 넣어도 절반 이하로 차는 2의 거듭제곱 용량
+     */
+    static int capacityFor(int expectedSize, int minCapacity) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("예상 크기는 0 이상이어야 합니다: " + expectedSize);
+        }
+        int capacity = minCapacity;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
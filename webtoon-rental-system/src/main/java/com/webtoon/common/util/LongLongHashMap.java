@@ -0,0 +1,177 @@
+package com.webtoon.common.util;
+
+/**
+ * long → long 맵 (박싱 없는 open addressing)
+ * - 키/값을 long[] 두 개에 저장, 선형 탐사
+ * - 삭제 시 뒤따르는 칸을 당겨 채우므로(backward shift) 삭제 표시가 쌓이지 않음
+ * - 0 키는 빈 칸 표시로 쓰므로 별도 필드로 보관
+ * - 동기화하지 않음 (호출하는 쪽에서 잠금)
+ */
+public final class LongLongHashMap {
+
+    /**
+     * 값을 하나씩 넘겨받는 콜백 (박싱 없이 순회)
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private long[] values;
+    private boolean containsZero;
+    private long zeroValue;
+    private int size;
+
+    public LongLongHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = LongHashing.capacityFor(expectedSize, MIN_CAPACITY);
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    /**
+     * @return 키가 없으면 missing
+     */
+    public long get(long key, long missing) {
+        if (key == 0) {
+            return containsZero ? zeroValue : missing;
+        }
+        int slot = find(key);
+        return slot < 0 ? missing : values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? containsZero : find(key) >= 0;
+    }
+
+    public void put(long key, long value) {
+        if (key == 0) {
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int mask = keys.length - 1;
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * @return 삭제했으면 true
+     */
+    public boolean remove(long key) {
+        if (key == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        if (containsZero) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 비운 칸 뒤의 탐사 구간에서, 원래 자리가 비운 칸 이전인 원소를 당겨 채움
+     */
+    private void shiftBack(int hole) {
+        int mask = keys.length - 1;
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == 0) {
+                break;
+            }
+            int home = LongHashing.slot(key, mask);
+            // home이 (hole, slot] 구간 밖이면 hole로 옮겨도 탐사 경로가 유지됨
+            boolean reachable = hole <= slot
+                    ? hole < home && home <= slot
+                    : hole < home || home <= slot;
+            if (!reachable) {
+                keys[hole] = key;
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == 0) {
+                continue;
+            }
+            int slot = LongHashing.slot(key, mask);
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+}
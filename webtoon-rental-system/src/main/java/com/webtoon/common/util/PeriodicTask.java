@@ -0,0 +1,98 @@
+package com.webtoon.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 백그라운드 주기 작업 (데몬 스레드 하나)
+ * - 작업에서 예외가 나면 실패 건수/마지막 예외를 기록하고 실패 처리기에 넘긴 뒤 다음 주기에 다시 실행
+ *   (출력하지 않으며, 호출 측은 getFailureCount()/getLastFailure()나 실패 처리기로 확인)
+ * - 프로그램 종료를 막지 않도록 데몬 스레드 사용
+ */
+public class PeriodicTask implements AutoCloseable {
+
+    private final String name;
+    private final Runnable action;
+    private final Consumer<RuntimeException> onFailure;
+
+    private final AtomicLong failures = new AtomicLong();
+    private volatile RuntimeException lastFailure;
+
+    private ScheduledExecutorService scheduler;
+
+    public PeriodicTask(String name, Runnable action) {
+        this(name, action, e -> { });
+    }
+
+    /**
+     * @param onFailure 작업이 예외로 끝날 때마다 실행 스레드에서 호출 (여기서 던진 예외는 무시)
+     */
+    public PeriodicTask(String name, Runnable action, Consumer<RuntimeException> onFailure) {
+        this.name = name;
+        this.action = action;
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * 주기 실행 시작 (첫 실행은 interval 후, 이미 시작했으면 무시)
+     */
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("실행 주기는 0보다 커야 합니다.");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::runSafely, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주기 실행 중지
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 지금까지 예외로 끝난 실행 횟수
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /**
+     * 마지막으로 실패한 실행의 예외 (실패한 적이 없으면 null)
+     */
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    private void runSafely() {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // 예외가 나면 스케줄이 중단되므로 여기서 처리
+            lastFailure = e;
+            failures.incrementAndGet();
+            try {
+                onFailure.accept(e);
+            } catch (RuntimeException ignored) {
+                // 처리기 오류로 주기 실행이 멈추지 않도록 무시
+            }
+        }
+    }
+}
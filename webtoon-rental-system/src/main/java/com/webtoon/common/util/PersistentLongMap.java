@@ -0,0 +1,455 @@
+package com.webtoon.common.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * long → 값 불변(persistent) 맵 (비트맵 압축 32갈래 trie)
+ * - put/remove는 원본을 바꾸지 않고 새 맵을 돌려주며, 바뀐 경로(최대 13개 노드)만 복사하고 나머지는 원본과 공유
+ *   → 스냅샷을 여러 개 동시에 공개해도 변경 비용은 맵 크기와 무관 (O(log32 n))
+ * - 키의 부호 없는(unsigned) 오름차순으로 순회 (트리 높이는 가장 큰 키에 맞춰 늘어남)
+ * - 여러 건을 한 번에 바꿀 때는 builder()를 쓰면 이번에 복사한 노드는 제자리에서 고침
+ * - 값으로 null은 허용하지 않음
+ * - 공개된 맵은 불변이므로 잠금 없이 여러 스레드가 읽어도 됨 (Builder는 한 스레드에서만 사용)
+ *
+ * @param <V> 값 타입
+ */
+public final class PersistentLongMap<V> {
+
+    /**
+     * 항목을 하나씩 넘겨받는 콜백 (키 박싱 없이 순회)
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MAX_SHIFT = 60;
+
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(null, 0, 0);
+
+    // 최상위 노드 (비어 있으면 null)와 그 노드가 나누는 비트 위치
+    private final Node root;
+    private final int shift;
+    private final int size;
+
+    private PersistentLongMap(Node root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return 키가 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (root == null || !fits(key, shift)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; ; level -= BITS) {
+            int bit = bitOf(key, level);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object child = node.slots[node.position(bit)];
+            if (level == 0) {
+                return (V) child;
+            }
+            node = (Node) child;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * key를 value로 바꾼 새 맵 (같은 값이면 그대로 반환)
+     */
+    public PersistentLongMap<V> put(long key, V value) {
+        Builder<V> builder = new Builder<>(this, null);
+        builder.put(key, value);
+        return builder.root == root ? this : builder.result();
+    }
+
+    /**
+     * key를 뺀 새 맵 (없으면 그대로 반환)
+     */
+    public PersistentLongMap<V> remove(long key) {
+        Builder<V> builder = new Builder<>(this, null);
+        builder.remove(key);
+        return builder.root == root ? this : builder.result();
+    }
+
+    /**
+     * 이 맵에서 시작해 여러 건을 바꾸는 Builder (이 맵은 그대로 유지)
+     */
+    public Builder<V> builder() {
+        return new Builder<>(this, new Object());
+    }
+
+    /**
+     * 키 오름차순으로 모든 항목 순회
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        Cursor cursor = new Cursor(root, shift);
+        while (cursor.advance()) {
+            consumer.accept(cursor.key, (V) cursor.value);
+        }
+    }
+
+    /**
+     * 키 오름차순 값 순회
+     */
+    public Iterator<V> valueIterator() {
+        return new Iterator<>() {
+            private final Cursor cursor = new Cursor(root, shift);
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                if (!ready) {
+                    ready = cursor.advance();
+                }
+                return ready;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return (V) cursor.value;
+            }
+        };
+    }
+
+    /**
+     * 키 오름차순 키 순회
+     */
+    public PrimitiveIterator.OfLong keyIterator() {
+        return new PrimitiveIterator.OfLong() {
+            private final Cursor cursor = new Cursor(root, shift);
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                if (!ready) {
+                    ready = cursor.advance();
+                }
+                return ready;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return cursor.key;
+            }
+        };
+    }
+
+    /**
+     * 여러 건을 한 번에 바꾸는 편집기
+     * - 원본 맵과 공유하는 노드는 처음 고칠 때 한 번만 복사하고, 그 뒤로는 복사본을 제자리에서 고침
+     * - build() 후에는 더 이상 고칠 수 없음
+     */
+    public static final class Builder<V> {
+
+        // 이 편집기가 만든 노드 표시 (null이면 매번 복사 - put/remove 한 건용)
+        private Object owner;
+        private Node root;
+        private int shift;
+        private int size;
+
+        private Builder(PersistentLongMap<V> source, Object owner) {
+            this.owner = owner;
+            this.root = source.root;
+            this.shift = source.shift;
+            this.size = source.size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public V get(long key) {
+            return new PersistentLongMap<V>(root, shift, size).get(key);
+        }
+
+        public Builder<V> put(long key, V value) {
+            Objects.requireNonNull(value, "value");
+            ensureEditable();
+            if (root == null) {
+                shift = 0;
+                while (!fits(key, shift)) {
+                    shift += BITS;
+                }
+                root = path(key, shift, value);
+                size = 1;
+                return this;
+            }
+            while (!fits(key, shift)) {
+                // 키가 현재 높이에 들어가지 않으면 한 단계 위에 새 최상위 노드를 둠 (기존 노드는 0번 칸)
+                root = new Node(owner, 1, new Object[]{root});
+                shift += BITS;
+            }
+            boolean[] added = new boolean[1];
+            root = put(root, shift, key, value, added);
+            if (added[0]) {
+                size++;
+            }
+            return this;
+        }
+
+        public Builder<V> remove(long key) {
+            ensureEditable();
+            if (root == null || !fits(key, shift)) {
+                return this;
+            }
+            boolean[] removed = new boolean[1];
+            Node next = remove(root, shift, key, removed);
+            if (!removed[0]) {
+                return this;
+            }
+            size--;
+            root = next;
+            if (root == null) {
+                shift = 0;
+            }
+            return this;
+        }
+
+        /**
+         * 편집 결과를 불변 맵으로 공개 (이후 이 편집기는 쓸 수 없음)
+         */
+        public PersistentLongMap<V> build() {
+            ensureEditable();
+            PersistentLongMap<V> result = result();
+            owner = Closed.INSTANCE;
+            return result;
+        }
+
+        private PersistentLongMap<V> result() {
+            return size == 0 ? empty() : new PersistentLongMap<>(root, shift, size);
+        }
+
+        private void ensureEditable() {
+            if (owner == Closed.INSTANCE) {
+                throw new IllegalStateException("이미 공개한 Builder는 고칠 수 없습니다.");
+            }
+        }
+
+        private Node put(Node node, int level, long key, V value, boolean[] added) {
+            int bit = bitOf(key, level);
+            int position = node.position(bit);
+            if ((node.bitmap & bit) == 0) {
+                Object child = level == 0 ? value : path(key, level - BITS, value);
+                added[0] = true;
+                return node.insert(owner, bit, position, child);
+            }
+            Object current = node.slots[position];
+            Object child = level == 0 ? value : put((Node) current, level - BITS, key, value, added);
+            if (child == current) {
+                return node;
+            }
+            Node editable = node.editable(owner);
+            editable.slots[position] = child;
+            return editable;
+        }
+
+        private Node remove(Node node, int level, long key, boolean[] removed) {
+            int bit = bitOf(key, level);
+            if ((node.bitmap & bit) == 0) {
+                return node;
+            }
+            int position = node.position(bit);
+            Object current = node.slots[position];
+            Object child = null;
+            if (level > 0) {
+                child = remove((Node) current, level - BITS, key, removed);
+                if (!removed[0]) {
+                    return node;
+                }
+                if (child == current) {
+                    return node;
+                }
+            } else {
+                removed[0] = true;
+            }
+            if (child == null) {
+                return node.count() == 1 ? null : node.delete(owner, bit, position);
+            }
+            Node editable = node.editable(owner);
+            editable.slots[position] = child;
+            return editable;
+        }
+
+        private Node path(long key, int level, V value) {
+            Object child = value;
+            for (int current = 0; current <= level; current += BITS) {
+                child = new Node(owner, bitOf(key, current), new Object[]{child});
+            }
+            return (Node) child;
+        }
+    }
+
+    private static boolean fits(long key, int shift) {
+        return shift >= MAX_SHIFT || (key >>> (shift + BITS)) == 0;
+    }
+
+    private static int bitOf(long key, int shift) {
+        return 1 << (int) ((key >>> shift) & (WIDTH - 1));
+    }
+
+    /**
+     * trie 노드 - bitmap의 켜진 칸 순서대로 slots에 자식(맨 아래 단계는 값)을 보관
+     * owner가 같은 Builder에서는 제자리에서 고침 (slots 뒤쪽에 여유 칸이 있을 수 있음)
+     */
+    private static final class Node {
+
+        private final Object owner;
+        private int bitmap;
+        private Object[] slots;
+
+        private Node(Object owner, int bitmap, Object[] slots) {
+            this.owner = owner;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int count() {
+            return Integer.bitCount(bitmap);
+        }
+
+        int position(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Node editable(Object editor) {
+            if (editor != null && owner == editor) {
+                return this;
+            }
+            int count = count();
+            Object[] copy = new Object[editor != null ? Math.min(WIDTH, count + 2) : count];
+            System.arraycopy(slots, 0, copy, 0, count);
+            return new Node(editor, bitmap, copy);
+        }
+
+        Node insert(Object editor, int bit, int position, Object child) {
+            int count = count();
+            if (editor != null && owner == editor && slots.length > count) {
+                System.arraycopy(slots, position, slots, position + 1, count - position);
+                slots[position] = child;
+                bitmap |= bit;
+                return this;
+            }
+            Object[] grown = new Object[editor != null ? Math.min(WIDTH, count * 2 + 1) : count + 1];
+            System.arraycopy(slots, 0, grown, 0, position);
+            grown[position] = child;
+            System.arraycopy(slots, position, grown, position + 1, count - position);
+            return new Node(editor, bitmap | bit, grown);
+        }
+
+        Node delete(Object editor, int bit, int position) {
+            int count = count();
+            if (editor != null && owner == editor) {
+                System.arraycopy(slots, position + 1, slots, position, count - position - 1);
+                slots[count - 1] = null;
+                bitmap &= ~bit;
+                return this;
+            }
+            Object[] shrunk = new Object[count - 1];
+            System.arraycopy(slots, 0, shrunk, 0, position);
+            System.arraycopy(slots, position + 1, shrunk, position, count - position - 1);
+            return new Node(editor, bitmap & ~bit, shrunk);
+        }
+    }
+
+    /**
+     * 깊이 우선 순회 위치 (단계별 노드와 다음에 볼 칸 번호)
+     */
+    private static final class Cursor {
+
+        private final Node[] nodes;
+        private final int[] next;
+        private final long[] prefixes;
+        private final int rootShift;
+        private int depth;
+
+        private long key;
+        private Object value;
+
+        private Cursor(Node root, int rootShift) {
+            int levels = rootShift / BITS + 1;
+            this.nodes = new Node[levels];
+            this.next = new int[levels];
+            this.prefixes = new long[levels];
+            this.rootShift = rootShift;
+            this.nodes[0] = root;
+            this.depth = root == null ? -1 : 0;
+        }
+
+        /**
+         * 다음 항목으로 이동 (없으면 false)
+         */
+        boolean advance() {
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                int slot = next[depth];
+                while (slot < WIDTH && (node.bitmap & (1 << slot)) == 0) {
+                    slot++;
+                }
+                if (slot == WIDTH) {
+                    depth--;
+                    continue;
+                }
+                next[depth] = slot + 1;
+                int level = rootShift - depth * BITS;
+                long prefix = prefixes[depth] | ((long) slot << level);
+                Object child = node.slots[node.position(1 << slot)];
+                if (level == 0) {
+                    key = prefix;
+                    value = child;
+                    return true;
+                }
+                depth++;
+                nodes[depth] = (Node) child;
+                next[depth] = 0;
+                prefixes[depth] = prefix;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * build()를 마친 Builder 표시
+     */
+    private enum Closed {
+        INSTANCE
+    }
+}
@@ -0,0 +1,154 @@
+package com.webtoon.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ * - 예약/만료 처리 비용이 예약된 전체 건수와 무관 (정렬 큐처럼 매 틱 훑지 않음)
+ * - 0단계는 틱(tickMillis) 단위 칸 wheelSize개, 윗단계는 한 칸이 아랫단계 한 바퀴 (필요할 때 단계 추가)
+ * - 윗단계 칸의 시각이 되면 그 칸의 항목을 아랫단계로 내려 다시 배치(cascade)
+ * - advance(now)가 now까지 지난 틱을 처리하고 만료된 항목을 한 번에 돌려줌 (만료 시각 순서는 틱 단위까지만 보장)
+ * - 취소는 지원하지 않으므로 만료 시점에 호출하는 쪽에서 아직 유효한지 확인
+ * - 스레드 안전 (메서드 단위 동기화)
+ *
+ * @param <T> 예약 항목
+ */
+public final class TimingWheel<T> {
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    // 단계별 칸 목록 (비어 있는 칸은 null)
+    private final List<List<List<Entry<T>>>> levels = new ArrayList<>();
+
+    // 처리를 마친 마지막 틱 (이 틱 이하로 예약하면 다음 advance에서 바로 만료)
+    private long currentTick;
+    private List<T> due = new ArrayList<>();
+    private int size;
+
+    /**
+     * @param tickMillis 틱 길이 (만료 정밀도)
+     * @param wheelSize  단계당 칸 수 (2 이상)
+     * @param startMillis 시작 시각 (epoch 밀리초)
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("틱 길이는 0보다 커야 합니다: " + tickMillis);
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("휠 칸 수는 2 이상이어야 합니다: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * deadlineMillis(epoch 밀리초)에 만료되도록 예약
+     */
+    public synchronized void schedule(long deadlineMillis, T item) {
+        // 틱 경계로 올림 → 해당 틱을 처리할 때는 now >= deadline
+        long deadlineTick = -Math.floorDiv(-deadlineMillis, tickMillis);
+        place(new Entry<>(deadlineTick, item));
+        size++;
+    }
+
+    /**
+     * nowMillis까지 지난 틱을 처리하고 만료된 항목 반환 (없으면 빈 목록)
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            if (size == due.size()) {
+                // 휠이 비었으면 남은 틱을 건너뜀 (오래 멈춰 있다 깨어나도 틱마다 돌지 않음)
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            cascade();
+            List<Entry<T>> bucket = takeBucket(0, slotOf(currentTick, 1));
+            for (Entry<T> entry : bucket) {
+                due.add(entry.item());
+            }
+        }
+        List<T> expired = due;
+        due = new ArrayList<>();
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * 예약되어 아직 돌려주지 않은 항목 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 현재 틱이 윗단계 칸의 경계이면 그 칸의 항목을 아랫단계로 내림 (높은 단계부터)
+     */
+    private void cascade() {
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            long span = spanOf(level);
+            if (currentTick % span != 0) {
+                continue;
+            }
+            for (Entry<T> entry : takeBucket(level, slotOf(currentTick, span))) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick() - currentTick;
+        if (delta <= 0) {
+            due.add(entry.item());
+            return;
+        }
+        int level = 0;
+        long span = 1;
+        // 이 단계 한 바퀴 안에 들어오는 가장 낮은 단계
+        while (delta >= span * wheelSize) {
+            level++;
+            span *= wheelSize;
+        }
+        bucket(level, slotOf(entry.deadlineTick(), span)).add(entry);
+    }
+
+    private long spanOf(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span *= wheelSize;
+        }
+        return span;
+    }
+
+    private int slotOf(long tick, long span) {
+        return (int) Math.floorMod(Math.floorDiv(tick, span), (long) wheelSize);
+    }
+
+    private List<Entry<T>> bucket(int level, int slot) {
+        while (levels.size() <= level) {
+            levels.add(new ArrayList<>(Collections.nCopies(wheelSize, null)));
+        }
+        List<List<Entry<T>>> wheel = levels.get(level);
+        List<Entry<T>> bucket = wheel.get(slot);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            wheel.set(slot, bucket);
+        }
+        return bucket;
+    }
+
+    private List<Entry<T>> takeBucket(int level, int slot) {
+        if (level >= levels.size()) {
+            return List.of();
+        }
+        List<Entry<T>> bucket = levels.get(level).set(slot, null);
+        return bucket == null ? List.of() : bucket;
+    }
+}
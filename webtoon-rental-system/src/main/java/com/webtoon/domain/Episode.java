@@ -1,6 +1,7 @@
 package com.webtoon.domain;
 
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
 /**
  * 회차 도메인 (콘솔 데모용 텍스트 콘텐츠 포함)
@@ -14,7 +15,11 @@ public class Episode {
     // 기본 정보
     private int number;         // 1..N (정렬 기준)
     private String title;       // 회차 제목
-    private String content;     // 콘솔로 출력할 본문 텍스트
+    private String content;     // 콘솔로 출력할 본문 텍스트 (본문 저장소로 옮기기 전까지만 보관)
+    private String contentRef;  // 본문 저장소 참조 (JsonEpisodeRepository 사용 시)
+
+    // 본문 저장소에서 필요할 때 본문을 읽어 오는 로더 (파일에 저장하지 않음)
+    private transient Supplier<String> contentLoader;
 
     // 가격
     private int rentPrice;      // 기본 50P
@@ -48,7 +53,7 @@ public class Episode {
     }
 
     public void updateContent(String newContent) {
-        this.content = newContent;
+        setContent(newContent);
     }
 
     public void updatePrices(int newRentPrice, int newBuyPrice) {
@@ -96,8 +101,37 @@ public class Episode {
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
-    public String getContent() { return content; }
-    public void setContent(String content) { this.content = content; }
+    /**
+     * 본문 반환 - 아직 저장소로 옮기지 않았으면 그대로, 옮겼으면 저장소에서 읽어 옴
+     */
+    public String getContent() {
+        if (content == null && contentLoader != null) {
+            return contentLoader.get();
+        }
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.contentRef = null;
+        this.contentLoader = null;
+    }
+
+    public String getContentRef() { return contentRef; }
+
+    /**
+     * 아직 본문 저장소로 옮기지 않은 본문이 있는지 (Repository 저장 시 확인)
+     */
+    public boolean hasInlineContent() { return content != null; }
+
+    /**
+     * 본문을 저장소 참조로 대체 (이후 getContent()는 loader를 통해 읽음)
+     */
+    public void attachContent(String contentRef, Supplier<String> contentLoader) {
+        this.content = null;
+        this.contentRef = contentRef;
+        this.contentLoader = contentLoader;
+    }
 
     public int getRentPrice() { return rentPrice; }
     public void setRentPrice(int rentPrice) { this.rentPrice = rentPrice; validatePrices(); }
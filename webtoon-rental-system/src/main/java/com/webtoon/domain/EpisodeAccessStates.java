@@ -0,0 +1,61 @@
+package com.webtoon.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회차 목록 전체의 열람 상태 (목록과 같은 순서)
+ *
+ * 회차 목록 화면에서 회차마다 canAccess를 호출하지 않도록
+ * 한 번의 조회로 구한 결과를 회차 위치(index)별로 담는 값 객체
+ * - 상태는 byte[] 하나, 대여 만료 시각은 대여 중인 회차가 있을 때만 배열을 만듦
+ */
+public class EpisodeAccessStates {
+
+    public enum State { PURCHASED, RENTED, NONE }
+
+    private static final byte NONE = 0;
+    private static final byte PURCHASED = 1;
+    private static final byte RENTED = 2;
+
+    private final byte[] states;
+    private LocalDateTime[] rentedUntil;
+
+    public EpisodeAccessStates(int size) {
+        this.states = new byte[size];
+    }
+
+    public void markPurchased(int index) {
+        states[index] = PURCHASED;
+    }
+
+    public void markRented(int index, LocalDateTime expiresAt) {
+        if (rentedUntil == null) {
+            rentedUntil = new LocalDateTime[states.length];
+        }
+        states[index] = RENTED;
+        rentedUntil[index] = expiresAt;
+    }
+
+    public State getState(int index) {
+        return switch (states[index]) {
+            case PURCHASED -> State.PURCHASED;
+            case RENTED -> State.RENTED;
+            default -> State.NONE;
+        };
+    }
+
+    public boolean canAccess(int index) {
+        return states[index] != NONE;
+    }
+
+    /**
+     * 대여 중인 회차의 만료 시각 (대여 중이 아니면 null)
+     */
+    public LocalDateTime getRentedUntil(int index) {
+        return states[index] == RENTED ? rentedUntil[index] : null;
+    }
+
+    public int size() {
+        return states.length;
+    }
+}
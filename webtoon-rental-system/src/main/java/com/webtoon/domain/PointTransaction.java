@@ -0,0 +1,76 @@
+package com.webtoon.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 포인트 원장 기록 한 건 (추가만 하고 수정/삭제하지 않음)
+ * - amount는 부호 있는 변동량 (적립 +, 차감 -)
+ * - 독자의 잔액 = 해당 독자 기록의 amount 합
+ * - referenceId: 원인 기록의 ID (충전 내역/대여/구매), 기초 잔액은 null
+ */
+public class PointTransaction {
+
+    public enum Type {
+        OPENING,    // 원장 도입 전 독자 정보에 있던 잔액 (독자당 한 번)
+        CHARGE,     // 충전
+        RENT,       // 대여
+        PURCHASE,   // 구매
+        UPGRADE     // 대여 → 구매 전환 차액
+    }
+
+    private Long id;
+    private Long readerId;
+    private Type type;
+    private int amount;
+    private Long referenceId;
+    private LocalDateTime createdAt;
+
+    protected PointTransaction() {}
+
+    public PointTransaction(Long id, Long readerId, Type type, int amount,
+                            Long referenceId, LocalDateTime createdAt) {
+        if (readerId == null) throw new IllegalArgumentException("readerId required");
+        if (type == null) throw new IllegalArgumentException("type required");
+
+        this.id = id;
+        this.readerId = readerId;
+        this.type = type;
+        this.amount = amount;
+        this.referenceId = referenceId;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getReaderId() { return readerId; }
+    public Type getType() { return type; }
+    public int getAmount() { return amount; }
+    public Long getReferenceId() { return referenceId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @Override public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PointTransaction)) return false;
+        PointTransaction t = (PointTransaction) o;
+        return Objects.equals(id, t.id);
+    }
+
+    @Override public int hashCode() { return Objects.hash(id); }
+
+    @Override
+    public String toString() {
+        return "PointTransaction{" +
+                "id=" + id +
+                ", readerId=" + readerId +
+                ", type=" + type +
+                ", amount=" + amount +
+                ", referenceId=" + referenceId +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
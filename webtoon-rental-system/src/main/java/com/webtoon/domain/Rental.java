@@ -77,6 +77,8 @@ public class Rental {
     public LocalDateTime getRentedAt() { return rentedAt; }
     public LocalDateTime getExpiresAt() { return expiresAt; }
     public Status getStatus(Clock clock) { refreshExpiry(clock); return status; }
+    /** 저장된 상태 그대로 (만료 검사 없이) */
+    public Status getStoredStatus() { return status; }
 
     public void setId(Long id) {
         this.id = id;
@@ -8,6 +8,13 @@ public class Statistics {
     public Statistics(Long webtoonId) {
         this.webtoonId = webtoonId;
     }
+
+    /** 회차 목록에서 다시 계산한 통계로 생성 (통계 재구성용) */
+    public Statistics(Long webtoonId, int episodeCount, long totalViews) {
+        this.webtoonId = webtoonId;
+        this.episodeCount = episodeCount;
+        this.totalViews = totalViews;
+    }
     public Long getWebtoonId() { return webtoonId; }
     public int getEpisodeCount() { return episodeCount; }
     public long getTotalViews() { return totalViews; }
@@ -0,0 +1,298 @@
+package com.webtoon.repository;
+
+import com.webtoon.common.util.LongHashSet;
+import com.webtoon.common.util.LongLongHashMap;
+import com.webtoon.domain.EpisodeAccessStates;
+import com.webtoon.domain.Purchase;
+import com.webtoon.domain.Rental;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 독자별 열람 권한 색인 (readerId → 구매한 회차 + 대여 중인 회차/만료 시각)
+ * - 회차를 열 때마다 하는 접근 검사가 독자의 전체 구매/대여 이력 크기와 무관하게 O(1)
+ * - 독자를 처음 검사할 때 한 번만 Repository(readerId 인덱스)에서 읽고,
+ *   이후에는 AccessService가 알려 주는 구매/대여 이벤트로 갱신
+ * - 만료는 검사 시점의 시각과 비교하며, 만료된 대여는 그때 색인에서 지움
+ * - 같은 프로세스에서 AccessService를 거치지 않고 저장한 구매/대여는 invalidate()로 다시 읽게 해야 함
+ * - 독자 항목을 읽는 I/O는 맵 잠금 밖에서 하고, 읽는 동안 그 독자에 이벤트가 있었으면 버리고 다시 읽음
+ *   (독자별 변경 번호로 확인 - 읽은 뒤 반영되지 않은 이벤트가 사라지지 않도록)
+ *   변경 번호는 그 독자를 읽는 동안에만 두고 읽기가 끝나면 지우므로, 동시에 읽는 독자 수만큼만 남음
+ *
+ * 독자 항목 구조
+ *   purchased : 구매한 회차 ID 집합 (LongHashSet)
+ *   rentals   : 회차 ID → 가장 늦은 만료 시각 (LongLongHashMap, encode() 값)
+ */
+public class EntitlementIndex {
+
+    private final RentalRepository rentalRepository;
+    private final PurchaseRepository purchaseRepository;
+    private final Map<Long, Entitlements> readers = new ConcurrentHashMap<>();
+    // 읽는 중인 독자의 변경 번호 (이벤트/무효화마다 증가), clear()는 전체 세대를 올림
+    private final Map<Long, Loading> loading = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public EntitlementIndex(RentalRepository rentalRepository, PurchaseRepository purchaseRepository) {
+        this.rentalRepository = rentalRepository;
+        this.purchaseRepository = purchaseRepository;
+    }
+
+    /**
+     * 구매했거나 now 기준으로 만료되지 않은 대여가 있으면 true
+     */
+    public boolean canAccess(Long readerId, Long episodeId, LocalDateTime now) {
+        if (readerId == null || episodeId == null) {
+            return false;
+        }
+        Entitlements entitlements = entitlementsOf(readerId);
+        return entitlements.isPurchased(episodeId) || entitlements.hasActiveRental(episodeId, encode(now));
+    }
+
+    public boolean isPurchased(Long readerId, Long episodeId) {
+        if (readerId == null || episodeId == null) {
+            return false;
+        }
+        return entitlementsOf(readerId).isPurchased(episodeId);
+    }
+
+    public boolean hasActiveRental(Long readerId, Long episodeId, LocalDateTime now) {
+        if (readerId == null || episodeId == null) {
+            return false;
+        }
+        return entitlementsOf(readerId).hasActiveRental(episodeId, encode(now));
+    }
+
+    /**
+     * 회차 목록 전체의 열람 상태를 한 번에 판단 (독자 항목을 한 번만 찾고 잠금도 한 번만 잡음)
+     *
+     * @param episodeIds 회차 ID 목록 (null인 칸은 NONE)
+     */
+    public EpisodeAccessStates resolve(Long readerId, List<Long> episodeIds, LocalDateTime now) {
+        EpisodeAccessStates states = new EpisodeAccessStates(episodeIds.size());
+        if (readerId == null || episodeIds.isEmpty()) {
+            return states;
+        }
+        entitlementsOf(readerId).resolve(episodeIds, encode(now), states);
+        return states;
+    }
+
+    /**
+     * 구매 저장(커밋) 후 호출
+     * 아직 읽지 않은 독자는 처음 검사할 때 Repository에서 읽으므로 건너뜀
+     * (읽는 중이면 변경 번호가 바뀌어 그 읽기는 버려지고 다시 읽음)
+     */
+    public void onPurchased(Purchase purchase) {
+        if (purchase.getReaderId() == null || purchase.getEpisodeId() == null) {
+            return;
+        }
+        changed(purchase.getReaderId());
+        readers.computeIfPresent(purchase.getReaderId(), (id, entitlements) -> {
+            entitlements.addPurchase(purchase.getEpisodeId());
+            return entitlements;
+        });
+    }
+
+    /**
+     * 대여 저장(커밋) 후 호출
+     */
+    public void onRented(Rental rental) {
+        if (rental.getReaderId() == null || rental.getEpisodeId() == null || rental.getExpiresAt() == null) {
+            return;
+        }
+        changed(rental.getReaderId());
+        readers.computeIfPresent(rental.getReaderId(), (id, entitlements) -> {
+            entitlements.addRental(rental.getEpisodeId(), encode(rental.getExpiresAt()));
+            return entitlements;
+        });
+    }
+
+    /**
+     * 대여 만료 처리 후 호출 - 같은 회차를 더 늦게 다시 대여했으면 그 대여는 남김
+     */
+    public void onRentalExpired(Rental rental) {
+        if (rental.getReaderId() == null || rental.getEpisodeId() == null || rental.getExpiresAt() == null) {
+            return;
+        }
+        changed(rental.getReaderId());
+        readers.computeIfPresent(rental.getReaderId(), (id, entitlements) -> {
+            entitlements.removeRental(rental.getEpisodeId(), encode(rental.getExpiresAt()));
+            return entitlements;
+        });
+    }
+
+    /**
+     * 독자 항목을 버려 다음 검사 때 Repository에서 다시 읽게 함
+     */
+    public void invalidate(Long readerId) {
+        changed(readerId);
+        readers.remove(readerId);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        readers.clear();
+    }
+
+    /**
+     * 색인에 올라온 독자 수
+     */
+    public int size() {
+        return readers.size();
+    }
+
+    /**
+     * 지금 Repository에서 읽는 중인 독자 수 (변경 번호를 두고 있는 독자 수)
+     */
+    public int loadingCount() {
+        return loading.size();
+    }
+
+    /**
+     * 독자 항목 조회 (없으면 잠금 밖에서 읽은 뒤, 읽는 동안 변경이 없었을 때만 게시)
+     * 다른 스레드가 먼저 게시했으면 그 항목을 사용
+     */
+    private Entitlements entitlementsOf(Long readerId) {
+        Entitlements entitlements = readers.get(readerId);
+        while (entitlements == null) {
+            long startGeneration = generation.get();
+            Loading tracker = loading.compute(readerId, (id, existing) -> {
+                Loading current = existing != null ? existing : new Loading();
+                current.loaders++;
+                return current;
+            });
+            try {
+                long startVersion = tracker.version.get();
+                Entitlements loaded = load(readerId);
+                entitlements = readers.compute(readerId, (id, existing) -> {
+                    if (existing != null) {
+                        return existing;
+                    }
+                    boolean unchanged = generation.get() == startGeneration
+                            && tracker.version.get() == startVersion;
+                    return unchanged ? loaded : null;
+                });
+            } finally {
+                loading.computeIfPresent(readerId, (id, current) -> --current.loaders == 0 ? null : current);
+            }
+        }
+        return entitlements;
+    }
+
+    /**
+     * 이벤트 반영 전에 호출 - 진행 중인 읽기가 이 이벤트를 놓친 결과를 게시하지 않게 함
+     * 읽는 중이 아니면 다음 읽기가 이미 커밋된 변경을 Repository에서 읽으므로 남길 것이 없음
+     */
+    private void changed(Long readerId) {
+        Loading tracker = loading.get(readerId);
+        if (tracker != null) {
+            tracker.version.incrementAndGet();
+        }
+    }
+
+    private Entitlements load(Long readerId) {
+        List<Purchase> purchases = purchaseRepository.findByReaderId(readerId);
+        List<Rental> rentals = rentalRepository.findByReaderId(readerId);
+        Entitlements entitlements = new Entitlements(purchases.size(), rentals.size());
+        for (Purchase purchase : purchases) {
+            if (purchase.getEpisodeId() != null) {
+                entitlements.addPurchase(purchase.getEpisodeId());
+            }
+        }
+        for (Rental rental : rentals) {
+            if (rental.getEpisodeId() != null && rental.getExpiresAt() != null) {
+                entitlements.addRental(rental.getEpisodeId(), encode(rental.getExpiresAt()));
+            }
+        }
+        return entitlements;
+    }
+
+    /**
+     * LocalDateTime을 순서가 같은 long으로 변환 (UTC로 간주한 epoch 나노초)
+     * 시간대와 무관하게 LocalDateTime끼리의 비교 결과와 같음 (2262년까지 표현 가능)
+     */
+    static long encode(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    static LocalDateTime decode(long value) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(value, 1_000_000_000L),
+                (int) Math.floorMod(value, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    /**
+     * 한 독자를 읽는 중인 스레드 수와 그동안의 변경 번호 (loaders는 loading 맵의 compute 안에서만 바꿈)
+     */
+    private static final class Loading {
+        private final AtomicLong version = new AtomicLong();
+        private int loaders;
+    }
+
+    /**
+     * 독자 한 명의 권한 (독자 단위로 잠금)
+     */
+    private static final class Entitlements {
+
+        private final LongHashSet purchased;
+        private final LongLongHashMap rentals;
+
+        private Entitlements(int purchaseCount, int rentalCount) {
+            this.purchased = new LongHashSet(purchaseCount);
+            this.rentals = new LongLongHashMap(rentalCount);
+        }
+
+        synchronized boolean isPurchased(long episodeId) {
+            return purchased.contains(episodeId);
+        }
+
+        /**
+         * Rental.isExpired와 같은 기준 (now가 만료 시각을 지나야 만료)
+         */
+        synchronized boolean hasActiveRental(long episodeId, long now) {
+            long expiresAt = rentals.get(episodeId, Long.MIN_VALUE);
+            if (expiresAt == Long.MIN_VALUE) {
+                return false;
+            }
+            if (now > expiresAt) {
+                rentals.remove(episodeId);
+                return false;
+            }
+            return true;
+        }
+
+        synchronized void resolve(List<Long> episodeIds, long now, EpisodeAccessStates states) {
+            for (int i = 0; i < episodeIds.size(); i++) {
+                Long episodeId = episodeIds.get(i);
+                if (episodeId == null) {
+                    continue;
+                }
+                if (purchased.contains(episodeId)) {
+                    states.markPurchased(i);
+                } else if (hasActiveRental(episodeId, now)) {
+                    states.markRented(i, decode(rentals.get(episodeId, Long.MIN_VALUE)));
+                }
+            }
+        }
+
+        synchronized void addPurchase(long episodeId) {
+            purchased.add(episodeId);
+        }
+
+        synchronized void addRental(long episodeId, long expiresAt) {
+            if (rentals.get(episodeId, Long.MIN_VALUE) < expiresAt) {
+                rentals.put(episodeId, expiresAt);
+            }
+        }
+
+        synchronized void removeRental(long episodeId, long expiresAt) {
+            long current = rentals.get(episodeId, Long.MIN_VALUE);
+            if (current != Long.MIN_VALUE && current <= expiresAt) {
+                rentals.remove(episodeId);
+            }
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.webtoon.repository;
 
+import com.webtoon.common.repository.BlobStore;
 import com.webtoon.common.repository.JsonRepository;
 import com.webtoon.domain.Episode;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 회차 JSON Repository
+ * 회차 본문은 episodes.json에 두지 않고 본문 저장소(episode_contents.blob)에 따로 보관하며,
+ * episodes.json에는 본문 참조만 저장 → 목록/최신 회차 조회 시 본문을 읽지 않음
+ */
 public class JsonEpisodeRepository extends JsonRepository<Episode> implements EpisodeRepository {
 
+    private final BlobStore contentStore = BlobStore.open("episode_contents");
+
     @Override
     protected String getFileName() {
         return "episodes";
@@ -30,16 +40,45 @@ public class JsonEpisodeRepository extends JsonRepository<Episode> implements Ep
         entity.setId(id);
     }
 
+    @Override
+    protected Map<String, Function<Episode, ?>> getIndexes() {
+        return Map.of("webtoonId", Episode::getWebtoonId);
+    }
+
+    /**
+     * 저장 전에 새 본문(또는 수정된 본문)을 본문 저장소로 옮기고 참조만 남김
+     * memory 엔진이면 본문 파일을 만들지 않고 엔티티에 그대로 둠
+     */
+    @Override
+    protected void beforeSave(Episode episode) {
+        if (episode.hasInlineContent() && isDurableStorage()) {
+            attachContent(episode, contentStore.append(episode.getContent()));
+        }
+    }
+
+    /**
+     * 파일에서 읽은 회차에 본문 로더 연결 (본문은 getContent() 호출 시에만 읽음)
+     * 이전 형식(본문이 episodes.json에 들어 있는 경우)은 다음 저장 때 옮겨짐
+     */
+    @Override
+    protected void afterLoad(Episode episode) {
+        if (!episode.hasInlineContent() && episode.getContentRef() != null) {
+            attachContent(episode, episode.getContentRef());
+        }
+    }
+
+    private void attachContent(Episode episode, String contentRef) {
+        episode.attachContent(contentRef, () -> contentStore.read(contentRef));
+    }
+
     public List<Episode> findByWebtoonId(Long webtoonId) {
-        return findAll().stream()
-                .filter(e -> e.getWebtoonId().equals(webtoonId))
+        return findByIndex("webtoonId", webtoonId).stream()
                 .sorted(Comparator.comparingInt(Episode::getNumber))
                 .collect(Collectors.toList());
     }
 
     public Optional<Episode> findLatestByWebtoonId(Long webtoonId) {
-        return findAll().stream()
-                .filter(e -> e.getWebtoonId().equals(webtoonId))
+        return findByIndex("webtoonId", webtoonId).stream()
                 .max(Comparator.comparingInt(Episode::getNumber));
     }
 }
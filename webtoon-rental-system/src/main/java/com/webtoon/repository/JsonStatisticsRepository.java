@@ -0,0 +1,46 @@
+package com.webtoon.repository;
+
+import com.webtoon.common.repository.JsonRepository;
+import com.webtoon.common.repository.StorageMode;
+import com.webtoon.domain.Statistics;
+
+import java.util.Optional;
+
+/**
+ * 웹툰 통계 JSON Repository
+ * - 웹툰 ID를 그대로 엔티티 ID로 사용 (웹툰당 1건)
+ * - 조회수가 늘 때마다 저장하므로 저널 모드로 변경분만 기록
+ * - 파일이 없거나 일부 웹툰의 통계가 빠진 경우 StatisticsService.rebuildMissing()으로 회차 데이터에서 다시 계산
+ */
+public class JsonStatisticsRepository extends JsonRepository<Statistics> implements StatisticsRepository {
+
+    @Override
+    protected String getFileName() {
+        return "statistics";
+    }
+
+    @Override
+    protected Class<Statistics> getEntityClass() {
+        return Statistics.class;
+    }
+
+    @Override
+    protected Long getId(Statistics entity) {
+        return entity.getWebtoonId();
+    }
+
+    @Override
+    protected void setId(Statistics entity, Long id) {
+        throw new IllegalStateException("통계는 웹툰 ID로 저장해야 합니다.");
+    }
+
+    @Override
+    protected StorageMode getStorageMode() {
+        return StorageMode.JOURNAL;
+    }
+
+    @Override
+    public Optional<Statistics> findByWebtoonId(Long webtoonId) {
+        return findById(webtoonId);
+    }
+}
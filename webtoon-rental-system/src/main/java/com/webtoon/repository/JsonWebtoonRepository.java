@@ -4,7 +4,9 @@ import com.webtoon.common.repository.JsonRepository;
 import com.webtoon.domain.Webtoon;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class JsonWebtoonRepository extends JsonRepository<Webtoon> implements WebtoonRepository {
@@ -29,10 +31,13 @@ public class JsonWebtoonRepository extends JsonRepository<Webtoon> implements We
         entity.setId(id);
     }
 
+    @Override
+    protected Map<String, Function<Webtoon, ?>> getIndexes() {
+        return Map.of("authorId", Webtoon::getAuthorId);
+    }
+
     public List<Webtoon> findByAuthorId(Long authorId) {
-        return findAll().stream()
-                .filter(w -> w.getAuthorId().equals(authorId))
-                .collect(Collectors.toList());
+        return findByIndex("authorId", authorId);
     }
 
     public List<Webtoon> searchByTitle(String keyword) {
@@ -1,9 +1,16 @@
 package com.webtoon.repository;
 
 import com.webtoon.common.repository.JsonRepository;
+import com.webtoon.common.repository.StorageMode;
 import com.webtoon.domain.Notification;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +24,11 @@ public class NotificationRepository extends JsonRepository<Notification> {
         return "notifications"; // 실제 저장 파일: notifications.json
     }
 
+    @Override
+    protected StorageMode getStorageMode() {
+        return StorageMode.JOURNAL; // 쓰기가 잦아 저널 append 방식 사용
+    }
+
     @Override
     protected Class<Notification> getEntityClass() {
         return Notification.class;
@@ -32,19 +44,61 @@ public class NotificationRepository extends JsonRepository<Notification> {
         entity.setId(id);
     }
 
+    @Override
+    protected Map<String, Function<Notification, ?>> getIndexes() {
+        return Map.of("readerId", Notification::getReaderId);
+    }
+
+    @Override
+    protected String getShardIndex() {
+        return "readerId"; // webtoon.storage.shards > 1이면 독자별로 샤드 파일에 나누어 저장
+    }
+
     // === 추가 기능 ===
 
-    /** 특정 독자(readerId)의 알림만 조회 */
+    /** 특정 독자(readerId)의 알림만 조회 (readerId 인덱스 조회) */
     public List<Notification> findByReaderId(Long readerId) {
-        return findAll().stream()
-                .filter(n -> n.getReaderId().equals(readerId))
-                .collect(Collectors.toList());
+        return findByIndex("readerId", readerId);
     }
 
     /** 특정 독자의 미확인 알림만 조회 */
     public List<Notification> findUnreadByReaderId(Long readerId) {
-        return findAll().stream()
-                .filter(n -> n.getReaderId().equals(readerId) && !n.isRead())
+        return findByReaderId(readerId).stream()
+                .filter(n -> !n.isRead())
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 보관 정책을 넘은 알림 ID 목록
+     * - cutoff 이전에 생성된 알림
+     * - 독자별 최신 maxPerReader건을 넘는 오래된 알림
+     * 알림은 가장 큰 테이블이므로 복사본을 만들지 않고 ID/독자/생성 시각만 모아서 판단
+     */
+    public List<Long> findExpiredIds(LocalDateTime cutoff, int maxPerReader) {
+        Map<Long, List<Stamp>> byReader = new HashMap<>();
+        List<Long> expired = new ArrayList<>();
+        forEachStored(n -> {
+            if (n.getCreatedAt() != null && n.getCreatedAt().isBefore(cutoff)) {
+                expired.add(n.getId());
+            } else {
+                byReader.computeIfAbsent(n.getReaderId(), id -> new ArrayList<>())
+                        .add(new Stamp(n.getId(), n.getCreatedAt()));
+            }
+        });
+        Comparator<Stamp> newestFirst = Comparator.comparing(Stamp::createdAt,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        for (List<Stamp> stamps : byReader.values()) {
+            if (stamps.size() > maxPerReader) {
+                stamps.sort(newestFirst);
+                for (Stamp stamp : stamps.subList(maxPerReader, stamps.size())) {
+                    expired.add(stamp.id());
+                }
+            }
+        }
+        return expired;
+    }
+
+    // 보관 정책 판단에 필요한 값만 담은 알림 요약
+    private record Stamp(Long id, LocalDateTime createdAt) {
+    }
 }
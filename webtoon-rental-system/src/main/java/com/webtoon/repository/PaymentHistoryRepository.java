@@ -2,9 +2,11 @@ package com.webtoon.repository;
 
 import com.webtoon.domain.PaymentHistory;
 import com.webtoon.common.repository.JsonRepository;
+import com.webtoon.common.repository.StorageMode;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 public class PaymentHistoryRepository extends JsonRepository<PaymentHistory> {
 
@@ -13,6 +15,11 @@ public class PaymentHistoryRepository extends JsonRepository<PaymentHistory> {
         return "payment_histories";   // ✔ 파일명만 반환!
     }
 
+    @Override
+    protected StorageMode getStorageMode() {
+        return StorageMode.JOURNAL; // 쓰기가 잦아 저널 append 방식 사용
+    }
+
     @Override
     protected Class<PaymentHistory> getEntityClass() {
         return PaymentHistory.class;  // ✔
@@ -28,10 +35,18 @@ public class PaymentHistoryRepository extends JsonRepository<PaymentHistory> {
         entity.setId(id);             // ✔ PaymentHistory에 setter가 필요함
     }
 
-    // 특정 독자의 충전 내역 목록
+    @Override
+    protected Map<String, Function<PaymentHistory, ?>> getIndexes() {
+        return Map.of("readerId", PaymentHistory::getReaderId);
+    }
+
+    @Override
+    protected String getShardIndex() {
+        return "readerId"; // webtoon.storage.shards > 1이면 독자별로 샤드 파일에 나누어 저장
+    }
+
+    // 특정 독자의 충전 내역 목록 (readerId 인덱스 조회)
     public List<PaymentHistory> findByReaderId(Long readerId) {
-        return findAll().stream()
-                .filter(h -> h.getReaderId().equals(readerId))
-                .collect(Collectors.toList());
+        return findByIndex("readerId", readerId);
     }
 }
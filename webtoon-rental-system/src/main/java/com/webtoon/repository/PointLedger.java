@@ -0,0 +1,175 @@
+package com.webtoon.repository;
+
+import com.webtoon.common.util.StripedLock;
+import com.webtoon.domain.PointTransaction;
+import com.webtoon.domain.Reader;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 원장 (추가 전용 기록 + 독자별 메모리 잔액)
+ * - 충전/대여/구매/전환 차액을 PointLedgerRepository에 한 건씩 추가하고, 독자 문서(readers.json)는 다시 쓰지 않음
+ * - 잔액은 독자별 AtomicInteger: 조회는 잠금 없이, 차감은 CAS로 잔액이 음수가 되지 않게 처리
+ * - 시작 시 원장 전체를 합산해 잔액을 다시 만듦 (rebuild), 원장에 없는 독자는 독자 정보의 포인트를 기초 잔액(OPENING)으로 기록
+ * - attach()한 ReaderRepository는 독자를 읽을 때 포인트를 원장 잔액으로 맞춤 (화면 표시용)
+ * - 기초 잔액 기록은 독자 단위 잠금 안에서 저장한 뒤 putIfAbsent로 게시 (저장 I/O 동안 맵 잠금을 잡지 않고, 같은 독자에 두 번 기록하지 않음)
+ * - UnitOfWork 안에서 credit/debit하면 기록은 커밋 때 함께 저장되므로, 커밋 실패 시 revert()로 메모리 잔액을 되돌려야 함
+ *
+ * 원장을 쓰기 시작하면 독자 정보의 포인트는 갱신되지 않으므로 계속 원장을 사용해야 함
+ */
+public class PointLedger {
+
+    private final PointLedgerRepository ledgerRepository;
+    private final Clock clock;
+    private final Map<Long, AtomicInteger> balances = new ConcurrentHashMap<>();
+    private final StripedLock openingLocks = new StripedLock(64);
+
+    private volatile boolean loaded;
+
+    public PointLedger(PointLedgerRepository ledgerRepository, Clock clock) {
+        this.ledgerRepository = ledgerRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * 원장 전체를 합산해 메모리 잔액을 다시 만듦 (잔액이 있는 독자 수 반환)
+     */
+    public synchronized int rebuild() {
+        Map<Long, Integer> sums = new HashMap<>();
+        for (PointTransaction transaction : ledgerRepository.findAll()) {
+            sums.merge(transaction.getReaderId(), transaction.getAmount(), Integer::sum);
+        }
+        balances.clear();
+        sums.forEach((readerId, sum) -> balances.put(readerId, new AtomicInteger(sum)));
+        loaded = true;
+        return sums.size();
+    }
+
+    /**
+     * ReaderRepository와 연결 - 이후 조회하는 독자의 포인트를 원장 잔액으로 맞춤
+     * 원장에 아직 없는 독자는 독자 정보의 포인트를 기초 잔액으로 기록
+     */
+    public void attach(ReaderRepository readerRepository) {
+        readerRepository.setPointLedger(this);
+        for (Reader reader : readerRepository.findAll()) {
+            balanceOf(reader.getId(), reader.getPoints());
+        }
+    }
+
+    /**
+     * 독자의 현재 잔액 (원장에 없으면 openingBalance를 기초 잔액으로 기록)
+     */
+    public int balanceOf(Long readerId, int openingBalance) {
+        return cellOf(readerId, openingBalance).get();
+    }
+
+    /**
+     * 독자의 현재 잔액 (원장에 없으면 empty, 잠금 없이 조회)
+     */
+    public OptionalInt findBalance(Long readerId) {
+        AtomicInteger balance = balances().get(readerId);
+        return balance == null ? OptionalInt.empty() : OptionalInt.of(balance.get());
+    }
+
+    /**
+     * 적립 기록 추가 (먼저 balanceOf로 원장에 올라 있어야 함)
+     */
+    public PointTransaction credit(Long readerId, int amount, PointTransaction.Type type, Long referenceId) {
+        requirePositive(amount);
+        AtomicInteger balance = existingCell(readerId);
+        balance.addAndGet(amount);
+        return append(balance, readerId, type, amount, referenceId);
+    }
+
+    /**
+     * 차감 기록 추가 - 잔액이 모자라면 기록하지 않고 null
+     */
+    public PointTransaction debit(Long readerId, int amount, PointTransaction.Type type, Long referenceId) {
+        requirePositive(amount);
+        AtomicInteger balance = existingCell(readerId);
+        int current;
+        do {
+            current = balance.get();
+            if (current < amount) {
+                return null;
+            }
+        } while (!balance.compareAndSet(current, current - amount));
+        return append(balance, readerId, type, -amount, referenceId);
+    }
+
+    /**
+     * 저장되지 못한 기록(UnitOfWork 커밋 실패)의 잔액 변동을 되돌림
+     */
+    public void revert(PointTransaction transaction) {
+        existingCell(transaction.getReaderId()).addAndGet(-transaction.getAmount());
+    }
+
+    /**
+     * 독자의 원장 기록 (기록 순서)
+     */
+    public List<PointTransaction> getHistory(Long readerId) {
+        return ledgerRepository.findByReaderId(readerId);
+    }
+
+    private PointTransaction append(AtomicInteger balance, Long readerId, PointTransaction.Type type,
+                                    int amount, Long referenceId) {
+        PointTransaction transaction = new PointTransaction(null, readerId, type, amount,
+                referenceId, LocalDateTime.now(clock));
+        try {
+            return ledgerRepository.save(transaction);
+        } catch (RuntimeException e) {
+            balance.addAndGet(-amount);
+            throw e;
+        }
+    }
+
+    private AtomicInteger cellOf(Long readerId, int openingBalance) {
+        if (readerId == null) {
+            throw new IllegalArgumentException("저장되지 않은 독자는 원장에 올릴 수 없습니다.");
+        }
+        AtomicInteger balance = balances().get(readerId);
+        if (balance != null) {
+            return balance;
+        }
+        return openingLocks.locked(readerId, () -> {
+            AtomicInteger existing = balances().get(readerId);
+            if (existing != null) {
+                return existing;
+            }
+            ledgerRepository.save(new PointTransaction(null, readerId, PointTransaction.Type.OPENING,
+                    openingBalance, null, LocalDateTime.now(clock)));
+            // 저장 직후 rebuild()가 끼어들었으면 이 기록까지 합산된 잔액이 이미 올라 있음
+            AtomicInteger created = new AtomicInteger(openingBalance);
+            AtomicInteger published = balances.putIfAbsent(readerId, created);
+            return published != null ? published : created;
+        });
+    }
+
+    private AtomicInteger existingCell(Long readerId) {
+        AtomicInteger balance = balances().get(readerId);
+        if (balance == null) {
+            throw new IllegalStateException("원장에 잔액이 없는 독자입니다: " + readerId);
+        }
+        return balance;
+    }
+
+    private Map<Long, AtomicInteger> balances() {
+        if (!loaded) {
+            rebuild();
+        }
+        return balances;
+    }
+
+    private static void requirePositive(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("포인트 변동량은 0보다 커야 합니다: " + amount);
+        }
+    }
+}
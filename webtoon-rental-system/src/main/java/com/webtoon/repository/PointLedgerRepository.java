@@ -0,0 +1,56 @@
+package com.webtoon.repository;
+
+import com.webtoon.common.repository.JsonRepository;
+import com.webtoon.common.repository.StorageMode;
+import com.webtoon.domain.PointTransaction;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 포인트 원장 Repository (point_ledger)
+ * 기록은 추가만 하므로 저널 append로 저장 (건당 한 줄)
+ */
+public class PointLedgerRepository extends JsonRepository<PointTransaction> {
+
+    @Override
+    protected String getFileName() {
+        return "point_ledger";
+    }
+
+    @Override
+    protected StorageMode getStorageMode() {
+        return StorageMode.JOURNAL; // 추가 전용이라 저널 append 방식 사용
+    }
+
+    @Override
+    protected Class<PointTransaction> getEntityClass() {
+        return PointTransaction.class;
+    }
+
+    @Override
+    protected Long getId(PointTransaction entity) {
+        return entity.getId();
+    }
+
+    @Override
+    protected void setId(PointTransaction entity, Long id) {
+        entity.setId(id);
+    }
+
+    @Override
+    protected Map<String, Function<PointTransaction, ?>> getIndexes() {
+        return Map.of("readerId", PointTransaction::getReaderId);
+    }
+
+    @Override
+    protected String getShardIndex() {
+        return "readerId"; // webtoon.storage.shards > 1이면 독자별로 샤드 파일에 나누어 저장
+    }
+
+    // 특정 독자의 원장 기록 (기록 순서)
+    public List<PointTransaction> findByReaderId(Long readerId) {
+        return findByIndex("readerId", readerId);
+    }
+}
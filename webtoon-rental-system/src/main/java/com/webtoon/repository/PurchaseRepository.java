@@ -3,8 +3,10 @@ package com.webtoon.repository;
 import com.webtoon.common.repository.JsonRepository;
 import com.webtoon.domain.Purchase;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 public class PurchaseRepository extends JsonRepository<Purchase> {
 
@@ -28,18 +30,32 @@ public class PurchaseRepository extends JsonRepository<Purchase> {
         entity.setId(id);
     }
 
-    // 특정 독자의 구매 내역 조회
+    @Override
+    protected Map<String, Function<Purchase, ?>> getIndexes() {
+        return Map.of(
+                "readerId", Purchase::getReaderId,
+                // (독자, 회차) 복합 키 - 한 회차 조회와 독자의 회차 구간 조회용
+                "readerEpisode", p -> Arrays.asList(p.getReaderId(), p.getEpisodeId()));
+    }
+
+    @Override
+    protected String getShardIndex() {
+        return "readerId"; // webtoon.storage.shards > 1이면 독자별로 샤드 파일에 나누어 저장
+    }
+
+    // 특정 독자의 구매 내역 조회 (readerId 인덱스 조회)
     public List<Purchase> findByReaderId(Long readerId) {
-        return findAll().stream()
-                .filter(p -> p.getReaderId().equals(readerId))
-                .collect(Collectors.toList());
+        return findByIndex("readerId", readerId);
     }
 
-    // 특정 독자의 특정 회차 구매 기록 조회
+    // 특정 독자의 특정 회차 구매 기록 조회 (readerEpisode 인덱스 조회)
     public Purchase findByReaderIdAndEpisodeId(Long readerId, Long episodeId) {
-        return findByReaderId(readerId).stream()
-                .filter(p -> p.getEpisodeId().equals(episodeId))
-                .findFirst()
-                .orElse(null);
+        return findFirstByIndex("readerEpisode", Arrays.asList(readerId, episodeId)).orElse(null);
+    }
+
+    // 특정 독자의 회차 ID 구간 [fromEpisodeId, toEpisodeId] 구매 기록 (회차 ID 순)
+    public List<Purchase> findByReaderIdAndEpisodeIdBetween(Long readerId, Long fromEpisodeId, Long toEpisodeId) {
+        return findByIndexRange("readerEpisode",
+                Arrays.asList(readerId, fromEpisodeId), Arrays.asList(readerId, toEpisodeId));
     }
 }
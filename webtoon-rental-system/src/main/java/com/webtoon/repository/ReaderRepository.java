@@ -9,6 +9,9 @@ import com.webtoon.domain.Reader;
  */
 public class ReaderRepository extends JsonRepository<Reader> {
 
+    // 연결되어 있으면 읽은 독자의 포인트를 원장 잔액으로 맞춤 (PointLedger.attach)
+    private volatile PointLedger pointLedger;
+
     @Override
     protected String getFileName() {
         return "readers"; // 실제 저장 파일: readers.json
@@ -28,4 +31,17 @@ public class ReaderRepository extends JsonRepository<Reader> {
     protected void setId(Reader entity, Long id) {
         entity.setId(id);
     }
+
+    @Override
+    protected void afterLoad(Reader entity) {
+        PointLedger ledger = pointLedger;
+        // 읽는 중에는 원장에 쓰지 않음 (원장에 없는 독자는 처음 포인트를 쓸 때 기초 잔액으로 기록)
+        if (ledger != null && entity.getId() != null) {
+            ledger.findBalance(entity.getId()).ifPresent(entity::setPoints);
+        }
+    }
+
+    void setPointLedger(PointLedger pointLedger) {
+        this.pointLedger = pointLedger;
+    }
 }
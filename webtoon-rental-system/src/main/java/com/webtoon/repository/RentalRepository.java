@@ -1,9 +1,15 @@
 package com.webtoon.repository;
 
 import com.webtoon.common.repository.JsonRepository;
+import com.webtoon.common.repository.StorageMode;
 import com.webtoon.domain.Rental;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class RentalRepository extends JsonRepository<Rental> {
@@ -13,6 +19,11 @@ public class RentalRepository extends JsonRepository<Rental> {
         return "rentals";
     }
 
+    @Override
+    protected StorageMode getStorageMode() {
+        return StorageMode.JOURNAL; // 쓰기가 잦아 저널 append 방식 사용
+    }
+
     @Override
     protected Class<Rental> getEntityClass() {
         return Rental.class;
@@ -28,11 +39,28 @@ public class RentalRepository extends JsonRepository<Rental> {
         entity.setId(id);
     }
 
-    // 특정 독자의 전체 대여 목록
+    @Override
+    protected Map<String, Function<Rental, ?>> getIndexes() {
+        return Map.of(
+                "readerId", Rental::getReaderId,
+                // (독자, 회차) 복합 키 - 한 회차 조회와 독자의 회차 구간 조회용
+                "readerEpisode", r -> Arrays.asList(r.getReaderId(), r.getEpisodeId()));
+    }
+
+    @Override
+    protected String getShardIndex() {
+        return "readerId"; // webtoon.storage.shards > 1이면 독자별로 샤드 파일에 나누어 저장
+    }
+
+    // 특정 독자의 전체 대여 목록 (readerId 인덱스 조회)
     public List<Rental> findByReaderId(Long readerId) {
-        return findAll().stream()
-                .filter(r -> r.getReaderId().equals(readerId))
-                .collect(Collectors.toList());
+        return findByIndex("readerId", readerId);
+    }
+
+    // 특정 독자의 회차 ID 구간 [fromEpisodeId, toEpisodeId] 대여 기록 (회차 ID 순)
+    public List<Rental> findByReaderIdAndEpisodeIdBetween(Long readerId, Long fromEpisodeId, Long toEpisodeId) {
+        return findByIndexRange("readerEpisode",
+                Arrays.asList(readerId, fromEpisodeId), Arrays.asList(readerId, toEpisodeId));
     }
 
     // 만료되지 않은 대여 목록
@@ -42,12 +70,32 @@ public class RentalRepository extends JsonRepository<Rental> {
                 .collect(Collectors.toList());
     }
 
-    // 특정 독자의 특정 회차 대여 기록 조회 (활성 상태만)
+    // 특정 독자의 특정 회차 대여 기록 조회 (활성 상태만, readerEpisode 인덱스 조회)
     public Rental findActiveRentalByReaderIdAndEpisodeId(Long readerId, Long episodeId) {
-        return findByReaderId(readerId).stream()
-                .filter(r -> r.getEpisodeId().equals(episodeId))
+        return findByIndex("readerEpisode", Arrays.asList(readerId, episodeId)).stream()
                 .filter(r -> !r.isExpired())
                 .findFirst()
                 .orElse(null);
     }
+
+    // 저장된 상태가 ACTIVE인 대여 전체 (시작 시 만료 예약용, 전체를 한 번 훑음)
+    public List<Rental> findStoredActive() {
+        return findAll().stream()
+                .filter(r -> r.getStoredStatus() == Rental.Status.ACTIVE)
+                .collect(Collectors.toList());
+    }
+
+    // 만료 시각이 cutoff 이전인 만료 대여를 압축 보관 파일로 옮김 (옮긴 건수 반환)
+    // 조건은 테이블 행을 그대로 읽으므로 isExpired()처럼 상태를 고치는 메서드는 쓰지 않음
+    public int archiveExpired(LocalDateTime cutoff, Clock clock) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime limit = cutoff.isBefore(now) ? cutoff : now;
+        return archiveWhere(r -> r.getExpiresAt().isBefore(limit)
+                || (r.getStoredStatus() == Rental.Status.EXPIRED && r.getExpiresAt().isBefore(cutoff)));
+    }
+
+    // 보관 파일에서 특정 독자의 대여 기록 조회 (파일 전체를 읽으므로 이력 조회용)
+    public List<Rental> findArchivedByReaderId(Long readerId) {
+        return findArchived(r -> readerId.equals(r.getReaderId()));
+    }
 }
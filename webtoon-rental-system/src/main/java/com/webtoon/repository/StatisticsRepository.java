@@ -1,10 +1,19 @@
 package com.webtoon.repository;
 
 import com.webtoon.domain.Statistics;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StatisticsRepository {
     Optional<Statistics> findByWebtoonId(Long webtoonId);
     Statistics save(Statistics s);
+
+    /** 여러 건 저장 (파일 기반 구현은 한 번의 기록으로 처리) */
+    default List<Statistics> saveAll(Collection<Statistics> statistics) {
+        statistics.forEach(this::save);
+        return List.copyOf(statistics);
+    }
 }
 
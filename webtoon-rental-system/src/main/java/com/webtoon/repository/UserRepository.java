@@ -6,7 +6,9 @@ import com.webtoon.domain.Reader;
 import com.webtoon.domain.User;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,19 +40,21 @@ public class UserRepository extends JsonRepository<User> {
         entity.setId(id);
     }
 
+    @Override
+    protected Map<String, Function<User, ?>> getIndexes() {
+        return Map.of("username", User::getUsername);
+    }
+
     // === 추가 조회 메서드 ===
 
     /**
-     * username으로 사용자 조회
+     * username으로 사용자 조회 (username 인덱스 조회)
      *
      * @param username 로그인 ID
      * @return User 객체 (없으면 null)
      */
     public User findByUsername(String username) {
-        return findAll().stream()
-                .filter(u -> u.getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
+        return findFirstByIndex("username", username).orElse(null);
     }
 
     /**
@@ -1,18 +1,26 @@
 package com.webtoon.service;
 
+import com.webtoon.common.repository.UnitOfWork;
 import com.webtoon.domain.Rental;
 import com.webtoon.domain.Purchase;
 import com.webtoon.domain.Reader;
 import com.webtoon.domain.Episode;
+import com.webtoon.domain.PointTransaction;
+import com.webtoon.domain.EpisodeAccessStates;
 import com.webtoon.pattern.AccessStrategy;
 import com.webtoon.pattern.PurchaseAccessStrategy;
+import com.webtoon.pattern.RentalAccessStrategy;
+import com.webtoon.repository.EntitlementIndex;
+import com.webtoon.repository.PointLedger;
 import com.webtoon.repository.RentalRepository;
 import com.webtoon.repository.PurchaseRepository;
 import com.webtoon.repository.ReaderRepository;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class AccessService {
 
@@ -20,6 +28,9 @@ public class AccessService {
     private final PurchaseRepository purchaseRepository;
     private final ReaderRepository readerRepository;   //  추가 필요!
     private final Clock clock;
+    private final EntitlementIndex entitlementIndex;
+    private final PointLedger pointLedger;            // null이면 포인트를 독자 정보에 직접 저장
+    private RentalExpiryScheduler expiryScheduler;   // 없으면 만료는 조회 시점에만 판단
 
     /**
      * FR-EPISODE-02 (회차 열람),
@@ -34,10 +45,46 @@ public class AccessService {
                          PurchaseRepository purchaseRepository,
                          ReaderRepository readerRepository,
                          Clock clock) {
+        this(rentalRepository, purchaseRepository, readerRepository, clock,
+                new EntitlementIndex(rentalRepository, purchaseRepository));
+    }
+
+    /**
+     * 열람 권한 색인을 직접 넘기는 생성자
+     * 여러 AccessService가 같은 Repository로 구매/대여를 기록하면 색인도 같은 것을 공유해야 함
+     */
+    public AccessService(RentalRepository rentalRepository,
+                         PurchaseRepository purchaseRepository,
+                         ReaderRepository readerRepository,
+                         Clock clock,
+                         EntitlementIndex entitlementIndex) {
+        this(rentalRepository, purchaseRepository, readerRepository, clock, entitlementIndex, null);
+    }
+
+    /**
+     * 포인트 원장을 쓰는 생성자
+     * 포인트 차감을 독자 정보 저장 대신 원장 기록 추가로 처리 (PointService도 같은 원장을 써야 함)
+     */
+    public AccessService(RentalRepository rentalRepository,
+                         PurchaseRepository purchaseRepository,
+                         ReaderRepository readerRepository,
+                         Clock clock,
+                         EntitlementIndex entitlementIndex,
+                         PointLedger pointLedger) {
         this.rentalRepository = rentalRepository;
         this.purchaseRepository = purchaseRepository;
         this.readerRepository = readerRepository;
         this.clock = clock;
+        this.entitlementIndex = entitlementIndex;
+        this.pointLedger = pointLedger;
+    }
+
+    /**
+     * 새 대여의 만료 타이머를 등록할 스케줄러 지정
+     * 스케줄러는 같은 열람 권한 색인을 써야 만료 시 색인에서 제거됨
+     */
+    public void setExpiryScheduler(RentalExpiryScheduler expiryScheduler) {
+        this.expiryScheduler = expiryScheduler;
     }
 
     /**
@@ -53,16 +100,30 @@ public class AccessService {
      *    - 이미 구매한 회차면 true (재구매 X)
      *    - 대여 중이면 "구매가 - 대여가" 만큼만 포인트 추가 차감 후 구매 기록 생성
      *    - 그 외에는 전략에 위임(일반 구매 – 전액 차감)
+     *
+     * 같은 독자의 대여/구매/충전은 독자 잠금으로 직렬화
+     * (조회 → 포인트 차감 → 저장 사이에 다른 요청이 끼어들면 포인트 이중 사용 / 중복 구매가 생김)
      */
     public boolean grantAccess(Reader reader, Episode episode, AccessStrategy strategy) {
+        return ReaderLocks.withReader(reader.getId(), () -> grantAccessLocked(reader, episode, strategy));
+    }
+
+    private boolean grantAccessLocked(Reader requested, Episode episode, AccessStrategy strategy) {
 
         //  항상 최신 Reader로 교체 (포인트 꼬임 해결 핵심)
-        reader = readerRepository.findById(reader.getId())
+        //  조회 결과는 복사본이므로 저장(커밋)에 실패해도 다른 요청이 보는 독자 정보는 그대로
+        Reader reader = readerRepository.findById(requested.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Reader not found"));
 
         Long readerId = reader.getId();
         Long epId = episode.getId();
 
+        // 원장을 쓰면 원장 잔액 기준으로 차감 가능 여부 판단
+        if (pointLedger != null) {
+            reader.setPoints(pointLedger.balanceOf(readerId, reader.getPoints()));
+        }
+        int pointsBefore = reader.getPoints();
+
         // 1) PurchaseAccessStrategy 가 아닌 경우 : 기존처럼 "이미 접근 가능하면" 스킵
         if (!(strategy instanceof PurchaseAccessStrategy)) {
             if (canAccess(reader, episode)) {
@@ -72,18 +133,12 @@ public class AccessService {
             // 2) PurchaseAccessStrategy 인 경우
 
             // 2-1) 이미 구매한 회차라면 재구매 불필요
-            boolean alreadyPurchased = purchaseRepository.findByReaderId(readerId).stream()
-                    .anyMatch(p -> p.getEpisodeId().equals(epId));
-            if (alreadyPurchased) {
+            if (entitlementIndex.isPurchased(readerId, epId)) {
                 return true;
             }
 
             // 2-2) "대여 중 & 미만료" 상태라면 → 차액만 차감 (FR-PURCHASE-03)
-            boolean hasActiveRental = rentalRepository.findByReaderId(readerId).stream()
-                    .filter(r -> r.getEpisodeId().equals(epId))
-                    .anyMatch(r -> !r.isExpired(clock));
-
-            if (hasActiveRental) {
+            if (entitlementIndex.hasActiveRental(readerId, epId, LocalDateTime.now(clock))) {
                 int rentalPrice = episode.getRentPrice();
                 int purchasePrice = episode.getBuyPrice();
                 int diff = purchasePrice - rentalPrice;
@@ -104,10 +159,11 @@ public class AccessService {
                         purchasePrice,
                         LocalDateTime.now(clock)
                 );
-                purchaseRepository.save(purchase);
-
-                //  Reader 저장
-                readerRepository.update(reader);
+                // 구매 기록 + Reader 포인트를 하나의 트랜잭션으로 저장
+                saveWithPoints(reader, pointsBefore, PointTransaction.Type.UPGRADE,
+                        () -> purchaseRepository.save(purchase).getId());
+                requested.setPoints(reader.getPoints());
+                entitlementIndex.onPurchased(purchase);
                 return true;
 
             }
@@ -120,30 +176,72 @@ public class AccessService {
         if (result == null) return false;
 
         if (result instanceof Rental rental) {
-            rentalRepository.save(rental);
-
-            //  Reader 저장
-            readerRepository.update(reader);
-
+            // 대여 기록 + Reader 포인트를 하나의 트랜잭션으로 저장
+            saveWithPoints(reader, pointsBefore, PointTransaction.Type.RENT,
+                    () -> rentalRepository.save(rental).getId());
+            requested.setPoints(reader.getPoints());
+            entitlementIndex.onRented(rental);
+            if (expiryScheduler != null) {
+                expiryScheduler.schedule(rental);
+            }
             return true;
         }
 
         if (result instanceof Purchase purchase) {
-            purchaseRepository.save(purchase);
-
-            //  Reader 저장
-            readerRepository.update(reader);
-
+            // 구매 기록 + Reader 포인트를 하나의 트랜잭션으로 저장
+            saveWithPoints(reader, pointsBefore, PointTransaction.Type.PURCHASE,
+                    () -> purchaseRepository.save(purchase).getId());
+            requested.setPoints(reader.getPoints());
+            entitlementIndex.onPurchased(purchase);
             return true;
         }
 
         return false;
     }
 
+    /**
+     * 대여/구매 기록 + 포인트 변경을 하나의 트랜잭션으로 저장
+     * - 원장 없음: Reader 전체를 다시 저장
+     * - 원장 사용: Reader는 저장하지 않고 차감액(pointsBefore - 현재 포인트)만 원장에 추가
+     * 커밋에 실패하면 원장 잔액과 Reader 포인트를 되돌림 (Reader는 조회한 복사본이라 테이블은 그대로)
+     *
+     * @param saveRecord 대여/구매 기록을 저장하고 ID를 돌려줌 (원장 기록의 referenceId)
+     */
+    private void saveWithPoints(Reader reader, int pointsBefore, PointTransaction.Type type,
+                                Supplier<Long> saveRecord) {
+        int spent = pointsBefore - reader.getPoints();
+        PointTransaction debit = null;
+        try (UnitOfWork uow = UnitOfWork.begin()) {
+            Long referenceId = saveRecord.get();
+            if (pointLedger == null) {
+                readerRepository.update(reader);
+            } else if (spent > 0) {
+                debit = pointLedger.debit(reader.getId(), spent, type, referenceId);
+                if (debit == null) {
+                    throw new IllegalStateException("포인트가 부족합니다.");
+                }
+            }
+            uow.commit();
+        } catch (RuntimeException e) {
+            if (debit != null) {
+                pointLedger.revert(debit);
+            }
+            reader.setPoints(pointsBefore);
+            throw e;
+        }
+    }
+
     /**
      * 전략을 이용한 접근 가능 판단(특정 전략 기반)
+     * - 구매/대여 전략은 열람 권한 색인으로 판단, 그 외 전략은 전략에 위임
      */
     public boolean canAccess(Reader reader, Episode episode, AccessStrategy strategy) {
+        if (strategy instanceof PurchaseAccessStrategy) {
+            return entitlementIndex.isPurchased(reader.getId(), episode.getId());
+        }
+        if (strategy instanceof RentalAccessStrategy) {
+            return entitlementIndex.hasActiveRental(reader.getId(), episode.getId(), LocalDateTime.now(clock));
+        }
         return strategy.canAccess(reader, episode, clock);
     }
 
@@ -151,20 +249,24 @@ public class AccessService {
      * 기본 접근 가능 여부 판단
      * - 이미 구매한 회차인지
      * - 대여 중이고 만료되지 않았는지
+     * 회차를 열 때마다 호출되므로 이력을 훑지 않고 열람 권한 색인으로 판단
      */
     public boolean canAccess(Reader reader, Episode episode) {
-        Long readerId = reader.getId();
-        Long epId = episode.getId();
-
-        // 1) 구매했으면 무조건 접근 가능
-        boolean purchased = purchaseRepository.findByReaderId(readerId).stream()
-                .anyMatch(p -> p.getEpisodeId().equals(epId));
-        if (purchased) return true;
+        return entitlementIndex.canAccess(reader.getId(), episode.getId(), LocalDateTime.now(clock));
+    }
 
-        // 2) 대여 중이며 미만료
-        return rentalRepository.findByReaderId(readerId).stream()
-                .filter(r -> r.getEpisodeId().equals(epId))
-                .anyMatch(r -> !r.isExpired(clock));
+    /**
+     * 회차 목록 전체의 열람 상태 (구매 / 대여 중(만료 시각) / 없음)
+     * 회차 목록을 그릴 때 회차마다 canAccess를 부르지 않고 한 번의 색인 조회로 판단
+     *
+     * @return episodes와 같은 순서의 상태
+     */
+    public EpisodeAccessStates canAccessAll(Reader reader, List<Episode> episodes) {
+        List<Long> episodeIds = new ArrayList<>(episodes.size());
+        for (Episode episode : episodes) {
+            episodeIds.add(episode.getId());
+        }
+        return entitlementIndex.resolve(reader.getId(), episodeIds, LocalDateTime.now(clock));
     }
 
     /**
@@ -0,0 +1,77 @@
+package com.webtoon.service;
+
+import com.webtoon.common.util.PeriodicTask;
+import com.webtoon.repository.NotificationRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 보존 정책(retention) 서비스
+ * - 보존 기간(maxAge)이 지난 알림과 독자별 최대 건수(maxPerReader)를 넘는 오래된 알림을 삭제
+ * - 삭제 대상은 한 번에 모아 일괄 삭제 (파일 기록은 샤드별 한 번)
+ * - start()로 백그라운드 주기 실행 (출력 없이 조용히 수행), purge()로 즉시 1회 실행
+ */
+public class NotificationRetentionService implements AutoCloseable {
+
+    private final NotificationRepository notificationRepository;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final int maxPerReader;
+
+    private final PeriodicTask task = new PeriodicTask("notification-purge", this::purge);
+
+    /**
+     * @param maxAge       알림 보존 기간 (생성 후 이 기간이 지나면 삭제)
+     * @param maxPerReader 독자별로 남겨 둘 최대 알림 수 (최신순)
+     */
+    public NotificationRetentionService(NotificationRepository notificationRepository, Clock clock,
+                                        Duration maxAge, int maxPerReader) {
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("보존 기간은 0 이상이어야 합니다.");
+        }
+        if (maxPerReader < 0) {
+            throw new IllegalArgumentException("독자별 최대 알림 수는 0 이상이어야 합니다.");
+        }
+        this.notificationRepository = notificationRepository;
+        this.clock = clock;
+        this.maxAge = maxAge;
+        this.maxPerReader = maxPerReader;
+    }
+
+    /**
+     * 보존 정책을 넘은 알림 일괄 삭제 (삭제 건수 반환)
+     */
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(maxAge);
+        List<Long> expiredIds = notificationRepository.findExpiredIds(cutoff, maxPerReader);
+        if (!expiredIds.isEmpty()) {
+            notificationRepository.deleteAllById(expiredIds);
+        }
+        return expiredIds.size();
+    }
+
+    /**
+     * 백그라운드 주기 실행 시작 (데몬 스레드, 이미 시작했으면 무시)
+     */
+    public void start(Duration interval) {
+        task.start(interval);
+    }
+
+    /**
+     * 백그라운드 실행이 예외로 끝난 횟수 (실패해도 다음 주기에 다시 실행)
+     */
+    public long getFailureCount() {
+        return task.getFailureCount();
+    }
+
+    /**
+     * 백그라운드 실행 중지
+     */
+    @Override
+    public void close() {
+        task.close();
+    }
+}
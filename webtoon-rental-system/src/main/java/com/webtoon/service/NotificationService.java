@@ -5,6 +5,7 @@ import com.webtoon.domain.Notification;
 import com.webtoon.domain.Webtoon;
 import com.webtoon.repository.NotificationRepository;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,19 +38,21 @@ public class NotificationService {
         }
     }
 
-    /** 신규 알림 생성 */
+    /** 신규 알림 생성 (ID는 저장 시 Repository 시퀀스에서 발급) */
     public void createNotification(Long readerId, Long webtoonId, String message) {
-        List<Notification> all = notificationRepository.findAll();
-        Long nextId = all.stream()
-                .map(Notification::getId)
-                .filter(id -> id != null)
-                .max(Long::compareTo)
-                .orElse(0L) + 1;
-
-        Notification newNotification = new Notification(nextId, readerId, webtoonId, message);
+        Notification newNotification = new Notification(null, readerId, webtoonId, message);
         notificationRepository.save(newNotification);
     }
 
+    /** 여러 독자에게 같은 알림 일괄 생성 (한 번의 저장으로 처리) */
+    public void createNotifications(List<Long> readerIds, Long webtoonId, String message) {
+        List<Notification> notifications = new ArrayList<>();
+        for (Long readerId : readerIds) {
+            notifications.add(new Notification(null, readerId, webtoonId, message));
+        }
+        notificationRepository.saveAll(notifications);
+    }
+
     /** 독자별 전체 알림 조회 (최신순 정렬) */
     public List<Notification> getNotifications(Long readerId) {
         return notificationRepository.findByReaderId(readerId).stream()
@@ -74,12 +77,12 @@ public class NotificationService {
         });
     }
 
-    /** 독자별 모든 알림 일괄 읽음 처리 */
+    /** 독자별 모든 알림 일괄 읽음 처리 (한 번의 저장으로 처리) */
     public void markAllAsRead(Long readerId) {
         List<Notification> unread = notificationRepository.findUnreadByReaderId(readerId);
         for (Notification n : unread) {
             n.markAsRead();
-            notificationRepository.update(n);
         }
+        notificationRepository.updateAll(unread);
     }
 }
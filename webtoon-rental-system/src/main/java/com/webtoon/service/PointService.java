@@ -1,8 +1,11 @@
 package com.webtoon.service;
 
+import com.webtoon.common.repository.UnitOfWork;
 import com.webtoon.domain.PaymentHistory;
+import com.webtoon.domain.PointTransaction;
 import com.webtoon.pattern.PaymentStrategy;
 import com.webtoon.repository.PaymentHistoryRepository;
+import com.webtoon.repository.PointLedger;
 import com.webtoon.repository.ReaderRepository;
 import com.webtoon.domain.Reader;
 
@@ -23,13 +26,25 @@ public class PointService {
     private final PaymentHistoryRepository paymentHistoryRepository;
     private final ReaderRepository readerRepository;
     private final Clock clock;
+    private final PointLedger pointLedger;   // null이면 포인트를 독자 정보에 직접 저장
 
     public PointService(PaymentHistoryRepository paymentHistoryRepository,
                         ReaderRepository readerRepository,
                         Clock clock) {
+        this(paymentHistoryRepository, readerRepository, clock, null);
+    }
+
+    /**
+     * 포인트 원장을 쓰는 생성자 (충전을 독자 정보 저장 대신 원장 적립 기록으로 처리)
+     */
+    public PointService(PaymentHistoryRepository paymentHistoryRepository,
+                        ReaderRepository readerRepository,
+                        Clock clock,
+                        PointLedger pointLedger) {
         this.paymentHistoryRepository = paymentHistoryRepository;
         this.readerRepository = readerRepository;
         this.clock = clock;
+        this.pointLedger = pointLedger;
     }
 
     /**
@@ -48,10 +63,23 @@ public class PointService {
             return false;
         }
 
+        // 3~6) 조회 → 적립 → 저장은 독자 잠금 안에서 (동시 충전/구매가 서로의 포인트를 덮어쓰지 않도록)
+        //      결제 처리는 외부 호출이라 잠금 밖에서 먼저 수행
+        ReaderLocks.withReader(reader.getId(), () -> saveCharge(reader, amount, strategy));
+
+        return true;
+    }
+
+    private void saveCharge(Reader reader, int amount, PaymentStrategy strategy) {
         // 3) 항상 최신 Reader를 다시 조회
         Reader latestReader = readerRepository.findById(reader.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Reader not found"));
 
+        // 원장을 쓰면 원장 잔액 기준으로 적립
+        if (pointLedger != null) {
+            latestReader.setPoints(pointLedger.balanceOf(latestReader.getId(), latestReader.getPoints()));
+        }
+
         // 4) 포인트 환산 및 적립
         int points = amount / WON_PER_POINT;
         latestReader.addPoints(points);
@@ -68,16 +96,39 @@ public class PointService {
                 now                          // Clock 기반 시간
         );
 
-        paymentHistoryRepository.save(history);
-
-        // 7) Reader의 포인트 변경사항을 DB에 저장
+        // 6) 충전 내역 + Reader 포인트를 하나의 트랜잭션으로 저장
         // 최신 Reader를 저장해야 팔로우 데이터가 덮어씌워지지 않음
-        readerRepository.update(latestReader);
+        if (pointLedger != null) {
+            saveToLedger(latestReader, history, points);
+        } else {
+            try (UnitOfWork uow = UnitOfWork.begin()) {
+                paymentHistoryRepository.save(history);
+                readerRepository.update(latestReader);
+                uow.commit();
+            }
+        }
 
         //  파라미터로 받은 reader도 최신값 동기화
         reader.setPoints(latestReader.getPoints());
+    }
 
-        return true;
+    /**
+     * 충전 내역 + 원장 적립 기록을 하나의 트랜잭션으로 저장 (Reader는 다시 쓰지 않음)
+     * 커밋에 실패하면 원장 잔액과 Reader 포인트를 되돌림
+     */
+    private void saveToLedger(Reader latestReader, PaymentHistory history, int points) {
+        PointTransaction credit = null;
+        try (UnitOfWork uow = UnitOfWork.begin()) {
+            paymentHistoryRepository.save(history);
+            credit = pointLedger.credit(latestReader.getId(), points, PointTransaction.Type.CHARGE, history.getId());
+            uow.commit();
+        } catch (RuntimeException e) {
+            if (credit != null) {
+                pointLedger.revert(credit);
+            }
+            latestReader.setPoints(latestReader.getPoints() - points);
+            throw e;
+        }
     }
 
     /** 충전 내역 조회 (FR-PAYMENT-05) */
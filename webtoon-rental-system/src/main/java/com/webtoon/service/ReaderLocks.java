@@ -0,0 +1,30 @@
+package com.webtoon.service;
+
+import com.webtoon.common.util.StripedLock;
+
+import java.util.function.Supplier;
+
+/**
+ * 독자 단위 잠금 (서비스 공용)
+ * - 독자 조회 → 포인트/팔로우 변경 → 저장을 하나의 잠금 안에서 수행해
+ *   같은 독자의 동시 구매/충전이 서로의 변경을 덮어쓰거나 포인트를 이중 사용하지 않도록 함
+ * - 다른 독자의 작업은 잠금 칸이 달라 동시에 진행 (Repository 전체 잠금은 저장 순간에만 잡힘)
+ * - 잠금 안에서는 해당 독자의 Repository 작업만 하고, 외부 결제 같은 느린 작업은 잠금 밖에서 수행
+ */
+final class ReaderLocks {
+
+    // 동시에 작업하는 독자 수보다 넉넉하게 (칸이 겹치면 서로 다른 독자도 잠깐 기다릴 뿐 결과는 같음)
+    private static final StripedLock LOCKS =
+            new StripedLock(Math.max(64, Runtime.getRuntime().availableProcessors() * 16));
+
+    private ReaderLocks() {
+    }
+
+    static <R> R withReader(Long readerId, Supplier<R> action) {
+        return LOCKS.locked(readerId, action);
+    }
+
+    static void withReader(Long readerId, Runnable action) {
+        LOCKS.locked(readerId, action);
+    }
+}
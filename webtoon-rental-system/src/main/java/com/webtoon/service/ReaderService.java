@@ -53,20 +53,23 @@ public class ReaderService {
         // 형식 검증
         Validator.validateDisplayName(newNickname);
 
-        Reader reader = readerRepository.findById(readerId)
-            .orElseThrow(() -> new ValidationException("존재하지 않는 독자입니다."));
+        // 조회 → 변경 → 저장 사이에 같은 독자의 충전/구매가 끼어들지 않도록 독자 잠금
+        ReaderLocks.withReader(readerId, () -> {
+            Reader reader = readerRepository.findById(readerId)
+                .orElseThrow(() -> new ValidationException("존재하지 않는 독자입니다."));
 
-        // 중복 검증
-        boolean isTaken = readerRepository.findAll().stream()
-                .filter(r -> !r.getId().equals(readerId))
-                .anyMatch(r -> r.getNickname().equalsIgnoreCase(newNickname.trim()));
+            // 중복 검증
+            boolean isTaken = readerRepository.findAll().stream()
+                    .filter(r -> !r.getId().equals(readerId))
+                    .anyMatch(r -> r.getNickname().equalsIgnoreCase(newNickname.trim()));
 
-        if (isTaken) {
-            throw new ValidationException("이미 사용 중인 닉네임입니다.");
-        }
+            if (isTaken) {
+                throw new ValidationException("이미 사용 중인 닉네임입니다.");
+            }
 
-        reader.updateNickname(newNickname);
-        readerRepository.update(reader);
+            reader.updateNickname(newNickname);
+            readerRepository.update(reader);
+        });
     }
 
     /**
@@ -112,9 +115,11 @@ public class ReaderService {
      * 팔로우
      */
     public void followWebtoon(Long readerId, Long webtoonId) {
-        readerRepository.findById(readerId).ifPresent(reader -> {
-            reader.followWebtoon(webtoonId);
-            readerRepository.update(reader);
+        ReaderLocks.withReader(readerId, () -> {
+            readerRepository.findById(readerId).ifPresent(reader -> {
+                reader.followWebtoon(webtoonId);
+                readerRepository.update(reader);
+            });
         });
     }
 
@@ -122,9 +127,11 @@ public class ReaderService {
      * 언팔로우
      */
     public void unfollowWebtoon(Long readerId, Long webtoonId) {
-        readerRepository.findById(readerId).ifPresent(reader -> {
-            reader.unfollowWebtoon(webtoonId);
-            readerRepository.update(reader);
+        ReaderLocks.withReader(readerId, () -> {
+            readerRepository.findById(readerId).ifPresent(reader -> {
+                reader.unfollowWebtoon(webtoonId);
+                readerRepository.update(reader);
+            });
         });
     }
 }
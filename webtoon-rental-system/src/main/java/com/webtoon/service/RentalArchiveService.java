@@ -0,0 +1,78 @@
+package com.webtoon.service;
+
+import com.webtoon.common.util.PeriodicTask;
+import com.webtoon.domain.Rental;
+import com.webtoon.repository.RentalRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 만료 대여 보관(archival) 서비스
+ * - 만료된 지 보관 기간(retention)이 지난 대여를 압축 보관 파일로 옮겨
+ *   대여 파일에는 현재 진행 중인 대여와 최근 만료분만 남도록 유지
+ * - start()로 백그라운드 주기 실행 (출력 없이 조용히 수행), archiveExpired()로 즉시 1회 실행
+ * - 보관된 대여는 getArchivedRentals()로 조회 (이력 확인용)
+ */
+public class RentalArchiveService implements AutoCloseable {
+
+    private final RentalRepository rentalRepository;
+    private final Clock clock;
+    private final Duration retention;
+
+    private final PeriodicTask task = new PeriodicTask("rental-archiver", this::archiveExpired);
+
+    /**
+     * @param retention 만료 후 대여 파일에 남겨 둘 기간 (지나면 보관 파일로 이동)
+     */
+    public RentalArchiveService(RentalRepository rentalRepository, Clock clock, Duration retention) {
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("보관 기간은 0 이상이어야 합니다.");
+        }
+        this.rentalRepository = rentalRepository;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    /**
+     * 보관 기간이 지난 만료 대여를 보관 파일로 이동 (옮긴 건수 반환)
+     */
+    public int archiveExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        return rentalRepository.archiveExpired(cutoff, clock);
+    }
+
+    /**
+     * 보관된 대여 이력 조회 (최근 대여 순)
+     */
+    public List<Rental> getArchivedRentals(Long readerId) {
+        return rentalRepository.findArchivedByReaderId(readerId).stream()
+                .sorted(Comparator.comparing(Rental::getRentedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 백그라운드 주기 실행 시작 (데몬 스레드, 이미 시작했으면 무시)
+     */
+    public void start(Duration interval) {
+        task.start(interval);
+    }
+
+    /**
+     * 백그라운드 실행이 예외로 끝난 횟수 (실패해도 다음 주기에 다시 실행)
+     */
+    public long getFailureCount() {
+        return task.getFailureCount();
+    }
+
+    /**
+     * 백그라운드 실행 중지
+     */
+    @Override
+    public void close() {
+        task.close();
+    }
+}
@@ -0,0 +1,25 @@
+package com.webtoon.service;
+
+import com.webtoon.domain.Rental;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 대여 만료 이벤트 수신 (RentalExpiryScheduler에 등록)
+ * - 스케줄러의 백그라운드 스레드에서 호출되므로 오래 걸리는 작업은 피해야 함
+ */
+public interface RentalExpiryListener {
+
+    /**
+     * 만료 임박 (스케줄러에 지정한 시간 전, 이미 구매로 전환한 대여는 제외)
+     */
+    default void onExpiringSoon(Rental rental, Duration remaining) {
+    }
+
+    /**
+     * 같은 틱에 만료된 대여 묶음 (EXPIRED 상태 저장 후 호출)
+     */
+    default void onExpired(List<Rental> rentals) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.webtoon.service;
+
+import com.webtoon.common.util.PeriodicTask;
+import com.webtoon.common.util.TimingWheel;
+import com.webtoon.domain.Rental;
+import com.webtoon.repository.EntitlementIndex;
+import com.webtoon.repository.RentalRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 대여 만료 스케줄러
+ * - 대여마다 expiresAt에 만료 타이머를 걸어 두고(계층형 타이밍 휠), 시각이 되면 묶음으로 EXPIRED 저장
+ *   → 조회할 때마다 대여를 하나씩 다시 판단하지 않고, 상태 변경은 대여당 한 번만 저장
+ * - 만료 시 열람 권한 색인에서도 제거, 등록한 리스너에 만료/만료 임박 이벤트 전달 (폴링 없음)
+ * - start()로 저장된 ACTIVE 대여를 예약하고 1초 틱으로 백그라운드 실행, expireDue()로 즉시 1회 처리
+ * - 새 대여는 AccessService가 schedule()로 등록
+ */
+public class RentalExpiryScheduler implements AutoCloseable {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final int WHEEL_SIZE = 64;
+
+    private record Timer(Long rentalId, boolean warning) {
+    }
+
+    private final RentalRepository rentalRepository;
+    private final EntitlementIndex entitlementIndex;
+    private final Clock clock;
+    private final Duration warningLead;
+    private final TimingWheel<Timer> wheel;
+    private final List<RentalExpiryListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final PeriodicTask task = new PeriodicTask("rental-expiry", this::expireDue);
+    private boolean started;
+
+    /**
+     * @param warningLead 만료 몇 분 전에 만료 임박 이벤트를 보낼지 (0이면 보내지 않음)
+     */
+    public RentalExpiryScheduler(RentalRepository rentalRepository, EntitlementIndex entitlementIndex,
+                                 Clock clock, Duration warningLead) {
+        if (warningLead.isNegative()) {
+            throw new IllegalArgumentException("만료 임박 알림 시점은 0 이상이어야 합니다.");
+        }
+        this.rentalRepository = rentalRepository;
+        this.entitlementIndex = entitlementIndex;
+        this.clock = clock;
+        this.warningLead = warningLead;
+        this.wheel = new TimingWheel<>(TICK.toMillis(), WHEEL_SIZE, clock.millis());
+    }
+
+    public void addListener(RentalExpiryListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 대여의 만료(와 만료 임박) 타이머 등록 - 저장되어 ID가 있는 대여만
+     * 이미 만료 시각이 지났으면 다음 expireDue()에서 바로 처리
+     */
+    public void schedule(Rental rental) {
+        if (rental.getId() == null) {
+            throw new IllegalArgumentException("저장되지 않은 대여는 만료 예약할 수 없습니다.");
+        }
+        long now = clock.millis();
+        long expiresAt = millisOf(rental.getExpiresAt());
+        if (!warningLead.isZero() && expiresAt > now) {
+            wheel.schedule(Math.max(now, expiresAt - warningLead.toMillis()), new Timer(rental.getId(), true));
+        }
+        scheduleExpiry(rental);
+    }
+
+    /**
+     * Rental.isExpired는 만료 시각을 "지나야" 참이므로 만료 시각 + 1ms에 예약
+     */
+    private void scheduleExpiry(Rental rental) {
+        wheel.schedule(millisOf(rental.getExpiresAt()) + 1, new Timer(rental.getId(), false));
+    }
+
+    /**
+     * 저장된 상태가 ACTIVE인 대여를 모두 예약 (예약한 건수 반환)
+     */
+    public int scheduleStored() {
+        List<Rental> active = rentalRepository.findStoredActive();
+        for (Rental rental : active) {
+            schedule(rental);
+        }
+        return active.size();
+    }
+
+    /**
+     * 지금까지 시각이 된 타이머 처리 - 만료된 대여를 한 번에 저장하고 이벤트 전달 (만료 건수 반환)
+     */
+    public int expireDue() {
+        List<Timer> fired = wheel.advance(clock.millis());
+        if (fired.isEmpty()) {
+            return 0;
+        }
+        List<Rental> expired = new ArrayList<>();
+        for (Timer timer : fired) {
+            // 그 사이 보관/삭제된 대여는 건너뜀
+            Optional<Rental> found = rentalRepository.findById(timer.rentalId());
+            if (found.isEmpty()) {
+                continue;
+            }
+            Rental rental = found.get();
+            if (timer.warning()) {
+                warn(rental);
+            } else if (rental.isExpired(clock)) {
+                expired.add(rental);
+            } else {
+                // 틱 경계/시계 보정으로 아직 만료 전이면 다시 예약
+                scheduleExpiry(rental);
+            }
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        // 다른 곳에서 조회하며 메모리상 EXPIRED가 됐더라도 저장은 여기서 한 번 (하나의 그룹 커밋)
+        rentalRepository.saveAll(expired);
+        for (Rental rental : expired) {
+            entitlementIndex.onRentalExpired(rental);
+        }
+        for (RentalExpiryListener listener : listeners) {
+            listener.onExpired(expired);
+        }
+        return expired.size();
+    }
+
+    /**
+     * 예약되어 아직 처리되지 않은 타이머 수
+     */
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * 저장된 대여 예약 + 백그라운드 실행 시작 (데몬 스레드, 이미 시작했으면 무시)
+     * 꺼져 있는 동안 만료된 대여는 여기서 바로 저장
+     *
+     * @return 시작하면서 만료 처리한 건수
+     */
+    public synchronized int start() {
+        if (started) {
+            return 0;
+        }
+        started = true;
+        scheduleStored();
+        int expired = expireDue();
+        task.start(TICK);
+        return expired;
+    }
+
+    /**
+     * 백그라운드 실행이 예외로 끝난 횟수 (실패해도 다음 주기에 다시 실행)
+     */
+    public long getFailureCount() {
+        return task.getFailureCount();
+    }
+
+    /**
+     * 백그라운드 실행 중지
+     */
+    @Override
+    public void close() {
+        task.close();
+    }
+
+    private void warn(Rental rental) {
+        if (rental.isExpired(clock)
+                || entitlementIndex.isPurchased(rental.getReaderId(), rental.getEpisodeId())) {
+            return;
+        }
+        Duration remaining = rental.getRemainingTime(clock);
+        for (RentalExpiryListener listener : listeners) {
+            listener.onExpiringSoon(rental, remaining);
+        }
+    }
+
+    private long millisOf(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -26,15 +26,18 @@
 package com.webtoon.service;
 
 import com.webtoon.domain.*;
+import com.webtoon.repository.EpisodeRepository;
 import com.webtoon.repository.StatisticsRepository;
 import com.webtoon.repository.WebtoonRepository;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 통계 서비스
  * - 웹툰별 회차 수 / 조회수 관리
  * - 작가 단위/회차 단위 통계 조회
+ * - 변경할 때마다 저장하고, 통계가 없는 웹툰은 rebuildMissing()으로 회차 데이터에서 다시 계산
  */
 public class StatisticsService {
 
@@ -66,27 +69,66 @@ public class StatisticsService {
 
     /** 회차 생성 시 회차 수 +1 */
     public void onEpisodeCreated(Long webtoonId) {
-        ensure(webtoonId).incEpisode();
+        Statistics stats = ensure(webtoonId);
+        stats.incEpisode();
+        repo.save(stats);
     }
 
     /** 회차 삭제 시 회차 수 -1 (0 아래로는 내려가지 않음) */
     public void onEpisodeDeleted(Long webtoonId) {
-        ensure(webtoonId).decEpisode();
+        Statistics stats = ensure(webtoonId);
+        stats.decEpisode();
+        repo.save(stats);
     }
 
     /** 조회 발생 시 조회수 +1 */
     public void onViewIncreased(Long webtoonId) {
-        ensure(webtoonId).incView();
+        Statistics stats = ensure(webtoonId);
+        stats.incView();
+        repo.save(stats);
     }
 
-    /** 웹툰별 총 회차 수 */
+    /** 웹툰별 총 회차 수 (통계가 없으면 0, 조회만으로는 저장하지 않음) */
     public int getEpisodeCount(Long webtoonId) {
-        return ensure(webtoonId).getEpisodeCount();
+        return repo.findByWebtoonId(webtoonId).map(Statistics::getEpisodeCount).orElse(0);
     }
 
-    /** 웹툰별 총 조회수 */
+    /** 웹툰별 총 조회수 (통계가 없으면 0, 조회만으로는 저장하지 않음) */
     public long getTotalViews(Long webtoonId) {
-        return ensure(webtoonId).getTotalViews();
+        return repo.findByWebtoonId(webtoonId).map(Statistics::getTotalViews).orElse(0L);
+    }
+
+    /**
+     * 통계가 없는 웹툰의 통계를 회차 데이터로 다시 계산해 저장 (시작 시 호출)
+     *
+     * - 웹툰마다 회차 목록(Episode.viewCount)을 합산하며, 웹툰 단위로 병렬 처리
+     * - 이미 통계가 있는 웹툰은 그대로 둠 (저장된 값이 최신)
+     * - 재시작/배포 직후에도 조회수 정렬이 바로 맞도록 하기 위함
+     *
+     * @return 새로 계산한 웹툰 수
+     */
+    public int rebuildMissing(EpisodeRepository episodeRepository) {
+        if (webtoonRepository == null) {
+            throw new IllegalStateException("통계 재구성을 사용하려면 WebtoonRepository가 필요합니다.");
+        }
+
+        List<Long> missing = webtoonRepository.findAll().stream()
+                .map(Webtoon::getId)
+                .filter(id -> id != null && repo.findByWebtoonId(id).isEmpty())
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        List<Statistics> rebuilt = missing.parallelStream()
+                .map(webtoonId -> {
+                    List<Episode> episodes = episodeRepository.findByWebtoonId(webtoonId);
+                    long totalViews = episodes.stream().mapToLong(Episode::getViewCount).sum();
+                    return new Statistics(webtoonId, episodes.size(), totalViews);
+                })
+                .collect(Collectors.toList());
+        repo.saveAll(rebuilt);
+        return rebuilt.size();
     }
 
     // ================= Issue #14: 확장 기능 =================
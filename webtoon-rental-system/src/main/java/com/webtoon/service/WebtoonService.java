@@ -96,6 +96,7 @@ import com.webtoon.repository.EpisodeRepository;
 import com.webtoon.repository.UserRepository;
 import com.webtoon.repository.WebtoonRepository;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -314,21 +315,25 @@ public class WebtoonService {
      * 팔로워들에게 알림 전송
      * - 팔로워 ID 목록에서 Reader 객체를 조회
      * - 각 Reader의 update() 메서드 호출 (Observer 패턴)
-     * - NotificationService를 통해 알림 생성 및 저장
+     * - NotificationService를 통해 알림을 모아 한 번에 저장
      */
     private void notifyFollowers(Webtoon webtoon, Episode episode) {
         String message = String.format("'%s'에 새 회차가 추가되었습니다.", webtoon.getTitle());
 
+        List<Long> notifiedReaderIds = new ArrayList<>();
         for (Long followerId : webtoon.getFollowerUserIds()) {
             userRepository.findById(followerId).ifPresent(user -> {
                 if (user instanceof Reader) {
                     Reader reader = (Reader) user;
                     // Observer 패턴: Reader.update() 호출 (콘솔 출력)
                     reader.update(webtoon.getId(), webtoon.getTitle(), message);
-                    // NotificationRepository에도 저장
-                    notificationService.createNotification(followerId, webtoon.getId(), message);
+                    notifiedReaderIds.add(followerId);
                 }
             });
         }
+        // NotificationRepository에도 저장 (팔로워 수와 관계없이 한 번의 기록)
+        if (!notifiedReaderIds.isEmpty()) {
+            notificationService.createNotifications(notifiedReaderIds, webtoon.getId(), message);
+        }
     }
 }
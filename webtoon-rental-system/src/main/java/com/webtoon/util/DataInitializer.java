@@ -10,7 +10,6 @@ import com.webtoon.pattern.RentalAccessStrategy;
 import com.webtoon.repository.*;
 import com.webtoon.service.*;
 
-import java.io.File;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +25,8 @@ public class DataInitializer {
     private final RentalRepository rentalRepository;
     private final PurchaseRepository purchaseRepository;
     private final PaymentHistoryRepository paymentHistoryRepository;
+    private final PointService pointService;
+    private final AccessService accessService;
 
     public DataInitializer(AuthService authService,
                           UserRepository userRepository,
@@ -36,6 +37,27 @@ public class DataInitializer {
                           RentalRepository rentalRepository,
                           PurchaseRepository purchaseRepository,
                           PaymentHistoryRepository paymentHistoryRepository) {
+        this(authService, userRepository, webtoonRepository, episodeRepository, notificationService,
+            readerRepository, rentalRepository, purchaseRepository, paymentHistoryRepository,
+            new PointService(paymentHistoryRepository, readerRepository, Clock.systemDefaultZone()),
+            new AccessService(rentalRepository, purchaseRepository, readerRepository, Clock.systemDefaultZone()));
+    }
+
+    /**
+     * 애플리케이션이 쓰는 포인트/열람 서비스로 샘플 충전과 대여/구매를 수행하는 생성자
+     * (포인트 원장을 쓰면 샘플 독자도 원장에 기초 잔액과 충전/차감 기록이 남음)
+     */
+    public DataInitializer(AuthService authService,
+                          UserRepository userRepository,
+                          JsonWebtoonRepository webtoonRepository,
+                          JsonEpisodeRepository episodeRepository,
+                          NotificationService notificationService,
+                          ReaderRepository readerRepository,
+                          RentalRepository rentalRepository,
+                          PurchaseRepository purchaseRepository,
+                          PaymentHistoryRepository paymentHistoryRepository,
+                          PointService pointService,
+                          AccessService accessService) {
         this.authService = authService;
         this.userRepository = userRepository;
         this.webtoonRepository = webtoonRepository;
@@ -45,16 +67,15 @@ public class DataInitializer {
         this.rentalRepository = rentalRepository;
         this.purchaseRepository = purchaseRepository;
         this.paymentHistoryRepository = paymentHistoryRepository;
+        this.pointService = pointService;
+        this.accessService = accessService;
     }
 
     public void initializeData() {
         System.out.println("데이터 초기화를 시작합니다...");
 
-        // users.json 파일 경로 확인
-        String usersFilePath = "src/main/resources/data/users.json";
-        File usersFile = new File(usersFilePath);
-
-        if (usersFile.exists() && usersFile.length() > 0) {
+        // 사용자 데이터 파일 존재 여부만 확인 (파일 전체를 읽지 않음, JSON/바이너리 형식 무관)
+        if (userRepository.hasStoredData()) {
             System.out.println("샘플 데이터가 이미 존재하여 초기화를 건너뜁니다.");
             return;
         }
@@ -160,8 +181,6 @@ public class DataInitializer {
             System.out.println("독자 계정 생성 완료 (3명, 초기 포인트 각 1,000P)");
 
             // 7. 포인트 충전 (Issue #22 요구사항)
-            Clock clock = Clock.systemDefaultZone();
-            PointService pointService = new PointService(paymentHistoryRepository, readerRepository, clock);
             CreditCardPaymentStrategy creditCard = new CreditCardPaymentStrategy();
 
             pointService.chargePoints(reader1, 10_000, creditCard);  // +1,000P
@@ -200,8 +219,6 @@ public class DataInitializer {
             System.out.println("팔로우 관계 설정 완료 (reader1: 2개, reader2: 2개, reader3: 5개)");
 
             // 9. 대여/구매 데이터 생성 (Issue #22 요구사항)
-            AccessService accessService = new AccessService(rentalRepository, purchaseRepository,
-                readerRepository, clock);
             RentalAccessStrategy rental = new RentalAccessStrategy(rentalRepository);
             PurchaseAccessStrategy purchase = new PurchaseAccessStrategy(purchaseRepository);
 
@@ -0,0 +1,110 @@
+package com.webtoon.common.repository;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DurableFiles (임시 파일 + rename 교체) 테스트
+ * - 기록 도중/rename 전에 종료된 상황에서 기존 파일이 그대로 남는지 검증
+ */
+class DurableFilesTest {
+
+    private static final Path FILE = Paths.get("src/main/resources/data/test_durable.txt");
+    private static final Path TEMP = Paths.get("src/main/resources/data/test_durable.txt.tmp");
+    private static final Path ENTITY_FILE = Paths.get("src/main/resources/data/test_entities.json");
+    private static final Path ENTITY_TEMP = Paths.get("src/main/resources/data/test_entities.json.tmp");
+
+    @BeforeEach
+    void setUp() throws IOException {
+        JsonRepository.clearTables();
+        Files.createDirectories(FILE.getParent());
+        for (Path path : new Path[]{FILE, TEMP, ENTITY_FILE, ENTITY_TEMP}) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Path path : new Path[]{FILE, TEMP, ENTITY_FILE, ENTITY_TEMP}) {
+            Files.deleteIfExists(path);
+        }
+        JsonRepository.clearTables();
+    }
+
+    @Test
+    @DisplayName("교체 후 새 내용만 남고 임시 파일은 없음")
+    void testReplace() throws IOException {
+        // Given
+        Files.writeString(FILE, "old");
+
+        // When
+        DurableFiles.replace(FILE, temp -> Files.writeString(temp, "new"));
+
+        // Then
+        assertEquals("new", Files.readString(FILE));
+        assertFalse(Files.exists(TEMP));
+    }
+
+    @Test
+    @DisplayName("기록 도중 실패하면 기존 파일은 그대로, 쓰다 만 임시 파일은 지워짐")
+    void testFailedWriteKeepsTarget() throws IOException {
+        // Given
+        Files.writeString(FILE, "old");
+
+        // When
+        IOException e = assertThrows(IOException.class, () -> DurableFiles.replace(FILE, temp -> {
+            Files.writeString(temp, "half");
+            throw new IOException("디스크 가득 참");
+        }));
+
+        // Then
+        assertEquals("디스크 가득 참", e.getMessage());
+        assertEquals("old", Files.readString(FILE));
+        assertFalse(Files.exists(TEMP));
+    }
+
+    @Test
+    @DisplayName("rename 전에 종료되어 남은 임시 파일은 다음 교체 때 덮어쓰여 정리됨")
+    void testLeftoverTempFileOverwritten() throws IOException {
+        // Given: 이전 실행이 임시 파일만 쓰고 rename 전에 종료
+        Files.writeString(FILE, "old");
+        Files.writeString(TEMP, "leftover from crashed run, much longer than the next content");
+
+        // When
+        DurableFiles.replace(FILE, temp -> Files.writeString(temp, "new"));
+
+        // Then
+        assertEquals("new", Files.readString(FILE));
+        assertFalse(Files.exists(TEMP));
+    }
+
+    @Test
+    @DisplayName("rename 전에 종료되어 임시 파일이 남아도 Repository는 이전 파일 내용을 읽고 이후 저장도 정상")
+    void testRepositoryIgnoresLeftoverTempFile() throws IOException {
+        // Given: 저장된 엔티티 + 다음 기록의 임시 파일(반쯤 써짐)만 남은 상태
+        JsonRepositoryTest.TestEntityRepository repository = new JsonRepositoryTest.TestEntityRepository();
+        JsonRepositoryTest.TestEntity saved = repository.save(
+                new JsonRepositoryTest.TestEntity("Saved", LocalDateTime.now()));
+        Files.write(ENTITY_TEMP, "[\n{\"crc\":1,\"data\":{\"id\":99,\"na".getBytes(StandardCharsets.UTF_8));
+
+        // When: 재시작
+        JsonRepository.clearTables();
+        JsonRepositoryTest.TestEntityRepository restarted = new JsonRepositoryTest.TestEntityRepository();
+
+        // Then
+        assertEquals(1, restarted.findAll().size());
+        assertEquals("Saved", restarted.findById(saved.getId()).orElseThrow().getName());
+        restarted.save(new JsonRepositoryTest.TestEntity("Next", LocalDateTime.now()));
+        assertFalse(Files.exists(ENTITY_TEMP));
+        JsonRepository.clearTables();
+        assertEquals(2, new JsonRepositoryTest.TestEntityRepository().findAll().size());
+    }
+}
@@ -0,0 +1,170 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.webtoon.common.util.LocalDateTimeAdapter;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EntityCodec (스트리밍 JSON 읽기/쓰기) 테스트
+ * - 체크섬 형식 왕복, 이전 pretty/compact 형식 읽기, 손상/잘린 레코드 처리 검증
+ */
+class EntityCodecTest {
+
+    private static final Path FILE = Paths.get("src/main/resources/data/test_codec.json");
+
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+            .create();
+    private final EntityCodec<JsonRepositoryTest.TestEntity> codec =
+            new EntityCodec<>(gson, JsonRepositoryTest.TestEntity.class);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(FILE.getParent());
+        Files.deleteIfExists(FILE);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(FILE);
+    }
+
+    @Test
+    @DisplayName("체크섬 형식으로 쓰고 읽으면 같은 엔티티가 같은 순서로 나옴")
+    void testRoundTrip() throws IOException {
+        // Given: 줄바꿈/따옴표/한글이 섞인 값 포함
+        List<JsonRepositoryTest.TestEntity> entities = List.of(
+                entity(1L, "첫 번째", LocalDateTime.of(2026, 1, 1, 9, 30)),
+                entity(2L, "line\nbreak \"quoted\"", LocalDateTime.of(2026, 2, 3, 4, 5, 6)),
+                entity(3L, "마지막", LocalDateTime.of(2026, 12, 31, 23, 59, 59)));
+
+        // When
+        codec.write(FILE, entities);
+        List<DamagedRecord> damaged = new ArrayList<>();
+        List<JsonRepositoryTest.TestEntity> read = new ArrayList<>();
+        codec.read(FILE, read::add, damaged::add);
+
+        // Then: 레코드마다 한 줄 + 체크섬
+        List<String> lines = Files.readAllLines(FILE, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(1).startsWith("{\"crc\":"));
+        assertTrue(damaged.isEmpty());
+        assertEquals(3, read.size());
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(entities.get(i).getId(), read.get(i).getId());
+            assertEquals(entities.get(i).getName(), read.get(i).getName());
+            assertEquals(entities.get(i).getCreatedAt(), read.get(i).getCreatedAt());
+        }
+    }
+
+    @Test
+    @DisplayName("빈 목록과 빈 파일은 빈 목록으로 읽힘")
+    void testEmpty() throws IOException {
+        // Given
+        codec.write(FILE, List.of());
+        List<JsonRepositoryTest.TestEntity> read = new ArrayList<>();
+
+        // When
+        codec.read(FILE, read::add, damaged -> fail("손상 레코드 없음"));
+        Files.writeString(FILE, "");
+        codec.read(FILE, read::add, damaged -> fail("손상 레코드 없음"));
+
+        // Then
+        assertTrue(read.isEmpty());
+    }
+
+    @Test
+    @DisplayName("체크섬이 없는 이전 pretty 형식 파일을 그대로 읽음")
+    void testReadLegacyPrettyFormat() throws IOException {
+        // Given: 이전 버전이 setPrettyPrinting()으로 저장한 파일
+        Files.writeString(FILE, """
+                [
+                  {
+                    "id": 1,
+                    "name": "Legacy",
+                    "createdAt": "2025-03-01T10:00:00"
+                  },
+                  {
+                    "id": 2,
+                    "name": "Pretty"
+                  }
+                ]
+                """);
+
+        // When
+        List<JsonRepositoryTest.TestEntity> read = new ArrayList<>();
+        codec.read(FILE, read::add, damaged -> fail("손상 레코드 없음"));
+        List<JsonElement> trees = new ArrayList<>();
+        EntityCodec.readTrees(FILE, trees::add, damaged -> fail("손상 레코드 없음"));
+
+        // Then
+        assertEquals(2, read.size());
+        assertEquals("Legacy", read.get(0).getName());
+        assertEquals(LocalDateTime.of(2025, 3, 1, 10, 0), read.get(0).getCreatedAt());
+        assertEquals(2L, read.get(1).getId());
+        assertNull(read.get(1).getCreatedAt());
+        assertEquals(2, trees.size());
+        assertEquals("Pretty", trees.get(1).getAsJsonObject().get("name").getAsString());
+    }
+
+    @Test
+    @DisplayName("체크섬이 없는 이전 compact 형식과 내보내기(pretty) 결과도 읽음")
+    void testReadLegacyCompactAndExport() throws IOException {
+        // Given
+        Files.writeString(FILE, "[{\"id\":1,\"name\":\"A\"},{\"id\":2,\"name\":\"B\"}]");
+
+        // When
+        List<JsonRepositoryTest.TestEntity> compact = new ArrayList<>();
+        codec.read(FILE, compact::add, damaged -> fail("손상 레코드 없음"));
+        codec.write(FILE, compact, true);
+        List<JsonRepositoryTest.TestEntity> exported = new ArrayList<>();
+        codec.read(FILE, exported::add, damaged -> fail("손상 레코드 없음"));
+
+        // Then
+        assertEquals(List.of("A", "B"), compact.stream().map(JsonRepositoryTest.TestEntity::getName).toList());
+        assertTrue(Files.readString(FILE).contains("\n  {"));
+        assertEquals(List.of("A", "B"), exported.stream().map(JsonRepositoryTest.TestEntity::getName).toList());
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞지 않는 줄만 건너뛰고, 닫는 줄이 없으면 파일 끝이 잘린 것으로 알림")
+    void testDamagedAndTruncatedRecords() throws IOException {
+        // Given: 두 번째 레코드의 값을 체크섬은 그대로 둔 채 변경, 닫는 줄 제거
+        codec.write(FILE, List.of(entity(1L, "A", null), entity(2L, "B", null), entity(3L, "C", null)));
+        List<String> lines = new ArrayList<>(Files.readAllLines(FILE, StandardCharsets.UTF_8));
+        lines.set(2, lines.get(2).replace("\"B\"", "\"X\""));
+        lines.remove(lines.size() - 1);
+        Files.write(FILE, lines, StandardCharsets.UTF_8);
+
+        // When
+        List<JsonRepositoryTest.TestEntity> read = new ArrayList<>();
+        List<DamagedRecord> damaged = new ArrayList<>();
+        codec.read(FILE, read::add, damaged::add);
+
+        // Then
+        assertEquals(List.of("A", "C"), read.stream().map(JsonRepositoryTest.TestEntity::getName).toList());
+        assertEquals(2, damaged.size());
+        assertEquals(3L, damaged.get(0).position());
+        assertEquals("체크섬 불일치", damaged.get(0).reason());
+        assertEquals("파일 끝이 잘림", damaged.get(1).reason());
+    }
+
+    private static JsonRepositoryTest.TestEntity entity(Long id, String name, LocalDateTime createdAt) {
+        JsonRepositoryTest.TestEntity entity = new JsonRepositoryTest.TestEntity(name, createdAt);
+        entity.setId(id);
+        return entity;
+    }
+}
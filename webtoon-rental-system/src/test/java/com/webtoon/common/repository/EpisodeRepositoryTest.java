@@ -0,0 +1,75 @@
+package com.webtoon.common.repository;
+
+import com.webtoon.domain.Episode;
+import com.webtoon.repository.JsonEpisodeRepository;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonEpisodeRepository 본문 저장소 분리 테스트
+ * 주의: 테스트 파일 경로는 src/main/resources/data/episodes.json 입니다.
+ * 이 테스트는 실행 전마다 해당 파일을 삭제(초기화)합니다.
+ */
+class EpisodeRepositoryTest {
+
+    private JsonEpisodeRepository repository;
+    private static final String DATA_FILE = "src/main/resources/data/episodes.json";
+
+    @BeforeEach
+    void setUp() {
+        repository = new JsonEpisodeRepository();
+        File f = new File(DATA_FILE);
+        if (f.exists()) {
+            //noinspection ResultOfMethodCallIgnored
+            f.delete();
+        }
+    }
+
+    @Test
+    @DisplayName("본문은 episodes.json에 저장되지 않고 참조만 남음")
+    void contentStoredOutsideEpisodeFile() throws IOException {
+        Episode episode = new Episode(null, 1L, 1, "1화", "아주 긴 본문 내용", 50, 100);
+
+        repository.save(episode);
+
+        String json = Files.readString(Path.of(DATA_FILE), StandardCharsets.UTF_8);
+        assertFalse(json.contains("아주 긴 본문 내용"));
+        assertNotNull(episode.getContentRef());
+        assertEquals("아주 긴 본문 내용", episode.getContent());
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 본문을 참조로 읽어 옴")
+    void contentReadAfterRestart() {
+        Episode episode = new Episode(null, 1L, 1, "1화", "본문 A", 50, 100);
+        repository.save(episode);
+
+        JsonRepository.clearTables();
+        Episode found = new JsonEpisodeRepository().findById(episode.getId()).orElse(null);
+
+        assertNotNull(found);
+        assertEquals("본문 A", found.getContent());
+    }
+
+    @Test
+    @DisplayName("본문 수정 시 새 본문이 저장됨")
+    void updateContent() {
+        Episode episode = new Episode(null, 1L, 1, "1화", "이전 본문", 50, 100);
+        repository.save(episode);
+
+        episode.updateContent("새 본문");
+        repository.save(episode);
+        JsonRepository.clearTables();
+
+        Episode found = new JsonEpisodeRepository().findById(episode.getId()).orElse(null);
+        assertNotNull(found);
+        assertEquals("새 본문", found.getContent());
+    }
+}
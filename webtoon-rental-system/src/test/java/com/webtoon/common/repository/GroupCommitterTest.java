@@ -0,0 +1,140 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GroupCommitter (그룹 커밋) 테스트
+ * - 기록(fsync)이 끝나기 전에는 handle이 완료되지 않는지, 동시에 들어온 요청이 한 번의 기록으로 묶이는지 검증
+ */
+class GroupCommitterTest {
+
+    @Test
+    @DisplayName("기록이 끝나기 전에는 handle이 완료되지 않고, 완료 시점에는 기록이 끝나 있음")
+    void testFutureCompletesAfterFlush() throws Exception {
+        // Given: 기록 도중 멈추는 flush (fsync 흉내)
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean synced = new AtomicBoolean();
+        GroupCommitter committer = new GroupCommitter(records -> {
+            entered.countDown();
+            await(release);
+            synced.set(true);
+        }, 0L);
+
+        // When
+        CompletableFuture<Void> future = committer.submitAll(List.of(record(1L)));
+        CompletableFuture<Boolean> observed = future.thenApply(v -> synced.get());
+
+        // Then
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        assertFalse(future.isDone());
+        assertTrue(committer.isBusy());
+        release.countDown();
+        assertTrue(observed.get(5, TimeUnit.SECONDS));
+        assertFalse(committer.isBusy());
+    }
+
+    @Test
+    @DisplayName("기록이 실패하면 묶인 요청 모두 같은 예외로 완료")
+    void testFailurePropagated() {
+        // Given
+        GroupCommitter committer = new GroupCommitter(records -> {
+            throw new RuntimeException("fsync 실패");
+        }, 50L);
+
+        // When
+        CompletableFuture<Void> first = committer.submitAll(List.of(record(1L)));
+        CompletableFuture<Void> second = committer.submitAll(List.of(record(2L)));
+
+        // Then
+        CompletionException e = assertThrows(CompletionException.class, first::join);
+        assertEquals("fsync 실패", e.getCause().getMessage());
+        assertThrows(CompletionException.class, second::join);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 여러 스레드가 저장하면 한 번의 기록으로 묶임")
+    void testConcurrentSubmitsBatchedInWindow() throws Exception {
+        // Given
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        GroupCommitter committer = new GroupCommitter(records -> batchSizes.add(records.size()), 300L);
+
+        // When: 8개 스레드가 동시에 요청 (한 요청은 레코드 2개)
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            long id = i * 2L;
+            Thread thread = new Thread(() -> {
+                await(start);
+                futures.add(committer.submitAll(List.of(record(id), record(id + 1))));
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of(16), batchSizes);
+    }
+
+    @Test
+    @DisplayName("기록 중에 들어온 요청들은 다음 기록 한 번에 함께 처리됨")
+    void testSubmitsDuringFlushBatchedIntoNext() throws Exception {
+        // Given: 첫 기록이 멈춰 있는 동안 요청 5건
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<Long>> batches = Collections.synchronizedList(new ArrayList<>());
+        GroupCommitter committer = new GroupCommitter(records -> {
+            batches.add(records.stream().map(record -> record.get("id").getAsLong()).toList());
+            entered.countDown();
+            await(release);
+        }, 0L);
+        CompletableFuture<Void> first = committer.submitAll(List.of(record(0L)));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // When
+        List<CompletableFuture<Void>> waiting = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            waiting.add(committer.submitAll(List.of(record(id))));
+        }
+        assertFalse(waiting.get(0).isDone());
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(waiting.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of(List.of(0L), List.of(1L, 2L, 3L, 4L, 5L)), batches);
+    }
+
+    private static JsonObject record(long id) {
+        JsonObject data = new JsonObject();
+        data.addProperty("id", id);
+        return EntityJournal.put(id, data);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.webtoon.repository.PurchaseRepository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 public class InMemoryPurchaseRepository extends PurchaseRepository {
 
@@ -28,6 +29,15 @@ public class InMemoryPurchaseRepository extends PurchaseRepository {
                 .toList();
     }
 
+    // 복합 키 인덱스(readerEpisode) 조회도 메모리 목록에서 처리
+    @Override
+    protected List<Purchase> findByIndex(String index, Object key) {
+        Function<Purchase, ?> keyExtractor = getIndexes().get(index);
+        return store.stream()
+                .filter(p -> key.equals(keyExtractor.apply(p)))
+                .toList();
+    }
+
     @Override
     public List<Purchase> findAll() {
         return new ArrayList<>(store);
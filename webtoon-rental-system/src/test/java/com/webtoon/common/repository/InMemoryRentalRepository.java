@@ -5,6 +5,7 @@ import com.webtoon.repository.RentalRepository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 public class InMemoryRentalRepository extends RentalRepository {
 
@@ -28,6 +29,15 @@ public class InMemoryRentalRepository extends RentalRepository {
                 .toList();
     }
 
+    // 복합 키 인덱스(readerEpisode) 조회도 메모리 목록에서 처리
+    @Override
+    protected List<Rental> findByIndex(String index, Object key) {
+        Function<Rental, ?> keyExtractor = getIndexes().get(index);
+        return store.stream()
+                .filter(r -> key.equals(keyExtractor.apply(r)))
+                .toList();
+    }
+
     @Override
     public List<Rental> findAll() {
         return new ArrayList<>(store);
@@ -1,8 +1,23 @@
 package com.webtoon.common.repository;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import org.junit.jupiter.api.*;
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -12,14 +27,48 @@ class JsonRepositoryTest {
 
     private TestEntityRepository repository;
 
+    private static final String ENTITY_FILE = "src/main/resources/data/test_entities.json";
+    private static final String JOURNAL_BASE_FILE = "src/main/resources/data/test_journal_entities.json";
+    private static final String JOURNAL_FILE = "src/main/resources/data/test_journal_entities.journal";
+    private static final String SEQUENCE_FILE = "src/main/resources/data/test_entities.seq";
+    private static final String BINARY_FILE = "src/main/resources/data/test_binary_entities.bin";
+    private static final String BINARY_JSON_FILE = "src/main/resources/data/test_binary_entities.json";
+    private static final String LSM_DIRECTORY = "src/main/resources/data/test_lsm_entities.lsm";
+    private static final String LSM_JSON_FILE = "src/main/resources/data/test_lsm_entities.json";
+
     @BeforeEach
     void setUp() {
+        // 이전 테스트가 열어 둔 상주 테이블/LSM 저장소 정리 (LSM은 파일을 지워도 열린 저장소가 남음)
+        JsonRepository.clearTables();
         repository = new TestEntityRepository();
         // 테스트 파일 삭제
         File file = new File("src/main/resources/data/test_entities.json");
         if (file.exists()) {
             file.delete();
         }
+        new File(JOURNAL_BASE_FILE).delete();
+        new File(JOURNAL_FILE).delete();
+        new File(BINARY_FILE).delete();
+        new File(BINARY_JSON_FILE).delete();
+        new File(ENTITY_FILE + Quarantine.EXTENSION).delete();
+        new File(BINARY_FILE + Quarantine.EXTENSION).delete();
+        new File(JOURNAL_FILE + Quarantine.EXTENSION).delete();
+        new File(SEQUENCE_FILE + Quarantine.EXTENSION).delete();
+        new File(LSM_JSON_FILE).delete();
+        File[] lsmFiles = new File(LSM_DIRECTORY).listFiles();
+        if (lsmFiles != null) {
+            for (File lsmFile : lsmFiles) {
+                lsmFile.delete();
+            }
+        }
+        new File(LSM_DIRECTORY).delete();
+        File[] shardFiles = new File("src/main/resources/data")
+                .listFiles((dir, name) -> name.startsWith("test_sharded_entities"));
+        if (shardFiles != null) {
+            for (File shardFile : shardFiles) {
+                shardFile.delete();
+            }
+        }
     }
 
     @Test
@@ -69,6 +118,28 @@ class JsonRepositoryTest {
         assertEquals("Updated", updated.getName());
     }
 
+    @Test
+    @DisplayName("조회 결과는 복사본: 저장 전에 고친 내용은 다른 조회/인덱스/파일에 보이지 않음")
+    void testReadsReturnCopies() {
+        // Given
+        TestEntity entity = new TestEntity("Original", LocalDateTime.now());
+        repository.save(entity);
+
+        // When: 저장한 인스턴스와 조회한 인스턴스를 고치고 저장하지 않음
+        entity.setName("Changed after save");
+        TestEntity found = repository.findById(entity.getId()).orElseThrow();
+        found.setName("Changed after read");
+        repository.findAll().forEach(e -> e.setName("Changed in list"));
+
+        // Then
+        assertEquals("Original", repository.findById(entity.getId()).orElseThrow().getName());
+        assertEquals(1, repository.findByName("Original").size());
+        assertNotSame(found, repository.findById(entity.getId()).orElseThrow());
+
+        JsonRepository.clearTables();
+        assertEquals("Original", new TestEntityRepository().findById(entity.getId()).orElseThrow().getName());
+    }
+
     @Test
     @DisplayName("엔티티 삭제")
     void testDelete() {
@@ -97,6 +168,747 @@ class JsonRepositoryTest {
         assertEquals(2L, entity2.getId());
     }
 
+    @Test
+    @DisplayName("일괄 저장/수정/삭제")
+    void testBatchOperations() {
+        // Given
+        TestEntity entity1 = new TestEntity("Entity 1", LocalDateTime.now());
+        TestEntity entity2 = new TestEntity("Entity 2", LocalDateTime.now());
+        TestEntity entity3 = new TestEntity("Entity 3", LocalDateTime.now());
+
+        // When
+        repository.saveAll(List.of(entity1, entity2, entity3));
+        entity1.setName("Updated");
+        repository.updateAll(List.of(entity1));
+        repository.deleteAllById(List.of(entity2.getId(), 999L));
+
+        // Then
+        JsonRepository.clearTables();
+        TestEntityRepository reloaded = new TestEntityRepository();
+        assertEquals(List.of(1L, 2L, 3L), List.of(entity1.getId(), entity2.getId(), entity3.getId()));
+        assertEquals(2, reloaded.findAll().size());
+        assertEquals("Updated", reloaded.findById(1L).orElseThrow().getName());
+        assertFalse(reloaded.findById(2L).isPresent());
+    }
+
+    @Test
+    @DisplayName("저널 모드: 일괄 저장은 한 번에 저널에 추가되고 재시작 시 재생됨")
+    void testJournalBatchReplay() {
+        // Given
+        JournalEntityRepository journalRepository = new JournalEntityRepository();
+        journalRepository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+
+        // When
+        journalRepository.saveAll(List.of(
+                new TestEntity("Entity 2", LocalDateTime.now()),
+                new TestEntity("Entity 3", LocalDateTime.now())));
+        journalRepository.deleteAllById(List.of(1L));
+
+        // Then
+        JsonRepository.clearTables();
+        assertEquals(2, new JournalEntityRepository().findAll().size());
+    }
+
+    @Test
+    @DisplayName("보조 인덱스: 저장/수정/삭제 시 함께 갱신됨")
+    void testSecondaryIndex() {
+        // Given
+        TestEntity entity1 = new TestEntity("A", LocalDateTime.now());
+        TestEntity entity2 = new TestEntity("A", LocalDateTime.now());
+        repository.save(entity1);
+        repository.save(entity2);
+
+        // When
+        entity2.setName("B");
+        repository.update(entity2);
+        repository.deleteById(entity1.getId());
+
+        // Then
+        assertTrue(repository.findByName("A").isEmpty());
+        assertEquals(1, repository.findByName("B").size());
+        assertEquals(entity2.getId(), repository.findByName("B").get(0).getId());
+    }
+
+    @Test
+    @DisplayName("보조 인덱스: 재시작 후 파일에서 다시 구성됨")
+    void testSecondaryIndexRebuiltOnLoad() {
+        // Given
+        repository.save(new TestEntity("A", LocalDateTime.now()));
+        repository.save(new TestEntity("B", LocalDateTime.now()));
+
+        // When
+        JsonRepository.clearTables();
+
+        // Then
+        assertEquals(1, new TestEntityRepository().findByName("A").size());
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회: 저장이 진행 중이어도 조회 결과가 일관됨")
+    void testSnapshotReadsDuringWrites() throws InterruptedException {
+        // Given
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                repository.save(new TestEntity("W" + i, LocalDateTime.now()));
+            }
+        });
+
+        // When
+        writer.start();
+        int lastSize = 0;
+        while (writer.isAlive()) {
+            var all = repository.findAll();
+            // Then - 스냅샷은 줄어들지 않고, 중간 상태(null 등)를 보이지 않음
+            assertTrue(all.size() >= lastSize);
+            all.forEach(Assertions::assertNotNull);
+            lastSize = all.size();
+        }
+        writer.join();
+
+        assertEquals(200, repository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("마지막 ID를 삭제해도 재시작 후 같은 ID를 다시 발급하지 않음")
+    void testIdNotReusedAfterRestart() {
+        // Given
+        repository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+        TestEntity last = new TestEntity("Entity 2", LocalDateTime.now());
+        repository.save(last);
+        repository.deleteById(last.getId());
+
+        // When
+        JsonRepository.clearTables();
+        TestEntity next = new TestEntity("Entity 3", LocalDateTime.now());
+        new TestEntityRepository().save(next);
+
+        // Then
+        assertEquals(3L, next.getId());
+    }
+
+    @Test
+    @DisplayName("저널 모드: 삭제 레코드의 ID도 시퀀스 복구에 반영됨")
+    void testJournalIdNotReusedAfterRestart() {
+        // Given
+        JournalEntityRepository journalRepository = new JournalEntityRepository();
+        journalRepository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+        TestEntity last = new TestEntity("Entity 2", LocalDateTime.now());
+        journalRepository.save(last);
+        journalRepository.deleteById(last.getId());
+
+        // When
+        JsonRepository.clearTables();
+        TestEntity next = new TestEntity("Entity 3", LocalDateTime.now());
+        new JournalEntityRepository().save(next);
+
+        // Then
+        assertEquals(3L, next.getId());
+    }
+
+    @Test
+    @DisplayName("저널 모드: 저장/삭제는 저널에 추가되고 재시작 시 재생됨")
+    void testJournalReplay() {
+        // Given
+        JournalEntityRepository journalRepository = new JournalEntityRepository();
+        TestEntity keep = new TestEntity("Keep", LocalDateTime.now());
+        TestEntity remove = new TestEntity("Remove", LocalDateTime.now());
+        journalRepository.save(keep);
+        journalRepository.save(remove);
+        keep.setName("Kept");
+        journalRepository.update(keep);
+        journalRepository.deleteById(remove.getId());
+
+        // When: 상주 테이블을 비우고 파일에서 다시 로드
+        JsonRepository.clearTables();
+        JournalEntityRepository reloaded = new JournalEntityRepository();
+
+        // Then
+        assertTrue(new File(JOURNAL_FILE).exists());
+        assertEquals(1, reloaded.findAll().size());
+        assertEquals("Kept", reloaded.findById(keep.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("저널 모드: 쓰다 만 저널 줄은 격리 파일에 남기고 그 앞까지만 재생")
+    void testDamagedJournalLineQuarantined() throws Exception {
+        // Given
+        JournalEntityRepository journalRepository = new JournalEntityRepository();
+        journalRepository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+        journalRepository.save(new TestEntity("Entity 2", LocalDateTime.now()));
+        Files.writeString(Paths.get(JOURNAL_FILE), "{\"op\":\"PUT\",\"id\":3,\"da\n",
+                StandardOpenOption.APPEND);
+
+        // When
+        JsonRepository.clearTables();
+        JournalEntityRepository reloaded = new JournalEntityRepository();
+
+        // Then
+        assertEquals(2, reloaded.findAll().size());
+        List<String> quarantined = Files.readAllLines(Paths.get(JOURNAL_FILE + Quarantine.EXTENSION));
+        assertEquals(1, quarantined.size());
+        assertTrue(quarantined.get(0).contains("저널 레코드 손상"));
+    }
+
+    @Test
+    @DisplayName("시퀀스 파일이 손상되면 원문을 격리하고 파일에 남은 최대 ID 기준으로 복구")
+    void testDamagedSequenceFileQuarantined() throws Exception {
+        // Given
+        repository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+        repository.save(new TestEntity("Entity 2", LocalDateTime.now()));
+        Files.writeString(Paths.get(SEQUENCE_FILE), "12x");
+
+        // When
+        JsonRepository.clearTables();
+        TestEntityRepository reloaded = new TestEntityRepository();
+
+        // Then
+        assertEquals(3L, reloaded.save(new TestEntity("Entity 3", LocalDateTime.now())).getId());
+        assertTrue(Files.readString(Paths.get(SEQUENCE_FILE + Quarantine.EXTENSION)).contains("12x"));
+    }
+
+    @Test
+    @DisplayName("저널 모드: 임계치를 넘으면 기준 파일로 압축됨")
+    void testJournalCompaction() {
+        // Given
+        JournalEntityRepository journalRepository = new JournalEntityRepository();
+
+        // When: 임계치(3)를 넘게 저장
+        for (int i = 0; i < 5; i++) {
+            journalRepository.save(new TestEntity("Entity " + i, LocalDateTime.now()));
+        }
+        JsonRepository.clearTables();
+
+        // Then: 압축 이후에도 모든 엔티티가 복원됨
+        assertEquals(5, new JournalEntityRepository().findAll().size());
+    }
+
+    @Test
+    @DisplayName("저널 모드: 기준 파일이 삭제되면 남은 저널은 무시됨")
+    void testJournalDiscardedWithoutBaseFile() {
+        // Given
+        JournalEntityRepository journalRepository = new JournalEntityRepository();
+        journalRepository.save(new TestEntity("Entity", LocalDateTime.now()));
+
+        // When
+        new File(JOURNAL_BASE_FILE).delete();
+
+        // Then
+        assertTrue(journalRepository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("바이너리 형식: 저장한 내용이 재시작 후 그대로 로드됨")
+    void testBinarySnapshotRoundTrip() {
+        // Given
+        BinaryEntityRepository binaryRepository = new BinaryEntityRepository();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        TestEntity first = binaryRepository.save(new TestEntity("웹툰", createdAt));
+        TestEntity second = binaryRepository.save(new TestEntity("Webtoon", createdAt));
+        binaryRepository.deleteById(first.getId());
+
+        // When
+        JsonRepository.clearTables();
+        BinaryEntityRepository reloaded = new BinaryEntityRepository();
+
+        // Then
+        assertTrue(new File(BINARY_FILE).exists());
+        assertFalse(new File(BINARY_JSON_FILE).exists());
+        assertEquals(1, reloaded.findAll().size());
+        TestEntity loaded = reloaded.findById(second.getId()).orElseThrow();
+        assertEquals("Webtoon", loaded.getName());
+        assertEquals(createdAt, loaded.getCreatedAt());
+        assertEquals(1, reloaded.findByName("Webtoon").size());
+        assertTrue(reloaded.hasStoredData());
+    }
+
+    @Test
+    @DisplayName("바이너리 형식: 기존 JSON 파일을 처음 로드할 때 가져옴")
+    void testBinarySnapshotImportsJson() throws Exception {
+        // Given
+        Files.writeString(Paths.get(BINARY_JSON_FILE), "[{\"id\":5,\"name\":\"Legacy\"}]");
+        BinaryEntityRepository binaryRepository = new BinaryEntityRepository();
+        assertTrue(binaryRepository.hasStoredData());
+
+        // When
+        List<TestEntity> entities = binaryRepository.findAll();
+
+        // Then: 바이너리 파일이 생기고, 이후에도 ID가 이어짐
+        assertEquals(1, entities.size());
+        assertEquals("Legacy", entities.get(0).getName());
+        assertTrue(new File(BINARY_FILE).exists());
+        assertEquals(6L, binaryRepository.save(new TestEntity("New", LocalDateTime.now())).getId());
+
+        JsonRepository.clearTables();
+        assertEquals(2, new BinaryEntityRepository().findAll().size());
+    }
+
+    @Test
+    @DisplayName("체크섬: 손상된 레코드만 격리하고 나머지는 로드하며, 격리된 ID는 다시 쓰지 않음")
+    void testDamagedRecordQuarantined() throws Exception {
+        // Given
+        repository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+        repository.save(new TestEntity("Entity 2", LocalDateTime.now()));
+        repository.save(new TestEntity("Entity 3", LocalDateTime.now()));
+        Path file = Paths.get(ENTITY_FILE);
+        String original = Files.readString(file);
+        Files.writeString(file, original.replace("Entity 3", "Entity X"));
+
+        // When
+        JsonRepository.clearTables();
+        TestEntityRepository reloaded = new TestEntityRepository();
+
+        // Then
+        assertEquals(2, reloaded.findAll().size());
+        assertTrue(reloaded.findById(3L).isEmpty());
+        String quarantined = Files.readString(Paths.get(ENTITY_FILE + Quarantine.EXTENSION));
+        assertTrue(quarantined.contains("Entity X"));
+        assertEquals(4L, reloaded.save(new TestEntity("Entity 4", LocalDateTime.now())).getId());
+
+        // 격리 후 다시 기록했으므로 다음 로드에서는 다시 격리하지 않음
+        JsonRepository.clearTables();
+        assertEquals(3, new TestEntityRepository().findAll().size());
+        assertEquals(1, Files.readAllLines(Paths.get(ENTITY_FILE + Quarantine.EXTENSION)).size());
+    }
+
+    @Test
+    @DisplayName("체크섬: 파일 끝이 잘려도 앞쪽 레코드는 로드됨")
+    void testTruncatedFileRecovered() throws Exception {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            repository.save(new TestEntity("Entity " + i, LocalDateTime.now()));
+        }
+        Path file = Paths.get(ENTITY_FILE);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 20));
+
+        // When
+        JsonRepository.clearTables();
+        List<TestEntity> entities = new TestEntityRepository().findAll();
+
+        // Then
+        assertEquals(2, entities.size());
+        assertTrue(new File(ENTITY_FILE + Quarantine.EXTENSION).exists());
+    }
+
+    @Test
+    @DisplayName("체크섬: 바이너리 형식도 손상된 레코드만 건너뜀")
+    void testDamagedBinaryRecordQuarantined() throws Exception {
+        // Given
+        BinaryEntityRepository binaryRepository = new BinaryEntityRepository();
+        binaryRepository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+        binaryRepository.save(new TestEntity("Entity 2", LocalDateTime.now()));
+        binaryRepository.save(new TestEntity("Entity 3", LocalDateTime.now()));
+
+        // 두 번째 레코드의 첫 바이트 변조 (헤더 24바이트 + 첫 레코드 [길이][CRC][본문])
+        Path file = Paths.get(BINARY_FILE);
+        byte[] bytes = Files.readAllBytes(file);
+        int firstLength = ByteBuffer.wrap(bytes, 24, 4).getInt();
+        int secondBody = 24 + 8 + firstLength + 8;
+        bytes[secondBody] ^= 0x7F;
+        Files.write(file, bytes);
+
+        // When
+        JsonRepository.clearTables();
+        BinaryEntityRepository reloaded = new BinaryEntityRepository();
+
+        // Then
+        assertEquals(2, reloaded.findAll().size());
+        assertTrue(reloaded.findById(2L).isEmpty());
+        assertEquals("Entity 3", reloaded.findById(3L).orElseThrow().getName());
+        assertTrue(new File(BINARY_FILE + Quarantine.EXTENSION).exists());
+    }
+
+    @Test
+    @DisplayName("프로세스 간 잠금: 마지막 로드 이후 다른 프로세스가 기록했으면 덮어쓰지 않고 합쳐 기록")
+    void testConcurrentWritersMerged() {
+        // Given: 같은 파일을 연 두 저장소 (각각 다른 프로세스 흉내)
+        Gson gson = new Gson();
+        TableSpec<Row> spec = new TableSpec<>("test_entities", Row.class, gson, row -> row.id,
+                StorageMode.SNAPSHOT, SnapshotFormat.JSON, 1000, Map.of());
+        TableStore<Row> processA = StorageEngines.json().openTable(spec);
+        TableStore<Row> processB = StorageEngines.json().openTable(spec);
+        processA.load(new LinkedHashMap<>());
+        processB.load(new LinkedHashMap<>());
+        processB.markSynced();
+        assertFalse(processB.isStale());
+
+        // When: A가 기록한 뒤, A의 기록을 읽지 않은 B가 기록
+        Row a = new Row(1L, "A");
+        processA.write(List.of(EntityJournal.put(1L, gson.toJsonTree(a).getAsJsonObject())), List.of(a));
+        processA.markSynced();
+        assertTrue(processB.isStale());
+        Row b = new Row(2L, "B");
+        processB.write(List.of(EntityJournal.put(2L, gson.toJsonTree(b).getAsJsonObject())), List.of(b));
+        processB.markSynced();
+
+        // Then: 두 기록이 모두 남고, B는 합친 내용을 다시 읽어야 함
+        assertTrue(processB.isStale());
+        assertTrue(processA.isStale());
+        Map<Long, Row> rows = new LinkedHashMap<>();
+        processB.load(rows);
+        assertEquals(List.of(1L, 2L), List.copyOf(rows.keySet()));
+        processB.markSynced();
+        assertFalse(processB.isStale());
+    }
+
+    @Test
+    @DisplayName("프로세스 간 잠금: 스냅샷 모드에서 두 Repository가 save로 기록해도 서로의 변경을 잃지 않음")
+    void testConcurrentSnapshotSavesMerged() {
+        // Given: 같은 파일을 각자 읽어 둔 두 Repository (테이블을 따로 가진 다른 프로세스 흉내)
+        SlowCommitEntityRepository processA = new SlowCommitEntityRepository();
+        assertTrue(processA.findAll().isEmpty());
+        JsonRepository.clearTables();
+        TestEntityRepository processB = new TestEntityRepository();
+        assertTrue(processB.findAll().isEmpty());
+
+        // When: A의 기록이 그룹 커밋 대기 중일 때 B가 먼저 기록
+        CompletableFuture<Void> saveA = CompletableFuture.runAsync(
+                () -> processA.save(new TestEntity("A", LocalDateTime.now())));
+        processB.save(new TestEntity("B", LocalDateTime.now()));
+        saveA.join();
+
+        // Then: 재시작 후 두 엔티티가 모두 남아 있음
+        JsonRepository.clearTables();
+        List<String> names = new TestEntityRepository().findAll().stream()
+                .map(TestEntity::getName)
+                .sorted()
+                .toList();
+        assertEquals(List.of("A", "B"), names);
+    }
+
+    @Test
+    @DisplayName("프로세스 간 잠금: 같은 시퀀스를 쓰는 프로세스끼리 ID가 겹치지 않음")
+    void testSharedIdSequence() {
+        Path sequencePath = Paths.get("src/main/resources/data/test_entities.seq").toAbsolutePath();
+        IdSequence processA = new IdSequence(sequencePath);
+        IdSequence processB = new IdSequence(sequencePath);
+        processA.recover(0L, false);
+        processB.recover(0L, true);
+
+        // 각 프로세스는 공유 카운터에서 묶음을 예약하고 그 안에서 발급
+        long lease = IdSequence.LEASE_SIZE;
+        assertEquals(1L, processA.next());
+        assertEquals(lease + 1, processB.next());
+        assertEquals(2L, processA.next());
+        assertEquals(lease + 2, processB.next());
+
+        // 지정 ID를 관측하면 이후 예약은 그 뒤에서 시작
+        processB.observe(1000L);
+        assertEquals(1001L, processB.next());
+        assertEquals(3L, processA.next());
+
+        // 마지막으로 예약한 프로세스만 남은 예약분을 돌려줌
+        processA.release();
+        processB.release();
+        IdSequence processC = new IdSequence(sequencePath);
+        processC.recover(0L, true);
+        assertEquals(1002L, processC.next());
+    }
+
+    @Test
+    @DisplayName("JSON 내보내기 파일을 다른 Repository로 가져오기")
+    void testImportJson() throws Exception {
+        // Given
+        repository.save(new TestEntity("Export", LocalDateTime.now()));
+        Path exported = Paths.get("src/main/resources/data/test_export.json");
+        repository.exportPretty(exported);
+
+        // When
+        BinaryEntityRepository binaryRepository = new BinaryEntityRepository();
+        int imported = binaryRepository.importJson(exported);
+        Files.deleteIfExists(exported);
+
+        // Then
+        assertEquals(1, imported);
+        assertEquals("Export", binaryRepository.findAll().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("샤드: 키 해시로 파일을 나누어 저장하고 재시작 후에도 조회됨")
+    void testShardedRepository() {
+        // Given
+        ShardedEntityRepository shardedRepository = new ShardedEntityRepository();
+        for (int i = 0; i < 8; i++) {
+            shardedRepository.save(new TestEntity("Reader " + (i % 4), LocalDateTime.now()));
+        }
+        TestEntity removed = shardedRepository.findByName("Reader 0").get(0);
+        shardedRepository.deleteById(removed.getId());
+
+        // When
+        JsonRepository.clearTables();
+        ShardedEntityRepository reloaded = new ShardedEntityRepository();
+
+        // Then: 단일 파일 없이 여러 샤드 파일에 나누어 저장됨
+        assertFalse(new File("src/main/resources/data/test_sharded_entities.json").exists());
+        File[] shardFiles = new File("src/main/resources/data")
+                .listFiles((dir, name) -> name.matches("test_sharded_entities-\\d\\.json"));
+        assertTrue(shardFiles != null && shardFiles.length > 1);
+
+        assertEquals(7, reloaded.findAll().size());
+        assertEquals(1, reloaded.findByName("Reader 0").size());
+        assertEquals(2, reloaded.findByName("Reader 3").size());
+        assertTrue(reloaded.findById(removed.getId()).isEmpty());
+        assertTrue(reloaded.hasStoredData());
+
+        // 샤드끼리 ID 시퀀스를 공유하므로 재시작 후에도 겹치지 않음
+        TestEntity next = reloaded.save(new TestEntity("Reader 1", LocalDateTime.now()));
+        assertTrue(next.getId() > 8L);
+        assertEquals(1, reloaded.findAll().stream().filter(e -> e.getId().equals(next.getId())).count());
+    }
+
+    @Test
+    @DisplayName("샤드: 기존 단일 파일은 처음 열 때 샤드 파일로 옮겨짐")
+    void testShardMigration() {
+        // Given: 나누기 전 단일 파일
+        UnshardedEntityRepository unsharded = new UnshardedEntityRepository();
+        for (int i = 0; i < 6; i++) {
+            unsharded.save(new TestEntity("Reader " + i, LocalDateTime.now()));
+        }
+        JsonRepository.clearTables();
+
+        // When
+        ShardedEntityRepository shardedRepository = new ShardedEntityRepository();
+        List<TestEntity> entities = shardedRepository.findAll();
+
+        // Then
+        assertEquals(6, entities.size());
+        assertFalse(new File("src/main/resources/data/test_sharded_entities.json").exists());
+        assertEquals(1, shardedRepository.findByName("Reader 5").size());
+        assertEquals(7L, shardedRepository.save(new TestEntity("New", LocalDateTime.now())).getId());
+
+        JsonRepository.clearTables();
+        assertEquals(7, new ShardedEntityRepository().findAll().size());
+    }
+
+    @Test
+    @DisplayName("워밍업: 여러 Repository를 병렬로 읽고 입력 순서대로 건수를 보고")
+    void testRepositoryWarmUp() {
+        // Given
+        repository.save(new TestEntity("Entity 1", LocalDateTime.now()));
+        repository.save(new TestEntity("Entity 2", LocalDateTime.now()));
+        ShardedEntityRepository shardedRepository = new ShardedEntityRepository();
+        for (int i = 0; i < 5; i++) {
+            shardedRepository.save(new TestEntity("Reader " + i, LocalDateTime.now()));
+        }
+        JsonRepository.clearTables();
+
+        // When
+        List<RepositoryWarmUp.Result> results = RepositoryWarmUp.run(
+                List.of(new TestEntityRepository(), new ShardedEntityRepository(), new BinaryEntityRepository()), 2);
+
+        // Then
+        assertEquals(3, results.size());
+        assertEquals("test_entities", results.get(0).name());
+        assertEquals(2, results.get(0).records());
+        assertEquals("test_sharded_entities", results.get(1).name());
+        assertEquals(5, results.get(1).records());
+        assertEquals(0, results.get(2).records());
+        assertTrue(results.stream().allMatch(result -> result.elapsedMillis() >= 0));
+        assertEquals(1, new ShardedEntityRepository().findByName("Reader 3").size());
+        assertThrows(IllegalArgumentException.class, () -> RepositoryWarmUp.run(List.of(repository), 0));
+    }
+
+    @Test
+    @DisplayName("memory 엔진: 파일 없이 저장/조회/삭제하고, 다시 열어도 ID가 겹치지 않음")
+    void testMemoryEngine() {
+        // Given
+        StorageEngine engine = StorageEngines.memory();
+        MemoryEntityRepository memoryRepository = new MemoryEntityRepository(engine);
+
+        // When
+        TestEntity first = memoryRepository.save(new TestEntity("First", LocalDateTime.now()));
+        TestEntity second = memoryRepository.save(new TestEntity("Second", LocalDateTime.now()));
+        memoryRepository.deleteById(second.getId());
+
+        // Then
+        assertEquals(1, memoryRepository.findAll().size());
+        assertEquals(1, memoryRepository.findByName("First").size());
+        assertTrue(memoryRepository.hasStoredData());
+        File[] files = new File("src/main/resources/data")
+                .listFiles((dir, name) -> name.startsWith("test_memory_entities"));
+        assertTrue(files == null || files.length == 0);
+
+        // 같은 엔진으로 다시 열면 마지막 반영 상태를 읽고, 삭제된 ID도 다시 발급하지 않음
+        JsonRepository.clearTables();
+        MemoryEntityRepository reopened = new MemoryEntityRepository(engine);
+        assertEquals("First", reopened.findById(first.getId()).orElseThrow().getName());
+        assertEquals(3L, reopened.save(new TestEntity("Third", LocalDateTime.now())).getId());
+
+        // 새 엔진은 비어 있음
+        assertFalse(new MemoryEntityRepository(StorageEngines.memory()).hasStoredData());
+    }
+
+    @Test
+    @DisplayName("memory 엔진: UnitOfWork 롤백 시 반영 전 상태로 돌아감")
+    void testMemoryEngineRollback() {
+        // Given
+        MemoryEntityRepository memoryRepository = new MemoryEntityRepository(StorageEngines.memory());
+        TestEntity entity = memoryRepository.save(new TestEntity("Before", LocalDateTime.now()));
+
+        // When: commit 없이 종료
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            entity.setName("After");
+            memoryRepository.update(entity);
+        }
+
+        // Then
+        assertEquals("Before", memoryRepository.findById(entity.getId()).orElseThrow().getName());
+        assertTrue(memoryRepository.findByName("After").isEmpty());
+    }
+
+    @Test
+    @DisplayName("lsm 엔진: 기존 JSON 데이터를 가져오고, 재시작 후에도 저장/삭제가 유지됨")
+    void testLsmEngine() {
+        // Given: file 엔진으로 저장된 기존 데이터
+        LsmEntityRepository jsonRepository = new LsmEntityRepository(StorageEngines.file());
+        jsonRepository.save(new TestEntity("Imported", LocalDateTime.now()));
+        JsonRepository.clearTables();
+
+        // When
+        LsmEntityRepository lsmRepository = new LsmEntityRepository(StorageEngines.lsm());
+        assertEquals(1, lsmRepository.findByName("Imported").size());
+        TestEntity kept = lsmRepository.save(new TestEntity("Kept", LocalDateTime.now()));
+        TestEntity removed = lsmRepository.save(new TestEntity("Removed", LocalDateTime.now()));
+        lsmRepository.deleteById(removed.getId());
+        JsonRepository.clearTables();
+
+        // Then
+        LsmEntityRepository reopened = new LsmEntityRepository(StorageEngines.lsm());
+        assertEquals(2, reopened.findAll().size());
+        assertEquals("Kept", reopened.findById(kept.getId()).orElseThrow().getName());
+        assertTrue(reopened.findById(removed.getId()).isEmpty());
+        assertTrue(new File(LSM_DIRECTORY, "wal.log").exists());
+        assertEquals(4L, reopened.save(new TestEntity("Next", LocalDateTime.now())).getId());
+    }
+
+    @Test
+    @DisplayName("lsm 엔진: 행을 상주시키지 않고 ID/인덱스 조회를 저장소에서 처리, 키가 바뀌면 인덱스 항목도 옮겨짐")
+    void testLsmServesReadsFromStore() {
+        // Given
+        IndexedEntityRepository lsmRepository = new IndexedEntityRepository(StorageEngines.lsm());
+        TestEntity a1 = lsmRepository.save(new TestEntity("A", day(1)));
+        TestEntity a5 = lsmRepository.save(new TestEntity("A", day(5)));
+        lsmRepository.save(new TestEntity("A", day(9)));
+        lsmRepository.save(new TestEntity("B", day(5)));
+
+        // Then: 상주 테이블은 비어 있고 조회는 저장소에서 새로 만든 인스턴스
+        assertEquals(0, lsmRepository.warmUp());
+        TestEntity found = lsmRepository.findById(a1.getId()).orElseThrow();
+        found.setName("changed");
+        assertEquals("A", lsmRepository.findById(a1.getId()).orElseThrow().getName());
+        assertEquals(3, lsmRepository.findByName("A").size());
+
+        // When: 이름 변경 + 삭제
+        a5.setName("C");
+        lsmRepository.save(a5);
+        lsmRepository.deleteById(a1.getId());
+
+        // Then: 재시작 후에도 인덱스가 행과 일치
+        JsonRepository.clearTables();
+        IndexedEntityRepository reopened = new IndexedEntityRepository(StorageEngines.lsm());
+        assertEquals(1, reopened.findByName("A").size());
+        assertEquals(List.of(a5.getId()), reopened.findByName("C").stream().map(TestEntity::getId).toList());
+        assertEquals(List.of(9), days(reopened.findByIndexRange("nameDay", List.of("A"), List.of("A"))));
+    }
+
+    @Test
+    @DisplayName("복합 키 구간 조회: 앞부분만 준 구간/일부 구간 모두 키 순, 상주 테이블과 lsm 엔진 결과가 같음")
+    void testCompositeIndexRange() {
+        for (StorageEngine engine : List.of(StorageEngines.memory(), StorageEngines.lsm())) {
+            // Given
+            IndexedEntityRepository indexed = new IndexedEntityRepository(engine);
+            indexed.save(new TestEntity("A", day(9)));
+            indexed.save(new TestEntity("B", day(5)));
+            indexed.save(new TestEntity("A", day(1)));
+            indexed.save(new TestEntity("A", day(5)));
+            indexed.save(new TestEntity("AB", day(3)));
+
+            // Then
+            String name = engine.getName();
+            assertEquals(List.of(1, 5, 9), days(indexed.findByIndexRange("nameDay", List.of("A"), List.of("A"))), name);
+            assertEquals(List.of(5, 9), days(indexed.findByIndexRange("nameDay", List.of("A", 2), List.of("A", 9))), name);
+            assertEquals(List.of(1, 5, 9, 3, 5),
+                    days(indexed.findByIndexRange("nameDay", List.of("A"), List.of("B"))), name);
+            assertEquals(1, indexed.findByIndex("nameDay", List.of("B", 5)).size(), name);
+            assertTrue(indexed.findByIndex("nameDay", List.of("B", 6)).isEmpty(), name);
+            assertThrows(IllegalArgumentException.class,
+                    () -> indexed.findByIndexRange("unknown", List.of("A"), List.of("A")), name);
+        }
+    }
+
+    @Test
+    @DisplayName("lsm 엔진: 트랜잭션 로그로 복구한 행은 다음에 열 때 인덱스에 다시 반영됨")
+    void testLsmReindexAfterTransactionRecovery() {
+        // Given: 커밋 지점(로그 기록)까지만 진행된 이름 변경
+        IndexedEntityRepository lsmRepository = new IndexedEntityRepository(StorageEngines.lsm());
+        TestEntity entity = lsmRepository.save(new TestEntity("Before", day(1)));
+        JsonObject data = new JsonObject();
+        data.addProperty("id", entity.getId());
+        data.addProperty("name", "After");
+        data.addProperty("createdAt", entity.getCreatedAt().toString());
+        JsonObject put = EntityJournal.put(entity.getId(), data);
+        put.addProperty("file", "test_lsm_entities" + LsmStorageEngine.EXTENSION);
+        JsonArray changes = new JsonArray();
+        changes.add(put);
+        TransactionLog.of(Paths.get("src/main/resources/data")).commit(changes);
+
+        // When
+        JsonRepository.clearTables();
+        IndexedEntityRepository restarted = new IndexedEntityRepository(StorageEngines.lsm());
+
+        // Then: 예전 키의 항목은 남아 있어도 결과에 섞이지 않음
+        assertEquals(List.of(entity.getId()), restarted.findByName("After").stream().map(TestEntity::getId).toList());
+        assertTrue(restarted.findByName("Before").isEmpty());
+    }
+
+    @Test
+    @DisplayName("lsm 엔진: WAL 기록이 실패하면 저장이 실패하고, 기록되지 않은 값과 인덱스는 조회되지 않음")
+    void testLsmWalFailureRollsBackStagedChanges() {
+        // Given
+        IndexedEntityRepository lsmRepository = new IndexedEntityRepository(StorageEngines.lsm());
+        TestEntity kept = lsmRepository.save(new TestEntity("Kept", day(1)));
+        LsmStore store = LsmStore.open(Paths.get(LSM_DIRECTORY));
+
+        // When: 디스크 오류 중 수정 + 추가
+        store.failWalWrites(new IOException("디스크 오류"));
+        kept.setName("Changed");
+        assertThrows(RuntimeException.class, () -> lsmRepository.save(kept));
+        assertThrows(RuntimeException.class, () -> lsmRepository.save(new TestEntity("Lost", day(2))));
+        store.failWalWrites(null);
+
+        // Then: 확정된 값만 보이고, 복구 후 저장은 정상
+        assertEquals("Kept", lsmRepository.findById(kept.getId()).orElseThrow().getName());
+        assertEquals(1, lsmRepository.findByName("Kept").size());
+        assertTrue(lsmRepository.findByName("Changed").isEmpty());
+        assertTrue(lsmRepository.findByName("Lost").isEmpty());
+        assertEquals(1, lsmRepository.findAll().size());
+
+        lsmRepository.save(new TestEntity("Next", day(3)));
+        JsonRepository.clearTables();
+        IndexedEntityRepository reopened = new IndexedEntityRepository(StorageEngines.lsm());
+        assertEquals(List.of("Kept", "Next"), reopened.findAll().stream().map(TestEntity::getName).toList());
+        assertTrue(reopened.findByName("Lost").isEmpty());
+    }
+
+    @Test
+    @DisplayName("엔진 이름으로 선택")
+    void testStorageEngineFromName() {
+        assertEquals("memory", StorageEngines.fromName("MEMORY").getName());
+        assertFalse(StorageEngines.fromName("memory").isDurable());
+        assertSame(StorageEngines.journal(), StorageEngines.fromName("journal"));
+        assertTrue(StorageEngines.fromName("binary").isDurable());
+        assertSame(StorageEngines.lsm(), StorageEngines.fromName("LSM"));
+        assertThrows(IllegalArgumentException.class, () -> StorageEngines.fromName("rocksdb"));
+    }
+
+    private static LocalDateTime day(int dayOfMonth) {
+        return LocalDateTime.of(2026, 1, dayOfMonth, 0, 0);
+    }
+
+    private static List<Integer> days(List<TestEntity> entities) {
+        return entities.stream().map(entity -> entity.getCreatedAt().getDayOfMonth()).toList();
+    }
+
     // 테스트용 엔티티
     static class TestEntity {
         private Long id;
@@ -116,6 +928,17 @@ class JsonRepositoryTest {
     }
 
     // 테스트용 Repository
+    // 저장소 단위 테스트용 단순 엔티티 (기본 Gson으로 직렬화)
+    static class Row {
+        Long id;
+        String name;
+
+        Row(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
     static class TestEntityRepository extends JsonRepository<TestEntity> {
         @Override
         protected String getFileName() {
@@ -136,5 +959,123 @@ class JsonRepositoryTest {
         protected void setId(TestEntity entity, Long id) {
             entity.setId(id);
         }
+
+        @Override
+        protected Map<String, Function<TestEntity, ?>> getIndexes() {
+            return Map.of("name", TestEntity::getName);
+        }
+
+        List<TestEntity> findByName(String name) {
+            return findByIndex("name", name);
+        }
+    }
+
+    // 테스트용 바이너리 형식 Repository
+    static class BinaryEntityRepository extends TestEntityRepository {
+        @Override
+        protected String getFileName() {
+            return "test_binary_entities";
+        }
+
+        @Override
+        protected SnapshotFormat getSnapshotFormat() {
+            return SnapshotFormat.BINARY;
+        }
+    }
+
+    // 테스트용 샤드 Repository (이름 기준 4개 샤드)
+    static class ShardedEntityRepository extends TestEntityRepository {
+        @Override
+        protected String getFileName() {
+            return "test_sharded_entities";
+        }
+
+        @Override
+        protected String getShardIndex() {
+            return "name";
+        }
+
+        @Override
+        protected int getShardCount() {
+            return 4;
+        }
+    }
+
+    // 샤드 이전 테스트용 - 같은 파일명을 단일 파일로 사용
+    static class UnshardedEntityRepository extends ShardedEntityRepository {
+        @Override
+        protected int getShardCount() {
+            return 1;
+        }
+    }
+
+    // 테스트용 memory 엔진 Repository
+    static class MemoryEntityRepository extends TestEntityRepository {
+        private final StorageEngine engine;
+
+        MemoryEntityRepository(StorageEngine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        protected String getFileName() {
+            return "test_memory_entities";
+        }
+
+        @Override
+        protected StorageEngine getStorageEngine() {
+            return engine;
+        }
+    }
+
+    // 테스트용 엔진 지정 Repository (lsm 엔진과 가져오기 원본 file 엔진)
+    static class LsmEntityRepository extends MemoryEntityRepository {
+        LsmEntityRepository(StorageEngine engine) {
+            super(engine);
+        }
+
+        @Override
+        protected String getFileName() {
+            return "test_lsm_entities";
+        }
+    }
+
+    // 테스트용 복합 키 인덱스 Repository ((이름, 일) 키, 엔진 지정)
+    static class IndexedEntityRepository extends LsmEntityRepository {
+        IndexedEntityRepository(StorageEngine engine) {
+            super(engine);
+        }
+
+        @Override
+        protected Map<String, Function<TestEntity, ?>> getIndexes() {
+            return Map.of("name", TestEntity::getName,
+                    "nameDay", entity -> List.of(entity.getName(), entity.getCreatedAt().getDayOfMonth()));
+        }
+    }
+
+    // 테스트용 그룹 커밋 대기 Repository (같은 파일, 저장 후 300ms 뒤에 기록)
+    static class SlowCommitEntityRepository extends TestEntityRepository {
+        @Override
+        protected long getGroupCommitWindowMillis() {
+            return 300L;
+        }
+    }
+
+    // 테스트용 저널 모드 Repository (압축 임계치 3)
+    static class JournalEntityRepository extends TestEntityRepository {
+        @Override
+        protected String getFileName() {
+            return "test_journal_entities";
+        }
+
+        @Override
+        protected StorageMode getStorageMode() {
+            return StorageMode.JOURNAL;
+        }
+
+        @Override
+        protected int getCompactionThreshold() {
+            return 3;
+        }
     }
-}
\ No newline at end of file
+}
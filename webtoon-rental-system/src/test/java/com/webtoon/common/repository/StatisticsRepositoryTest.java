@@ -0,0 +1,79 @@
+package com.webtoon.common.repository;
+
+import com.webtoon.domain.Statistics;
+import com.webtoon.repository.JsonStatisticsRepository;
+import com.webtoon.service.StatisticsService;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonStatisticsRepository 영속화 테스트
+ * 주의: 테스트 파일 경로는 src/main/resources/data/statistics.* 입니다.
+ * 이 테스트는 실행 전후로 해당 파일을 삭제(초기화)합니다.
+ */
+class StatisticsRepositoryTest {
+
+    private static final String[] DATA_FILES = {
+            "src/main/resources/data/statistics.json",
+            "src/main/resources/data/statistics.journal",
+            "src/main/resources/data/statistics.seq"
+    };
+
+    @BeforeEach
+    void setUp() {
+        deleteFiles();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFiles();
+    }
+
+    private void deleteFiles() {
+        JsonRepository.clearTables();
+        for (String path : DATA_FILES) {
+            //noinspection ResultOfMethodCallIgnored
+            new File(path).delete();
+        }
+    }
+
+    @Test
+    @DisplayName("조회수/회차 수 변경이 재시작 후에도 유지됨")
+    void statisticsSurviveRestart() {
+        // Given
+        StatisticsService service = new StatisticsService(new JsonStatisticsRepository());
+        service.onEpisodeCreated(7L);
+        service.onEpisodeCreated(7L);
+        service.onViewIncreased(7L);
+        service.onViewIncreased(7L);
+        service.onViewIncreased(7L);
+        service.onEpisodeDeleted(7L);
+
+        // When: 재시작
+        JsonRepository.clearTables();
+        StatisticsService restarted = new StatisticsService(new JsonStatisticsRepository());
+
+        // Then
+        assertEquals(1, restarted.getEpisodeCount(7L));
+        assertEquals(3L, restarted.getTotalViews(7L));
+    }
+
+    @Test
+    @DisplayName("웹툰 ID가 그대로 엔티티 ID로 저장됨")
+    void webtoonIdIsEntityId() {
+        JsonStatisticsRepository repository = new JsonStatisticsRepository();
+        repository.save(new Statistics(42L, 3, 100L));
+
+        JsonRepository.clearTables();
+        Statistics found = new JsonStatisticsRepository().findByWebtoonId(42L).orElse(null);
+
+        assertNotNull(found);
+        assertEquals(42L, found.getWebtoonId());
+        assertEquals(3, found.getEpisodeCount());
+        assertEquals(100L, found.getTotalViews());
+        assertTrue(new JsonStatisticsRepository().findByWebtoonId(1L).isEmpty());
+    }
+}
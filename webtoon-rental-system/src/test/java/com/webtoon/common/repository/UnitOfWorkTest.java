@@ -0,0 +1,293 @@
+package com.webtoon.common.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UnitOfWork (여러 Repository에 걸친 트랜잭션) 테스트
+ */
+class UnitOfWorkTest {
+
+    private static final Path DATA_DIR = Paths.get("src/main/resources/data");
+
+    private JsonRepositoryTest.TestEntityRepository repository;
+    private JsonRepositoryTest.JournalEntityRepository journalRepository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JsonRepositoryTest.TestEntityRepository();
+        journalRepository = new JsonRepositoryTest.JournalEntityRepository();
+        new File("src/main/resources/data/test_entities.json").delete();
+        new File("src/main/resources/data/test_journal_entities.json").delete();
+        new File("src/main/resources/data/test_journal_entities.journal").delete();
+        new File("src/main/resources/data/transactions.log").delete();
+        File[] shardFiles = new File("src/main/resources/data")
+                .listFiles((dir, name) -> name.startsWith("test_sharded_entities"));
+        if (shardFiles != null) {
+            for (File shardFile : shardFiles) {
+                shardFile.delete();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("commit 시 두 Repository의 변경이 함께 저장됨")
+    void commitAppliesAllChanges() {
+        // Given
+        JsonRepositoryTest.TestEntity entity = new JsonRepositoryTest.TestEntity("A", LocalDateTime.now());
+        JsonRepositoryTest.TestEntity journalEntity = new JsonRepositoryTest.TestEntity("B", LocalDateTime.now());
+
+        // When
+        try (UnitOfWork uow = UnitOfWork.begin()) {
+            repository.save(entity);
+            journalRepository.save(journalEntity);
+            // commit 전에는 반영되지 않음
+            assertTrue(repository.findAll().isEmpty());
+            uow.commit();
+        }
+
+        // Then
+        assertFalse(TransactionLog.of(DATA_DIR).hasActive());
+        JsonRepository.clearTables();
+        assertEquals(1, new JsonRepositoryTest.TestEntityRepository().findAll().size());
+        assertEquals(1, new JsonRepositoryTest.JournalEntityRepository().findAll().size());
+    }
+
+    @Test
+    @DisplayName("commit 없이 종료되면 변경이 버려짐")
+    void closeWithoutCommitDiscardsChanges() {
+        // When
+        try (UnitOfWork uow = UnitOfWork.begin()) {
+            repository.save(new JsonRepositoryTest.TestEntity("A", LocalDateTime.now()));
+            journalRepository.save(new JsonRepositoryTest.TestEntity("B", LocalDateTime.now()));
+        }
+
+        // Then
+        assertTrue(repository.findAll().isEmpty());
+        assertTrue(journalRepository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("반영 도중 종료되어 남은 트랜잭션 로그는 다음 시작 때 복구됨")
+    void recoverFromTransactionLog() {
+        // Given - 커밋 지점(로그 기록)까지만 진행된 상태
+        repository.save(new JsonRepositoryTest.TestEntity("A", LocalDateTime.now()));
+        JsonObject data = new JsonObject();
+        data.addProperty("id", 2L);
+        data.addProperty("name", "B");
+        JsonObject put = EntityJournal.put(2L, data);
+        put.addProperty("file", "test_entities");
+        JsonObject delete = EntityJournal.delete(1L);
+        delete.addProperty("file", "test_entities");
+        JsonArray changes = new JsonArray();
+        changes.add(put);
+        changes.add(delete);
+        TransactionLog.of(DATA_DIR).commit(changes);
+
+        // When
+        JsonRepository.clearTables();
+        JsonRepositoryTest.TestEntityRepository restarted = new JsonRepositoryTest.TestEntityRepository();
+
+        // Then
+        assertFalse(restarted.findById(1L).isPresent());
+        assertEquals("B", restarted.findById(2L).orElseThrow().getName());
+        assertFalse(new File("src/main/resources/data/transactions.log").exists());
+    }
+
+    @Test
+    @DisplayName("완료 표시가 남은 트랜잭션은 다음 시작 때 다시 적용하지 않음")
+    void completedTransactionNotReapplied() {
+        // Given: 커밋 후 완료된 트랜잭션이 로그에 남은 상태에서 같은 엔티티를 다시 수정
+        JsonRepositoryTest.TestEntity entity = new JsonRepositoryTest.TestEntity("A", LocalDateTime.now());
+        try (UnitOfWork uow = UnitOfWork.begin()) {
+            repository.save(entity);
+            uow.commit();
+        }
+        entity.setName("B");
+        repository.save(entity);
+
+        // When
+        JsonRepository.clearTables();
+        JsonRepositoryTest.TestEntityRepository restarted = new JsonRepositoryTest.TestEntityRepository();
+
+        // Then
+        assertEquals("B", restarted.findById(entity.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("끝까지 기록된 줄이 손상된 트랜잭션 로그는 건너뛰지 않고 예외")
+    void damagedTransactionLogFailsRecovery() throws Exception {
+        // Given
+        Files.writeString(DATA_DIR.resolve(TransactionLog.FILE_NAME), "{\"tx\":1,\"changes\n");
+
+        // When
+        JsonRepository.clearTables();
+
+        // Then
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new JsonRepositoryTest.TestEntityRepository().findAll());
+        assertTrue(e.getMessage().contains("트랜잭션 로그 손상"));
+        new File("src/main/resources/data/transactions.log").delete();
+        JsonRepository.clearTables();
+    }
+
+    @Test
+    @DisplayName("서로 다른 독자(샤드)의 트랜잭션은 서로 기다리지 않고 동시에 커밋됨")
+    void commitsOnDifferentTablesRunConcurrently() throws Exception {
+        // Given: 이름(독자 키)으로 4개 샤드에 나누는 Repository, "A"의 샤드는 파일 기록에서 멈춤
+        // ("A" → 1번 샤드, "B" → 2번 샤드)
+        GatedEngine engine = new GatedEngine("test_sharded_entities-1");
+        GatedShardedRepository sharded = new GatedShardedRepository(engine);
+        assertTrue(sharded.findAll().isEmpty());
+
+        // When: A의 커밋이 파일 기록을 기다리는 동안 B가 커밋
+        CompletableFuture<Void> commitA = CompletableFuture.runAsync(() -> {
+            try (UnitOfWork uow = UnitOfWork.begin()) {
+                sharded.save(new JsonRepositoryTest.TestEntity("A", LocalDateTime.now()));
+                uow.commit();
+            }
+        });
+        assertTrue(engine.entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> commitB = CompletableFuture.runAsync(() -> {
+            try (UnitOfWork uow = UnitOfWork.begin()) {
+                sharded.save(new JsonRepositoryTest.TestEntity("B", LocalDateTime.now()));
+                uow.commit();
+            }
+        });
+
+        // Then: B는 A를 기다리지 않고 끝나고, A는 기록이 풀린 뒤에 끝남
+        try {
+            commitB.get(5, TimeUnit.SECONDS);
+            assertFalse(commitA.isDone());
+        } finally {
+            engine.gate.countDown();
+        }
+        commitA.get(5, TimeUnit.SECONDS);
+
+        JsonRepository.clearTables();
+        List<String> names = new JsonRepositoryTest.ShardedEntityRepository().findAll().stream()
+                .map(JsonRepositoryTest.TestEntity::getName)
+                .sorted()
+                .toList();
+        assertEquals(List.of("A", "B"), names);
+    }
+
+    // 테스트용 샤드 Repository (엔진 지정)
+    static class GatedShardedRepository extends JsonRepositoryTest.ShardedEntityRepository {
+        private final StorageEngine engine;
+
+        GatedShardedRepository(StorageEngine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        protected StorageEngine getStorageEngine() {
+            return engine;
+        }
+    }
+
+    /**
+     * 지정한 테이블의 파일 기록을 gate가 열릴 때까지 멈추는 엔진 (나머지는 json 엔진 그대로)
+     */
+    static class GatedEngine implements StorageEngine {
+        private final StorageEngine delegate = StorageEngines.json();
+        private final String gatedTable;
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+
+        GatedEngine(String gatedTable) {
+            this.gatedTable = gatedTable;
+        }
+
+        @Override
+        public String getName() {
+            return "gated";
+        }
+
+        @Override
+        public boolean isDurable() {
+            return true;
+        }
+
+        @Override
+        public Path getDataDirectory() {
+            return delegate.getDataDirectory();
+        }
+
+        @Override
+        public <T> TableStore<T> openTable(TableSpec<T> spec) {
+            TableStore<T> store = delegate.openTable(spec);
+            if (!spec.name().equals(gatedTable)) {
+                return store;
+            }
+            return new TableStore<>() {
+                @Override
+                public String getName() {
+                    return store.getName();
+                }
+
+                @Override
+                public boolean exists() {
+                    return store.exists();
+                }
+
+                @Override
+                public long load(Map<Long, T> rows) {
+                    return store.load(rows);
+                }
+
+                @Override
+                public boolean write(List<JsonObject> records, Collection<T> current) {
+                    entered.countDown();
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return store.write(records, current);
+                }
+
+                @Override
+                public boolean compact(Collection<T> current) {
+                    return store.compact(current);
+                }
+
+                @Override
+                public boolean isStale() {
+                    return store.isStale();
+                }
+
+                @Override
+                public void markSynced() {
+                    store.markSynced();
+                }
+
+                @Override
+                public void drop() {
+                    store.drop();
+                }
+            };
+        }
+
+        @Override
+        public <T> ArchiveStore<T> openArchive(String name, Gson gson, Class<T> entityClass) {
+            return delegate.openArchive(name, gson, entityClass);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.webtoon.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LongHashSet / LongLongHashMap 테스트
+ * - 추가/삭제를 섞어도 HashSet/HashMap과 같은 결과인지 검증 (삭제 시 당겨 채우기 포함)
+ */
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("무작위 추가/삭제 후에도 HashMap과 같은 내용")
+    void testMatchesHashMap() {
+        // Given: 좁은 키 범위로 충돌과 삭제를 자주 일으킴
+        Random random = new Random(42);
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(512) - 8;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                long value = random.nextLong();
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), map.size());
+        for (long key = -8; key < 504; key++) {
+            assertEquals(expected.getOrDefault(key, -1L), map.get(key, -1L));
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+        }
+        Map<Long, Long> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    @DisplayName("LongHashSet은 0과 중복을 포함해 HashSet과 같은 결과")
+    void testLongHashSet() {
+        // Given
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet(2);
+        Set<Long> expected = new HashSet<>();
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            long value = random.nextInt(2_000);
+            assertEquals(expected.add(value), set.add(value));
+        }
+
+        // Then
+        assertEquals(expected.size(), set.size());
+        for (long value = -1; value <= 2_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.webtoon.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PeriodicTask 테스트
+ * - 실패가 출력 없이 건수/마지막 예외/처리기로 전달되고, 실패 후에도 주기 실행이 계속되는지 검증
+ */
+class PeriodicTaskTest {
+
+    @Test
+    @DisplayName("실행이 실패하면 건수와 마지막 예외를 남기고 처리기에 넘긴 뒤 다음 주기에 다시 실행")
+    void testFailureReportedAndRetried() throws Exception {
+        // Given: 처음 두 번은 실패하고 세 번째에 성공하는 작업
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch succeeded = new CountDownLatch(1);
+        List<RuntimeException> reported = new CopyOnWriteArrayList<>();
+        PeriodicTask task = new PeriodicTask("test-task", () -> {
+            int run = runs.incrementAndGet();
+            if (run <= 2) {
+                throw new IllegalStateException("실패 " + run);
+            }
+            succeeded.countDown();
+        }, reported::add);
+
+        // When
+        try (task) {
+            task.start(Duration.ofMillis(10));
+            assertTrue(succeeded.await(5, TimeUnit.SECONDS));
+        }
+
+        // Then
+        assertEquals(2, task.getFailureCount());
+        assertEquals("실패 2", task.getLastFailure().getMessage());
+        assertEquals(List.of("실패 1", "실패 2"), reported.stream().map(RuntimeException::getMessage).toList());
+    }
+
+    @Test
+    @DisplayName("실패 처리기가 예외를 던져도 주기 실행은 멈추지 않음")
+    void testFailingHandlerDoesNotStopSchedule() throws Exception {
+        // Given
+        CountDownLatch runs = new CountDownLatch(3);
+        PeriodicTask task = new PeriodicTask("test-task", () -> {
+            runs.countDown();
+            throw new IllegalStateException("작업 실패");
+        }, e -> {
+            throw new IllegalStateException("처리기 실패");
+        });
+
+        // When / Then
+        try (task) {
+            task.start(Duration.ofMillis(10));
+            assertTrue(runs.await(5, TimeUnit.SECONDS));
+        }
+        assertTrue(task.getFailureCount() >= 2);
+        assertNull(new PeriodicTask("idle", () -> { }).getLastFailure());
+    }
+}
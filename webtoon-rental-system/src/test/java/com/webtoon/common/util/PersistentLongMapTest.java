@@ -0,0 +1,104 @@
+package com.webtoon.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PersistentLongMap 테스트
+ * - 무작위 추가/삭제 결과가 TreeMap(부호 없는 순서)과 같은지, 이전 버전이 바뀌지 않는지 검증
+ */
+class PersistentLongMapTest {
+
+    @Test
+    @DisplayName("무작위 추가/삭제 후에도 TreeMap과 같은 내용/순서, 이전 버전은 그대로")
+    void testMatchesTreeMapAndKeepsVersions() {
+        // Given: 작은 키와 아주 큰 키(음수 = 부호 없는 최댓값 쪽)를 섞음
+        Random random = new Random(7);
+        PersistentLongMap<Long> map = PersistentLongMap.empty();
+        TreeMap<Long, Long> expected = new TreeMap<>(Long::compareUnsigned);
+        List<PersistentLongMap<Long>> versions = new ArrayList<>();
+        List<TreeMap<Long, Long>> expectedVersions = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(10) == 0 ? random.nextLong() : random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                map = map.remove(key);
+                expected.remove(key);
+            } else {
+                long value = random.nextLong();
+                map = map.put(key, value);
+                expected.put(key, value);
+            }
+            if (i % 2_000 == 0) {
+                versions.add(map);
+                expectedVersions.add(new TreeMap<>(expected));
+            }
+        }
+
+        // Then
+        assertContents(expected, map);
+        for (int i = 0; i < versions.size(); i++) {
+            assertContents(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Builder로 여러 건을 바꿔도 원본은 그대로, 공개 후에는 고칠 수 없음")
+    void testBuilder() {
+        // Given
+        PersistentLongMap<String> base = PersistentLongMap.<String>empty().put(1, "a").put(2, "b");
+
+        // When
+        PersistentLongMap.Builder<String> builder = base.builder();
+        for (long key = 3; key <= 1_000; key++) {
+            builder.put(key, "v" + key);
+        }
+        builder.remove(1).put(2, "B");
+        PersistentLongMap<String> built = builder.build();
+
+        // Then
+        assertEquals(2, base.size());
+        assertEquals("a", base.get(1));
+        assertEquals("b", base.get(2));
+        assertEquals(999, built.size());
+        assertNull(built.get(1));
+        assertEquals("B", built.get(2));
+        assertEquals("v1000", built.get(1_000));
+        assertThrows(IllegalStateException.class, () -> builder.put(5, "x"));
+
+        // 전부 지우면 빈 맵
+        PersistentLongMap.Builder<String> clearing = built.builder();
+        for (long key = 2; key <= 1_000; key++) {
+            clearing.remove(key);
+        }
+        assertTrue(clearing.build().isEmpty());
+        assertEquals(999, built.size());
+    }
+
+    private static void assertContents(TreeMap<Long, Long> expected, PersistentLongMap<Long> map) {
+        assertEquals(expected.size(), map.size());
+        Iterator<Long> values = map.valueIterator();
+        PrimitiveIterator.OfLong keys = map.keyIterator();
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+            assertEquals(entry.getKey(), keys.nextLong());
+            assertEquals(entry.getValue(), values.next());
+        }
+        assertFalse(keys.hasNext());
+        assertFalse(values.hasNext());
+        List<Long> visited = new ArrayList<>();
+        map.forEach((key, value) -> visited.add(key));
+        assertEquals(new ArrayList<>(expected.keySet()), visited);
+    }
+}
@@ -0,0 +1,59 @@
+package com.webtoon.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StripedLock 테스트
+ * - 같은 키는 기다리고, 다른 칸의 키는 막히지 않는지 검증
+ */
+class StripedLockTest {
+
+    @Test
+    @DisplayName("한 키를 잡고 있는 동안 다른 칸의 키는 바로 잡히고 같은 키는 풀릴 때까지 대기")
+    void testDifferentStripesDoNotBlock() throws Exception {
+        // Given: 1L과 다른 칸에 있는 키
+        StripedLock locks = new StripedLock(60);
+        assertEquals(64, locks.stripeCount());
+        long other = 2L;
+        while (locks.stripeOf(other) == locks.stripeOf(1L)) {
+            other++;
+        }
+        long otherKey = other;
+
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> locks.locked(1L, () -> {
+            held.countDown();
+            await(release);
+        }));
+        assertTrue(held.await(5, TimeUnit.SECONDS));
+
+        // When / Then: 다른 칸은 바로 진행
+        CompletableFuture<Boolean> otherReader = CompletableFuture.supplyAsync(
+                () -> locks.locked(otherKey, () -> locks.isHeldByCurrentThread(otherKey)));
+        assertTrue(otherReader.get(5, TimeUnit.SECONDS));
+
+        // 같은 키는 풀릴 때까지 대기
+        CompletableFuture<Boolean> sameReader = CompletableFuture.supplyAsync(() -> locks.locked(1L, () -> true));
+        Thread.sleep(100);
+        assertFalse(sameReader.isDone());
+        release.countDown();
+        assertTrue(sameReader.get(5, TimeUnit.SECONDS));
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
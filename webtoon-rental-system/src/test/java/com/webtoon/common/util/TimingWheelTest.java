@@ -0,0 +1,66 @@
+package com.webtoon.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimingWheel 테스트
+ * - 윗단계로 올라간 항목도 정확히 만료 시각이 지난 틱에서 나오는지 검증
+ */
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("여러 단계에 걸친 예약이 만료 시각이 지난 첫 틱에서만 나옴")
+    void testExpiresAtDeadline() {
+        // Given: 틱 10ms, 칸 4개 → 16ms, 64ms, 256ms 넘는 예약은 윗단계로
+        long start = 1_000;
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 4, start);
+        Random random = new Random(3);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = start + random.nextInt(5_000) - 20;
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        // When: 7ms씩 진행하며 나온 항목 확인
+        int fired = 0;
+        for (long now = start; now <= start + 5_100; now += 7) {
+            for (long deadline : wheel.advance(now)) {
+                // 만료 시각이 지났고, 직전 진행 시점에는 아직 틱이 오지 않았어야 함
+                assertTrue(deadline <= now, "너무 일찍 만료: " + deadline + " at " + now);
+                assertTrue(deadline > now - 7 - 10, "너무 늦게 만료: " + deadline + " at " + now);
+                fired++;
+            }
+        }
+
+        // Then
+        assertEquals(deadlines.size(), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("비어 있는 동안 멀리 건너뛴 뒤에도 새 예약이 정상 만료")
+    void testSkipWhenEmpty() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 64, 0);
+        wheel.schedule(500, "past");
+        assertEquals(List.of("past"), wheel.advance(1_000));
+
+        // When: 하루 뒤로 이동 후 예약
+        long later = 86_400_000L;
+        assertTrue(wheel.advance(later).isEmpty());
+        wheel.schedule(later + 600_000, "ten-minutes");
+
+        // Then
+        assertTrue(wheel.advance(later + 599_000).isEmpty());
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("ten-minutes"), wheel.advance(later + 600_000));
+    }
+}
@@ -2,9 +2,13 @@ package com.webtoon.service;
 
 import com.webtoon.domain.Reader;
 import com.webtoon.domain.Episode;
+import com.webtoon.domain.EpisodeAccessStates;
+import com.webtoon.domain.Purchase;
+import com.webtoon.domain.Rental;
 import com.webtoon.pattern.AccessStrategy;
 import com.webtoon.pattern.RentalAccessStrategy;
 import com.webtoon.pattern.PurchaseAccessStrategy;
+import com.webtoon.repository.EntitlementIndex;
 import com.webtoon.repository.ReaderRepository;
 import com.webtoon.common.repository.InMemoryRentalRepository;
 import com.webtoon.common.repository.InMemoryPurchaseRepository;
@@ -16,6 +20,12 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -113,4 +123,189 @@ class AccessServiceTest {
         assertFalse(accessService.grantAccess(reader, ep, rental));
         assertFalse(accessService.grantAccess(reader, ep, purchase));
     }
+
+    @Test
+    @DisplayName("열람 권한 색인: 먼저 검사한 독자도 이후 대여/구매가 바로 반영되고, 만료는 검사 시각 기준")
+    void entitlementIndex_tracksGrantsAfterFirstCheck() {
+        // Given: 다른 회차 이력이 있는 독자를 먼저 검사해 색인에 올림
+        for (long id = 100; id < 150; id++) {
+            purchaseRepo.save(new Purchase(null, reader.getId(), id, 100, LocalDateTime.now(baseClock)));
+        }
+        assertFalse(accessService.canAccess(reader, ep));
+        assertTrue(accessService.canAccess(reader, episode(120L)));
+
+        // When: 대여
+        assertTrue(accessService.grantAccess(reader, ep, new RentalAccessStrategy(rentalRepo)));
+
+        // Then: 같은 색인을 쓰는 서비스에서 시각에 따라 만료 판단
+        assertTrue(accessService.canAccess(reader, ep));
+        assertTrue(accessService.canAccess(reader, ep, new RentalAccessStrategy(rentalRepo)));
+        assertFalse(accessService.canAccess(reader, ep, new PurchaseAccessStrategy(purchaseRepo)));
+
+        // When: 대여 → 구매 전환 후에는 만료와 무관하게 접근 가능
+        assertTrue(accessService.grantAccess(reader, ep, new PurchaseAccessStrategy(purchaseRepo)));
+        assertEquals(900, readerRepo.findById(reader.getId()).orElseThrow().getPoints());
+
+        AccessService later = new AccessService(rentalRepo, purchaseRepo, readerRepo,
+                Clock.offset(baseClock, Duration.ofMinutes(11)));
+        assertTrue(later.canAccess(reader, ep));
+    }
+
+    @Test
+    @DisplayName("열람 권한 색인을 공유하면 다른 서비스가 부여한 대여도 보이고 만료 후에는 접근 불가")
+    void entitlementIndex_sharedBetweenServices() {
+        // Given
+        EntitlementIndex index = new EntitlementIndex(rentalRepo, purchaseRepo);
+        AccessService granting = new AccessService(rentalRepo, purchaseRepo, readerRepo, baseClock, index);
+        AccessService after9 = new AccessService(rentalRepo, purchaseRepo, readerRepo,
+                Clock.offset(baseClock, Duration.ofMinutes(9)), index);
+        AccessService after11 = new AccessService(rentalRepo, purchaseRepo, readerRepo,
+                Clock.offset(baseClock, Duration.ofMinutes(11)), index);
+        assertFalse(after9.canAccess(reader, ep));
+
+        // When
+        granting.grantAccess(reader, ep, new RentalAccessStrategy(rentalRepo));
+
+        // Then
+        assertTrue(after9.canAccess(reader, ep));
+        assertFalse(after11.canAccess(reader, ep));
+        assertEquals(1, index.size());
+
+        // 재대여하면 더 늦은 만료 시각으로 갱신
+        Rental renewed = new Rental(null, reader.getId(), ep.getId(), 50,
+                LocalDateTime.now(baseClock).plusMinutes(5), LocalDateTime.now(baseClock).plusMinutes(15), baseClock);
+        rentalRepo.save(renewed);
+        index.onRented(renewed);
+        assertTrue(after11.canAccess(reader, ep));
+    }
+
+    @Test
+    @DisplayName("열람 권한 색인을 읽는 도중 커밋된 구매도 놓치지 않음")
+    void entitlementIndex_keepsPurchaseCommittedDuringLoad() {
+        // Given: 구매 목록을 읽은 직후 다른 요청이 구매를 커밋하고 이벤트를 보냄
+        EntitlementIndex[] holder = new EntitlementIndex[1];
+        InMemoryPurchaseRepository racingRepo = new InMemoryPurchaseRepository() {
+            private boolean raced;
+
+            @Override
+            public List<Purchase> findByReaderId(Long readerId) {
+                List<Purchase> snapshot = super.findByReaderId(readerId);
+                if (!raced) {
+                    raced = true;
+                    Purchase committed = save(new Purchase(null, readerId, ep.getId(), 100,
+                            LocalDateTime.now(baseClock)));
+                    holder[0].onPurchased(committed);
+                }
+                return snapshot;
+            }
+        };
+        holder[0] = new EntitlementIndex(rentalRepo, racingRepo);
+
+        // When & Then: 이벤트를 놓친 첫 읽기는 버리고 다시 읽음
+        assertTrue(holder[0].isPurchased(reader.getId(), ep.getId()));
+        assertEquals(1, holder[0].size());
+        assertEquals(0, holder[0].loadingCount());
+    }
+
+    @Test
+    @DisplayName("열람 권한 색인: 무효화/이벤트가 많아도 읽는 중이 아닌 독자의 변경 번호는 남지 않음")
+    void entitlementIndex_doesNotRetainVersionsAfterInvalidation() {
+        // Given
+        EntitlementIndex index = new EntitlementIndex(rentalRepo, purchaseRepo);
+        assertFalse(index.isPurchased(reader.getId(), ep.getId()));
+
+        // When: 여러 독자 무효화 + 색인에 없는 독자의 이벤트
+        for (long readerId = 1; readerId <= 1000; readerId++) {
+            index.invalidate(readerId);
+            index.onPurchased(new Purchase(null, readerId + 1000, ep.getId(), 100, LocalDateTime.now(baseClock)));
+        }
+
+        // Then
+        assertEquals(0, index.loadingCount());
+        assertFalse(index.isPurchased(reader.getId(), ep.getId()));
+        assertEquals(0, index.loadingCount());
+    }
+
+    @Test
+    @DisplayName("회차 목록 일괄 조회: 구매/대여 중(만료 시각)/없음을 목록 순서대로 반환")
+    void canAccessAll_returnsStatesInOrder() {
+        // Given: 300화 중 1화 구매, 2화 대여, 3화는 11분 전에 대여해 만료
+        List<Episode> episodes = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            episodes.add(episode(id));
+        }
+        LocalDateTime now = LocalDateTime.now(baseClock);
+        rentalRepo.save(new Rental(null, reader.getId(), 3L, 50, now.minusMinutes(11), now.minusMinutes(1), baseClock));
+        accessService.grantAccess(reader, episodes.get(0), new PurchaseAccessStrategy(purchaseRepo));
+        accessService.grantAccess(reader, episodes.get(1), new RentalAccessStrategy(rentalRepo));
+
+        // When
+        EpisodeAccessStates states = accessService.canAccessAll(reader, episodes);
+
+        // Then
+        assertEquals(300, states.size());
+        assertEquals(EpisodeAccessStates.State.PURCHASED, states.getState(0));
+        assertNull(states.getRentedUntil(0));
+        assertEquals(EpisodeAccessStates.State.RENTED, states.getState(1));
+        assertEquals(now.plusMinutes(10), states.getRentedUntil(1));
+        assertEquals(EpisodeAccessStates.State.NONE, states.getState(2));
+        for (int i = 0; i < states.size(); i++) {
+            assertEquals(accessService.canAccess(reader, episodes.get(i)), states.canAccess(i));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 독자의 동시 구매는 직렬화되어 포인트를 이중 사용하지 않음")
+    void concurrent_purchases_do_not_double_spend() throws Exception {
+        // Given: 1000P로 100P 회차 20개를 동시에 구매 시도 (같은 회차도 두 번씩)
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            Episode target = episode(id % 10 + 1);
+            results.add(executor.submit(() -> {
+                start.await();
+                return accessService.grantAccess(reader, target, slowPurchase());
+            }));
+        }
+
+        // When
+        start.countDown();
+        int granted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                granted++;
+            }
+        }
+        executor.shutdown();
+
+        // Then: 10개 회차를 한 번씩만 구매해 1000P 전부 사용, 두 번째 요청은 이미 구매로 통과
+        assertEquals(20, granted);
+        assertEquals(0, readerRepo.findById(reader.getId()).orElseThrow().getPoints());
+        assertEquals(10, purchaseRepo.findByReaderId(reader.getId()).size());
+    }
+
+    /**
+     * 포인트 차감 후 저장 전에 잠깐 멈춰 동시 요청이 끼어들 틈을 넓힌 구매 전략
+     */
+    private AccessStrategy slowPurchase() {
+        return new PurchaseAccessStrategy(purchaseRepo) {
+            @Override
+            public Object execute(Reader reader, Episode episode, Clock clock) {
+                Object result = super.execute(reader, episode, clock);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return result;
+            }
+        };
+    }
+
+    private Episode episode(Long id) {
+        Episode episode = new Episode(1L, 1L, id.intValue(), "회차 " + id, "내용...", 50, 100);
+        episode.setId(id);
+        return episode;
+    }
 }
@@ -0,0 +1,95 @@
+package com.webtoon.service;
+
+import com.webtoon.domain.Notification;
+import com.webtoon.repository.NotificationRepository;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NotificationRetentionService 테스트
+ * - 보존 기간/독자별 최대 건수를 넘은 알림만 삭제되는지 검증
+ */
+class NotificationRetentionServiceTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-10T00:00:00Z"), ZoneId.of("UTC"));
+
+    private NotificationRepository notificationRepository;
+    private NotificationRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestDataFiles();
+        notificationRepository = new NotificationRepository();
+        retentionService = new NotificationRetentionService(notificationRepository, clock, Duration.ofDays(30), 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestDataFiles();
+    }
+
+    private void deleteTestDataFiles() {
+        String[] files = {"notifications.json", "notifications.journal", "notifications.seq"};
+        for (String file : files) {
+            File f = new File("src/main/resources/data/" + file);
+            if (f.exists()) {
+                f.delete();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 알림 삭제")
+    void purgeByAge() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(clock);
+        Notification old = notification(1L, now.minusDays(31));
+        Notification recent = notification(1L, now.minusDays(1));
+
+        // When
+        int purged = retentionService.purge();
+
+        // Then
+        assertEquals(1, purged);
+        assertTrue(notificationRepository.findById(old.getId()).isEmpty());
+        assertTrue(notificationRepository.findById(recent.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("독자별 최신 N건만 남기고 나머지 삭제")
+    void purgeByCountPerReader() {
+        // Given: 독자 1은 5건, 독자 2는 2건
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (int i = 1; i <= 5; i++) {
+            notification(1L, now.minusHours(i));
+        }
+        notification(2L, now.minusHours(1));
+        notification(2L, now.minusHours(2));
+
+        // When
+        int purged = retentionService.purge();
+
+        // Then
+        assertEquals(2, purged);
+        List<Notification> kept = notificationRepository.findByReaderId(1L);
+        assertEquals(3, kept.size());
+        assertTrue(kept.stream().allMatch(n -> n.getCreatedAt().isAfter(now.minusHours(4))));
+        assertEquals(2, notificationRepository.findByReaderId(2L).size());
+        assertEquals(0, retentionService.purge());
+    }
+
+    private Notification notification(Long readerId, LocalDateTime createdAt) {
+        Notification notification = new Notification(null, readerId, 100L, "새 회차 알림");
+        notification.setCreatedAt(createdAt);
+        return notificationRepository.save(notification);
+    }
+}
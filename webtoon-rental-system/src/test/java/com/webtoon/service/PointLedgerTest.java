@@ -0,0 +1,178 @@
+package com.webtoon.service;
+
+import com.webtoon.common.repository.InMemoryPaymentHistoryRepository;
+import com.webtoon.common.repository.InMemoryPurchaseRepository;
+import com.webtoon.common.repository.InMemoryReaderRepository;
+import com.webtoon.common.repository.InMemoryRentalRepository;
+import com.webtoon.domain.Episode;
+import com.webtoon.domain.PointTransaction;
+import com.webtoon.domain.Reader;
+import com.webtoon.pattern.CreditCardPaymentStrategy;
+import com.webtoon.pattern.PurchaseAccessStrategy;
+import com.webtoon.pattern.RentalAccessStrategy;
+import com.webtoon.repository.EntitlementIndex;
+import com.webtoon.repository.PointLedger;
+import com.webtoon.repository.PointLedgerRepository;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointLedger 테스트
+ * - 충전/대여/구매가 원장 기록으로 남고 독자 정보는 다시 쓰지 않는지, 잔액이 원장 합과 같은지 검증
+ */
+class PointLedgerTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-10T00:00:00Z"), ZoneId.of("UTC"));
+
+    private PointLedgerRepository ledgerRepository;
+    private PointLedger ledger;
+    private CountingReaderRepository readerRepository;
+    private Reader reader;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestDataFiles();
+        ledgerRepository = new PointLedgerRepository();
+        ledger = new PointLedger(ledgerRepository, clock);
+        readerRepository = new CountingReaderRepository();
+
+        reader = new Reader("reader1", "1234", "독자A");   // 기본 1000P
+        reader.setId(1L);
+        readerRepository.save(reader);
+        ledger.attach(readerRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestDataFiles();
+    }
+
+    private void deleteTestDataFiles() {
+        String[] files = {"point_ledger.json", "point_ledger.journal", "point_ledger.seq"};
+        for (String file : files) {
+            File f = new File("src/main/resources/data/" + file);
+            if (f.exists()) {
+                f.delete();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("충전/대여/전환 차액이 원장에 추가되고 독자 정보는 다시 저장하지 않음")
+    void servicesAppendToLedger() {
+        // Given
+        InMemoryRentalRepository rentalRepository = new InMemoryRentalRepository();
+        InMemoryPurchaseRepository purchaseRepository = new InMemoryPurchaseRepository();
+        AccessService accessService = new AccessService(rentalRepository, purchaseRepository, readerRepository,
+                clock, new EntitlementIndex(rentalRepository, purchaseRepository), ledger);
+        PointService pointService = new PointService(new InMemoryPaymentHistoryRepository(), readerRepository,
+                clock, ledger);
+        Episode episode = new Episode(1L, 1L, 1, "1화", "내용...", 50, 100);
+        episode.setId(1L);
+        readerRepository.updates = 0;
+
+        // When
+        assertTrue(pointService.chargePoints(reader, 10_000, new CreditCardPaymentStrategy()));          // +1000
+        assertTrue(accessService.grantAccess(reader, episode, new RentalAccessStrategy(rentalRepository)));     // -50
+        assertTrue(accessService.grantAccess(reader, episode, new PurchaseAccessStrategy(purchaseRepository))); // -50 (차액)
+
+        // Then
+        assertEquals(0, readerRepository.updates);
+        assertEquals(1900, ledger.findBalance(1L).orElseThrow());
+        assertEquals(1900, readerRepository.findById(1L).orElseThrow().getPoints());
+        List<PointTransaction.Type> types = ledger.getHistory(1L).stream().map(PointTransaction::getType).toList();
+        assertEquals(List.of(PointTransaction.Type.OPENING, PointTransaction.Type.CHARGE,
+                PointTransaction.Type.RENT, PointTransaction.Type.UPGRADE), types);
+        assertTrue(ledger.getHistory(1L).stream().skip(1).allMatch(t -> t.getReferenceId() != null));
+
+        // 원장만으로 잔액 재구성
+        PointLedger rebuilt = new PointLedger(new PointLedgerRepository(), clock);
+        rebuilt.rebuild();
+        assertEquals(1900, rebuilt.findBalance(1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("잔액보다 큰 차감은 기록하지 않고, 동시 차감도 잔액이 음수가 되지 않음")
+    void debitNeverOverdraws() throws Exception {
+        // Given: 1000P
+        assertNull(ledger.debit(1L, 1_001, PointTransaction.Type.PURCHASE, null));
+        assertEquals(1, ledger.getHistory(1L).size());
+
+        // When: 30P씩 40번 동시 차감
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PointTransaction>> results = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return ledger.debit(1L, 30, PointTransaction.Type.RENT, null);
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<PointTransaction> result : results) {
+            if (result.get() != null) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // Then: 33번만 성공, 잔액 10P = 원장 합
+        assertEquals(33, succeeded);
+        assertEquals(10, ledger.findBalance(1L).orElseThrow());
+        assertEquals(10, ledger.getHistory(1L).stream().mapToInt(PointTransaction::getAmount).sum());
+    }
+
+    @Test
+    @DisplayName("처음 보는 독자를 동시에 조회해도 기초 잔액은 한 번만 기록")
+    void openingIsRecordedOnce() throws Exception {
+        // When: 원장에 없는 독자 2를 16개 스레드가 동시에 조회
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return ledger.balanceOf(2L, 500);
+            }));
+        }
+        start.countDown();
+        for (Future<Integer> result : results) {
+            assertEquals(500, result.get());
+        }
+        executor.shutdown();
+
+        // Then: OPENING 한 건, 다시 합산해도 500P
+        List<PointTransaction> history = ledger.getHistory(2L);
+        assertEquals(1, history.size());
+        assertEquals(PointTransaction.Type.OPENING, history.get(0).getType());
+        ledger.rebuild();
+        assertEquals(500, ledger.findBalance(2L).orElseThrow());
+    }
+
+    /**
+     * update 호출 횟수를 세는 독자 Repository
+     */
+    private static final class CountingReaderRepository extends InMemoryReaderRepository {
+
+        private int updates;
+
+        @Override
+        public void update(Reader entity) {
+            updates++;
+            super.update(entity);
+        }
+    }
+}
@@ -15,7 +15,12 @@ import java.time.ZoneId;
 
 import org.junit.jupiter.api.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -87,4 +92,38 @@ class PointServiceTest {
         assertFalse(ok, "정해진 금액 이외 입력은 거부되어야 함");
         assertEquals(0, reader.getPoints(), "포인트 변화 없어야 함");
     }
+
+    @Test
+    @DisplayName("같은 독자에게 동시에 충전해도 적립이 누락되지 않음")
+    void concurrent_charges_are_not_lost() throws Exception {
+        // Given
+        int threads = 8;
+        int chargesPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When: 각자 자기 Reader 인스턴스로 1,000원(100P)씩 충전
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                Reader caller = new Reader("reader1", "1234", "닉");
+                caller.setId(reader.getId());
+                for (int i = 0; i < chargesPerThread; i++) {
+                    assertTrue(pointService.chargePoints(caller, 1_000, new CreditCardPaymentStrategy()));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        int expected = threads * chargesPerThread * 100;
+        assertEquals(expected, readerRepo.findById(reader.getId()).orElseThrow().getPoints());
+        assertEquals(threads * chargesPerThread, pointService.getPaymentHistory(reader.getId()).size());
+    }
 }
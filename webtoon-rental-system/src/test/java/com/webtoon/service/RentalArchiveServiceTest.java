@@ -0,0 +1,123 @@
+package com.webtoon.service;
+
+import com.webtoon.domain.Rental;
+import com.webtoon.repository.RentalRepository;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RentalArchiveService 테스트
+ * - 보관 기간이 지난 만료 대여만 보관 파일로 옮겨지는지 검증
+ */
+class RentalArchiveServiceTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-10T00:00:00Z"), ZoneId.of("UTC"));
+
+    private RentalRepository rentalRepository;
+    private RentalArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestDataFiles();
+        rentalRepository = new RentalRepository();
+        archiveService = new RentalArchiveService(rentalRepository, clock, Duration.ofDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestDataFiles();
+    }
+
+    private void deleteTestDataFiles() {
+        String[] files = {"rentals.json", "rentals.journal", "rentals.seq", "rentals.archive"};
+        for (String file : files) {
+            File f = new File("src/main/resources/data/" + file);
+            if (f.exists()) {
+                f.delete();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 만료 대여만 보관 파일로 이동")
+    void archiveExpiredRentals() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(clock);
+        Rental old = rental(1L, 10L, now.minusDays(3));
+        Rental recent = rental(1L, 11L, now.minusHours(1));
+        Rental active = rental(1L, 12L, now.plusMinutes(5));
+
+        // When
+        int archived = archiveService.archiveExpired();
+
+        // Then
+        assertEquals(1, archived);
+        List<Rental> remaining = rentalRepository.findByReaderId(1L);
+        assertEquals(2, remaining.size());
+        assertTrue(remaining.contains(recent));
+        assertTrue(remaining.contains(active));
+        assertTrue(rentalRepository.findById(old.getId()).isEmpty());
+
+        List<Rental> history = archiveService.getArchivedRentals(1L);
+        assertEquals(1, history.size());
+        assertEquals(old.getId(), history.get(0).getId());
+        assertEquals(10L, history.get(0).getEpisodeId());
+    }
+
+    @Test
+    @DisplayName("여러 번 보관해도 이전 보관 내용이 유지되고 중복되지 않음")
+    void archiveAccumulates() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(clock);
+        rental(1L, 10L, now.minusDays(3));
+        archiveService.archiveExpired();
+        rental(1L, 11L, now.minusDays(2));
+        rental(2L, 20L, now.minusDays(2));
+
+        // When
+        int archived = archiveService.archiveExpired();
+
+        // Then
+        assertEquals(2, archived);
+        assertEquals(0, archiveService.archiveExpired());
+        assertTrue(rentalRepository.findAll().isEmpty());
+        assertEquals(2, archiveService.getArchivedRentals(1L).size());
+        assertEquals(1, archiveService.getArchivedRentals(2L).size());
+    }
+
+    @Test
+    @DisplayName("보관 검사는 테이블에 남는 대여의 저장된 상태를 바꾸지 않음")
+    void archiveDoesNotTouchRemainingRows() {
+        // Given: 저장할 때는 진행 중이었지만 지금은 만료된 대여 (보관 기간 전 / 후)
+        LocalDateTime now = LocalDateTime.now(clock);
+        Clock earlier = Clock.offset(clock, Duration.ofDays(-5));
+        Rental recent = rentalRepository.save(
+                new Rental(null, 1L, 11L, 50, now.minusHours(2), now.minusHours(1), earlier));
+        Rental old = rentalRepository.save(
+                new Rental(null, 1L, 10L, 50, now.minusDays(3).minusMinutes(10), now.minusDays(3), earlier));
+
+        // When
+        int archived = archiveService.archiveExpired();
+
+        // Then: 보관 기간이 지난 대여만 옮겨지고, 남은 대여의 행은 저장된 그대로
+        assertEquals(1, archived);
+        assertTrue(rentalRepository.findById(old.getId()).isEmpty());
+        Rental stored = rentalRepository.findById(recent.getId()).orElseThrow();
+        assertEquals(Rental.Status.ACTIVE, stored.getStoredStatus());
+        assertTrue(stored.isExpired(clock));
+    }
+
+    private Rental rental(Long readerId, Long episodeId, LocalDateTime expiresAt) {
+        Rental rental = new Rental(null, readerId, episodeId, 50, expiresAt.minusMinutes(10), expiresAt, clock);
+        return rentalRepository.save(rental);
+    }
+}
@@ -0,0 +1,169 @@
+package com.webtoon.service;
+
+import com.webtoon.common.repository.InMemoryPurchaseRepository;
+import com.webtoon.domain.Purchase;
+import com.webtoon.domain.Rental;
+import com.webtoon.repository.EntitlementIndex;
+import com.webtoon.repository.RentalRepository;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RentalExpiryScheduler 테스트
+ * - 만료 시각에 묶음으로 EXPIRED가 저장되고, 권한 색인/리스너에 반영되는지 검증
+ */
+class RentalExpirySchedulerTest {
+
+    private static final Instant START = Instant.parse("2025-01-10T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock();
+
+    private RentalRepository rentalRepository;
+    private InMemoryPurchaseRepository purchaseRepository;
+    private EntitlementIndex entitlementIndex;
+    private RentalExpiryScheduler scheduler;
+    private final List<Long> warned = new ArrayList<>();
+    private final List<Integer> expiredBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        deleteTestDataFiles();
+        rentalRepository = new RentalRepository();
+        purchaseRepository = new InMemoryPurchaseRepository();
+        entitlementIndex = new EntitlementIndex(rentalRepository, purchaseRepository);
+        scheduler = new RentalExpiryScheduler(rentalRepository, entitlementIndex, clock, Duration.ofMinutes(1));
+        scheduler.addListener(new RentalExpiryListener() {
+            @Override
+            public void onExpiringSoon(Rental rental, Duration remaining) {
+                warned.add(rental.getEpisodeId());
+            }
+
+            @Override
+            public void onExpired(List<Rental> rentals) {
+                expiredBatches.add(rentals.size());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+        deleteTestDataFiles();
+    }
+
+    private void deleteTestDataFiles() {
+        String[] files = {"rentals.json", "rentals.journal", "rentals.seq", "rentals.archive"};
+        for (String file : files) {
+            File f = new File("src/main/resources/data/" + file);
+            if (f.exists()) {
+                f.delete();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("같은 시각에 만료되는 대여는 한 번에 EXPIRED로 저장되고 색인에서 빠짐")
+    void expiresInBatchAtExpiresAt() {
+        // Given: 10분 대여 3건 (그중 하나는 구매로 전환), 20분 대여 1건
+        LocalDateTime now = LocalDateTime.now(clock);
+        Rental first = rent(1L, now, 10);
+        Rental second = rent(2L, now, 10);
+        Rental purchased = rent(3L, now, 10);
+        Rental longer = rent(4L, now, 20);
+        purchaseRepository.save(new Purchase(null, 1L, 3L, 100, now));
+        assertTrue(entitlementIndex.canAccess(1L, 1L, now));
+
+        // When: 9분 → 만료 임박 이벤트만 (구매한 회차 제외)
+        clock.advance(Duration.ofMinutes(9));
+        assertEquals(0, scheduler.expireDue());
+        assertEquals(List.of(1L, 2L), warned);
+
+        // When: 10분이 지난 다음 틱 → 3건 만료
+        clock.advance(Duration.ofSeconds(61));
+        assertEquals(3, scheduler.expireDue());
+
+        // Then: 저장된 상태가 EXPIRED (다시 읽어도 유지)
+        RentalRepository reloaded = new RentalRepository();
+        assertEquals(Rental.Status.EXPIRED, reloaded.findById(first.getId()).orElseThrow().getStoredStatus());
+        assertEquals(Rental.Status.EXPIRED, reloaded.findById(second.getId()).orElseThrow().getStoredStatus());
+        assertEquals(Rental.Status.ACTIVE, reloaded.findById(longer.getId()).orElseThrow().getStoredStatus());
+        assertEquals(List.of(3), expiredBatches);
+
+        // 색인: 만료된 대여는 빠지고 구매/남은 대여는 유지 (이전 시각으로 물어도 만료로 처리됨)
+        assertFalse(entitlementIndex.hasActiveRental(1L, 1L, now));
+        assertTrue(entitlementIndex.canAccess(1L, 3L, LocalDateTime.now(clock)));
+        assertTrue(entitlementIndex.canAccess(1L, 4L, LocalDateTime.now(clock)));
+        assertEquals(2, scheduler.pendingCount()); // 20분 대여의 임박 + 만료 타이머
+        assertNotNull(purchased.getId());
+    }
+
+    @Test
+    @DisplayName("시작 시 저장된 ACTIVE 대여를 예약하고, 꺼져 있는 동안 지난 대여는 바로 만료")
+    void startSchedulesStoredRentals() {
+        // Given: 이미 만료 시각이 지난 대여와 진행 중인 대여가 ACTIVE로 저장됨
+        LocalDateTime now = LocalDateTime.now(clock);
+        Rental stale = rentalRepository.save(
+                new Rental(null, 1L, 1L, 50, now.minusMinutes(30), now.minusMinutes(20), Clock.offset(clock, Duration.ofHours(-1))));
+        Rental active = rentalRepository.save(
+                new Rental(null, 1L, 2L, 50, now, now.plusMinutes(10), clock));
+        assertEquals(Rental.Status.ACTIVE, stale.getStoredStatus());
+
+        // When
+        int expiredOnStart = scheduler.start();
+
+        // Then
+        assertEquals(1, expiredOnStart);
+        assertEquals(Rental.Status.EXPIRED, new RentalRepository().findById(stale.getId()).orElseThrow().getStoredStatus());
+        clock.advance(Duration.ofMinutes(10));
+        assertEquals(0, scheduler.expireDue()); // 만료 시각과 같은 순간은 아직 유효
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(1, scheduler.expireDue());
+        assertEquals(Rental.Status.EXPIRED, new RentalRepository().findById(active.getId()).orElseThrow().getStoredStatus());
+        assertEquals(0, scheduler.start());
+    }
+
+    private Rental rent(Long episodeId, LocalDateTime now, int minutes) {
+        Rental rental = rentalRepository.save(
+                new Rental(null, 1L, episodeId, 50, now, now.plusMinutes(minutes), clock));
+        entitlementIndex.onRented(rental);
+        scheduler.schedule(rental);
+        return rental;
+    }
+
+    /**
+     * 테스트에서 시각을 앞으로 옮길 수 있는 Clock
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = START;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
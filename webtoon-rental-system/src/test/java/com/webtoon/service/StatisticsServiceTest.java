@@ -212,6 +212,42 @@ class StatisticsServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("통계가 없는 웹툰만 회차 조회수로 다시 계산하고, 있는 통계는 그대로 둔다")
+    void rebuildMissing_recomputesFromEpisodes() {
+        // given
+        StatisticsRepository statsRepo = new InMemoryStatisticsRepository();
+        WebtoonRepository webtoonRepo = new InMemoryWebtoonRepository();
+        EpisodeRepository episodeRepo = new InMemoryEpisodeRepository();
+        StatisticsService service = new StatisticsService(statsRepo, webtoonRepo);
+
+        webtoonRepo.save(new Webtoon(1L, "웹툰A", 1L, Arrays.asList("판타지"), "ONGOING", "요약A"));
+        webtoonRepo.save(new Webtoon(2L, "웹툰B", 1L, Arrays.asList("로맨스"), "ONGOING", "요약B"));
+        webtoonRepo.save(new Webtoon(3L, "웹툰C", 1L, Arrays.asList("액션"), "ONGOING", "요약C"));
+
+        // 웹툰A: 회차 2개, 조회수 3 + 4
+        episodeRepo.save(episodeWithViews(1L, 1, 3));
+        episodeRepo.save(episodeWithViews(1L, 2, 4));
+        // 웹툰B: 회차 1개, 조회수 10 (이미 저장된 통계가 있음)
+        episodeRepo.save(episodeWithViews(2L, 1, 10));
+        statsRepo.save(new Statistics(2L, 1, 12L));
+        // 웹툰C: 회차 없음
+
+        // when
+        int rebuilt = service.rebuildMissing(episodeRepo);
+
+        // then
+        assertEquals(2, rebuilt);
+        assertEquals(2, service.getEpisodeCount(1L));
+        assertEquals(7L, service.getTotalViews(1L));
+        assertEquals(12L, service.getTotalViews(2L), "이미 있는 통계는 다시 계산하지 않음");
+        assertEquals(0, service.getEpisodeCount(3L));
+        assertTrue(statsRepo.findByWebtoonId(3L).isPresent());
+
+        // 다시 호출하면 계산할 웹툰이 없음
+        assertEquals(0, service.rebuildMissing(episodeRepo));
+    }
+
     @Test
     @DisplayName("회차 단위 통계 조회 - Episode 객체에서 조회수 반환")
     void getEpisodeStats_returnsViewCount() {
@@ -245,6 +281,14 @@ class StatisticsServiceTest {
         assertEquals(3, stats.getViewCount());
     }
 
+    private Episode episodeWithViews(Long webtoonId, int number, int views) {
+        Episode episode = new Episode(null, webtoonId, number, number + "화", "내용", 50, 100);
+        for (int i = 0; i < views; i++) {
+            episode.incrementViewCount();
+        }
+        return episode;
+    }
+
     @Test
     @DisplayName("회차 통계 조회 시 null Episode는 예외 발생")
     void getEpisodeStats_nullEpisode() {